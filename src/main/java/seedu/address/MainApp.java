@@ -2,7 +2,14 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -11,8 +18,10 @@ import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
@@ -26,17 +35,25 @@ import seedu.address.model.ReadOnlyAccountList;
 import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TaskBook;
+import seedu.address.model.TaskBookArchive;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.ReminderScheduler;
 import seedu.address.model.util.SampleAccountDataUtil;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AccountListStorage;
+import seedu.address.storage.BinaryTaskBookStorage;
+import seedu.address.storage.CachedTaskBookStorage;
+import seedu.address.storage.JournaledTaskBookStorage;
 import seedu.address.storage.JsonAccountListStorage;
-import seedu.address.storage.JsonTaskBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedTaskBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TaskArchive;
+import seedu.address.storage.TaskBookFormatConverter;
 import seedu.address.storage.TaskBookStorage;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindTaskBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -58,42 +75,112 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ReminderScheduler reminderScheduler;
+    protected WriteBehindTaskBookStorage taskBookWriter;
+    /** The task book and account list being read from storage, shown once both are read. */
+    protected CompletableFuture<ReadOnlyTaskBook> taskBookLoad;
+    protected CompletableFuture<ReadOnlyAccountList> accountListLoad;
+    /** The archive of the task book being opened, empty if it cannot be read. */
+    protected CompletableFuture<Optional<TaskBookArchive>> taskArchiveLoad;
 
+    private long initStartTime;
+
+    /**
+     * Initializes the app in stages. The prefs are read first, as everything else depends on them. The task book,
+     * the account list and the resources of the UI are then loaded in parallel, and only the UI resources are waited
+     * for: the window is shown empty and the data is filled in by {@link #loadData} once it has been read.
+     */
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Tasketch ]===========================");
         super.init();
+        initStartTime = System.nanoTime();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = timePhase("config", () -> initConfig(appParameters.getConfigPath()));
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TaskBookStorage taskBookStorage = new JsonTaskBookStorage(userPrefs.getTaskBookFilePath());
+        UserPrefs userPrefs = timePhase("prefs", () -> initPrefs(userPrefsStorage));
+        taskBookWriter = new WriteBehindTaskBookStorage(new CachedTaskBookStorage(initTaskBookStorage(userPrefs)),
+                config.getSaveDebounceMillis());
         AccountListStorage accountListStorage = new JsonAccountListStorage(userPrefs.getAccountListFilePath());
-        storage = new StorageManager(taskBookStorage, userPrefsStorage, accountListStorage);
+        storage = new StorageManager(taskBookWriter, userPrefsStorage, accountListStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        taskBookLoad = CompletableFuture.supplyAsync(() -> timePhase("task book", () -> readTaskBook(storage)));
+        accountListLoad = CompletableFuture.supplyAsync(() ->
+                timePhase("account list", () -> readAccountList(storage)));
+        taskArchiveLoad = CompletableFuture.supplyAsync(() ->
+                timePhase("archive", () -> openTaskArchive(userPrefs.getTaskBookFilePath())));
+
+        model = new ModelManager(new TaskBook(), userPrefs, new AccountList());
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
+        CompletableFuture<Void> uiPreparation = CompletableFuture.runAsync(() ->
+                timePhase("UI resources", ui::prepare));
+
+        reminderScheduler = new ReminderScheduler(model.getTaskBook().getTaskList(), Clock.systemDefaultZone(),
+                reminders -> Platform.runLater(() -> ui.showReminders(reminders)));
+
+        EventsCenter.getInstance().registerHandler(this);
+
+        uiPreparation.join();
+        logger.info("Initialized in " + getMillisSinceInit() + " ms");
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the result of {@code phase}, logging how long it took so that a slower startup can be traced to the
+     * phase that got slower.
+     */
+    private static <T> T timePhase(String phaseName, Supplier<T> phase) {
+        long startTime = System.nanoTime();
+        T result = phase.get();
+        logger.info("Startup phase " + phaseName + " took "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+        return result;
+    }
+
+    private static void timePhase(String phaseName, Runnable phase) {
+        timePhase(phaseName, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    private long getMillisSinceInit() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartTime);
+    }
+
+    /**
+     * Returns the storage for the task book in the format chosen in {@code userPrefs}.
+     * If the task book was saved in another format after it was last saved in the chosen one, or is only found in
+     * another format, it is converted into the chosen one, so that switching formats keeps the data.
+     */
+    private TaskBookStorage initTaskBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getTaskBookFilePath();
+        Map<UserPrefs.TaskBookFormat, TaskBookStorage> storages = new EnumMap<>(UserPrefs.TaskBookFormat.class);
+        storages.put(UserPrefs.TaskBookFormat.JSON, new JournaledTaskBookStorage(jsonFilePath));
+        storages.put(UserPrefs.TaskBookFormat.BINARY,
+                new BinaryTaskBookStorage(BinaryTaskBookStorage.getBinaryFilePath(jsonFilePath)));
+        storages.put(UserPrefs.TaskBookFormat.SEGMENTED,
+                new SegmentedTaskBookStorage(SegmentedTaskBookStorage.getManifestPath(jsonFilePath)));
+        TaskBookStorage chosenStorage = storages.remove(userPrefs.getTaskBookFormat());
+        TaskBookFormatConverter.convertIfNewer(chosenStorage, new ArrayList<>(storages.values()));
+        return chosenStorage;
+    }
+
+    /**
+     * Returns the task book read from {@code storage}. <br>
      * The data from the sample task book will be used instead if {@code storage}'s task book is not found,
      * or an empty task book will be used instead if errors occur when reading {@code storage}'s task book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private static ReadOnlyTaskBook readTaskBook(Storage storage) {
         Optional<ReadOnlyTaskBook> taskBookOptional;
         ReadOnlyTaskBook initialData;
 
-        Optional<ReadOnlyAccountList> accountListOptional;
-        ReadOnlyAccountList initialAccountData;
-
         try {
             taskBookOptional = storage.readTaskBook();
             if (!taskBookOptional.isPresent()) {
@@ -107,6 +194,17 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty Tasketch");
             initialData = new TaskBook();
         }
+        return initialData;
+    }
+
+    /**
+     * Returns the account list read from {@code storage}. <br>
+     * The sample account list will be used instead if {@code storage}'s account list is not found,
+     * or an empty account list will be used instead if errors occur when reading {@code storage}'s account list.
+     */
+    private static ReadOnlyAccountList readAccountList(Storage storage) {
+        Optional<ReadOnlyAccountList> accountListOptional;
+        ReadOnlyAccountList initialAccountData;
 
         try {
             accountListOptional = storage.readAccountList();
@@ -121,8 +219,32 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty account database");
             initialAccountData = new AccountList();
         }
+        return initialAccountData;
+    }
+
+    /**
+     * Returns the archive kept with the task book at {@code taskBookFilePath}, or an empty {@code Optional} if it
+     * cannot be read. The archive operations then fail, but the task book can still be used.
+     */
+    static Optional<TaskBookArchive> openTaskArchive(Path taskBookFilePath) {
+        try {
+            return Optional.of(TaskArchive.open(TaskArchive.getArchivePath(taskBookFilePath)));
+        } catch (IOException e) {
+            logger.warning("Problem while reading the archive. Archived tasks will not be available: "
+                    + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
 
-        return new ModelManager(initialData, userPrefs, initialAccountData);
+    /**
+     * Fills the model with {@code taskBook} and {@code accountList} read from storage. The UI shows the data as it
+     * is filled in.
+     */
+    protected void loadData(ReadOnlyTaskBook taskBook, ReadOnlyAccountList accountList) {
+        model.loadData(taskBook, accountList);
+        // the archive is set after the task book, so that the ids of the loaded tasks stay theirs
+        taskArchiveLoad.join().ifPresent(model::setTaskArchive);
+        logger.info("Data loaded " + getMillisSinceInit() + " ms after startup");
     }
 
     private void initLogging(Config config) {
@@ -201,11 +323,21 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Tasketch " + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info("Window shown " + getMillisSinceInit() + " ms after startup");
+        reminderScheduler.start();
+        taskBookLoad.thenAcceptBoth(accountListLoad, (taskBook, accountList) ->
+                Platform.runLater(() -> loadData(taskBook, accountList)))
+                .exceptionally(e -> {
+                    logger.severe("Failed to load the data " + StringUtil.getDetails(e));
+                    return null;
+                });
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Tasketch ] =============================");
+        reminderScheduler.stop();
+        taskBookWriter.close();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -220,6 +352,12 @@ public class MainApp extends Application {
         stop();
     }
 
+    @Subscribe
+    public void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
+        logger.warning(LogsCenter.getEventHandlingLogMessage(event));
+        Platform.runLater(() -> ui.showSaveFailure(event.exception));
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,100 @@
+package seedu.address.commons.util;
+
+import java.time.LocalDate;
+
+/**
+ * Helper functions for packing the date and time strings used by the task book into primitives.
+ * Dates are {@code dd-MM-yy} strings in the years 2000 to 2099, times are {@code HH.mm} strings.
+ * The packing happens once, when a date or time value is constructed, so that comparing and
+ * filtering never has to look at the strings again.
+ */
+public class DateUtil {
+
+    public static final String DURATION_VALIDATION_REGEX = "\\d{1,7}" + "\\." + "\\d+";
+
+    private static final int BASE_YEAR = 2000;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
+    /**
+     * Returns the number of days from 1970-01-01 to the {@code dd-MM-yy} {@code date}.
+     * Days past the end of their month roll over into the next month, so {@code 31-02-19} is 3rd March 2019.
+     * {@code date} must have passed the format validation of the date classes.
+     */
+    public static int toEpochDay(String date) {
+        int day = twoDigits(date, 0);
+        int month = twoDigits(date, 3);
+        int year = BASE_YEAR + twoDigits(date, 6);
+        return (int) LocalDate.of(year, month, 1).toEpochDay() + day - 1;
+    }
+
+    /**
+     * Returns the {@code dd-MM-yy} date of the last day that can be written in the {@code MM-yy} month
+     * {@code monthYear}. Dates past the end of a month roll over, so this date can fall in the next month.
+     */
+    public static String lastDateWrittenIn(String monthYear) {
+        return "31-" + monthYear;
+    }
+
+    /**
+     * Returns the number of months from January 1970 to the month of {@code epochDay}.
+     */
+    public static int toEpochMonth(int epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return (date.getYear() - 1970) * 12 + date.getMonthValue() - 1;
+    }
+
+    /**
+     * Returns the number of months from January 1970 to the {@code MM-yy} month {@code monthYear}.
+     */
+    public static int toEpochMonth(String monthYear) {
+        return (BASE_YEAR + twoDigits(monthYear, 3) - 1970) * 12 + twoDigits(monthYear, 0) - 1;
+    }
+
+    /**
+     * Returns the {@code LocalDate} of {@code epochDay}.
+     */
+    public static LocalDate toLocalDate(int epochDay) {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the number of minutes from midnight to the {@code HH.mm} {@code time}.
+     * {@code time} must have passed the format validation of the time classes.
+     */
+    public static short toMinuteOfDay(String time) {
+        return (short) (twoDigits(time, 0) * 60 + twoDigits(time, 3));
+    }
+
+    /**
+     * Returns the number of minutes from midnight of 1970-01-01 to {@code minuteOfDay} on {@code epochDay}.
+     */
+    public static long toEpochMinute(int epochDay, int minuteOfDay) {
+        return (long) epochDay * MINUTES_PER_DAY + minuteOfDay;
+    }
+
+    /**
+     * Returns {@code minutes} as an {@code H.MM} string of whole hours and the remaining minutes, e.g. {@code 1.05}.
+     */
+    public static String formatDuration(int minutes) {
+        int mins = Math.abs(minutes) % MINUTES_PER_HOUR;
+        return (minutes < 0 ? "-" : "") + Math.abs(minutes) / MINUTES_PER_HOUR + (mins < 10 ? ".0" : ".") + mins;
+    }
+
+    /**
+     * Returns the number of minutes in the {@code H.MM} {@code duration}.
+     * Digits past the second after the point are rounded away, and minutes of 60 or more carry into the hours,
+     * so totals written by older versions as sums of such values are still read.
+     * {@code duration} must match {@link #DURATION_VALIDATION_REGEX}.
+     */
+    public static int parseDuration(String duration) {
+        int point = duration.indexOf('.');
+        int hours = Integer.parseInt(duration.substring(0, point));
+        int mins = (int) Math.round(Double.parseDouble("0" + duration.substring(point)) * 100);
+        return hours * MINUTES_PER_HOUR + mins;
+    }
+
+    private static int twoDigits(String str, int from) {
+        return (str.charAt(from) - '0') * 10 + (str.charAt(from + 1) - '0');
+    }
+}
@@ -6,7 +6,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Helper functions for handling strings.
@@ -39,6 +41,109 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the edit distance between {@code first} and {@code second} if it is at most {@code maxDistance},
+     * and {@code maxDistance + 1} otherwise.
+     * The edit distance is the least number of characters to insert, delete or substitute to turn one string into
+     * the other. Strings of up to 64 characters are compared 64 characters at a time (Myers' bit-parallel
+     * algorithm), and the comparison stops as soon as the distance is known to exceed {@code maxDistance}.
+     */
+    public static int editDistanceWithin(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        String pattern = first.length() <= second.length() ? first : second;
+        String text = pattern == first ? second : first;
+        if (text.length() - pattern.length() > maxDistance) {
+            return maxDistance + 1;
+        }
+        if (pattern.isEmpty()) {
+            return text.length();
+        }
+        if (pattern.length() > Long.SIZE) {
+            return bandedEditDistanceWithin(pattern, text, maxDistance);
+        }
+
+        // bit i of the mask of a character is set if pattern position i holds that character
+        long[] asciiMasks = new long[128];
+        Map<Character, Long> otherMasks = new HashMap<>();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c < asciiMasks.length) {
+                asciiMasks[c] |= 1L << i;
+            } else {
+                otherMasks.merge(c, 1L << i, (x, y) -> x | y);
+            }
+        }
+
+        // vertical differences between adjacent cells of the current column of the distance matrix, as bits
+        long positive = -1L;
+        long negative = 0L;
+        long last = 1L << (pattern.length() - 1);
+        int distance = pattern.length();
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            long matches = c < asciiMasks.length ? asciiMasks[c] : otherMasks.getOrDefault(c, 0L);
+            long xv = matches | negative;
+            long xh = (((matches & positive) + positive) ^ positive) | matches;
+            long horizontalPositive = negative | ~(xh | positive);
+            long horizontalNegative = positive & xh;
+            if ((horizontalPositive & last) != 0) {
+                distance++;
+            } else if ((horizontalNegative & last) != 0) {
+                distance--;
+            }
+            // the distance can fall by at most one for each character of the text left
+            if (distance - (text.length() - j - 1) > maxDistance) {
+                return maxDistance + 1;
+            }
+            horizontalPositive = (horizontalPositive << 1) | 1;
+            horizontalNegative = horizontalNegative << 1;
+            positive = horizontalNegative | ~(xv | horizontalPositive);
+            negative = horizontalPositive & xv;
+        }
+        return Math.min(distance, maxDistance + 1);
+    }
+
+    /**
+     * Returns the edit distance between {@code pattern} and the longer {@code text} if it is at most
+     * {@code maxDistance}, and {@code maxDistance + 1} otherwise, keeping only two rows of the distance matrix.
+     * Only the cells within {@code maxDistance} of the diagonal are computed, as any path through a cell further off
+     * costs more than {@code maxDistance}; the cells just outside the band are taken to be {@code maxDistance + 1}.
+     * The length of {@code text} must exceed that of {@code pattern} by at most {@code maxDistance}.
+     */
+    private static int bandedEditDistanceWithin(String pattern, String text, int maxDistance) {
+        int bound = maxDistance + 1;
+        int[] previous = new int[text.length() + 1];
+        int[] current = new int[text.length() + 1];
+        for (int j = 0; j <= text.length(); j++) {
+            previous[j] = Math.min(j, bound);
+        }
+        for (int i = 1; i <= pattern.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(text.length(), i + maxDistance);
+            current[0] = Math.min(i, bound);
+            if (from > 1) {
+                current[from - 1] = bound;
+            }
+            int rowMinimum = current[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (pattern.charAt(i - 1) == text.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(bound, Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1));
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < text.length()) {
+                current[to + 1] = bound;
+            }
+            if (rowMinimum >= bound) {
+                return bound;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[text.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -79,6 +80,11 @@ public class LogicManager implements Logic {
         return model.getFilteredTaskList();
     }
 
+    @Override
+    public List<Task> getFilteredTasksStartingBetween(int fromEpochDay, int toEpochDay) {
+        return model.getFilteredTasksStartingBetween(fromEpochDay, toEpochDay);
+    }
+
     @Override
     public ObservableList<Task> getRemindTaskList() {
         return model.getRemindTaskList();
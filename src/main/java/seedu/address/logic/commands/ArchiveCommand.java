@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ArchivedTaskBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.day.Date;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdBitmap;
+
+/**
+ * Moves the tasks that ended before a date out of the task book into the archive.
+ * Archived tasks are no longer shown, but {@code list}, {@code find} and {@code showtime} still look them up when
+ * given {@link seedu.address.logic.parser.CliSyntax#FLAG_ALL}.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Moves the tasks which ended before DATE into the "
+            + "archive, where list, find and showtime still look them up when given --all. "
+            + "Archiving cannot be undone.\n"
+            + "Parameters: before DATE\n"
+            + "Example: " + COMMAND_WORD + " before 01-01-19";
+    public static final String MESSAGE_SUCCESS = "Archived %1$d tasks which ended before %2$s";
+    public static final String MESSAGE_FAILURE = "Archive failed!";
+    public static final String MESSAGE_READ_FAILURE = "The archive could not be read!";
+    public static final String MESSAGE_ARCHIVED_TASKS = "\n%1$d archived tasks:";
+    public static final String MESSAGE_MORE_ARCHIVED_TASKS = "\n... and %1$d more";
+    public static final String MESSAGE_LOGIN = "Please login first";
+
+    /** The number of archived tasks listed in the result of a command, beyond which they are only counted. */
+    public static final int ARCHIVED_TASKS_SHOWN = 20;
+
+    private final Date date;
+
+    public ArchiveCommand(Date date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!model.getLoginStatus()) {
+            throw new CommandException(MESSAGE_LOGIN);
+        }
+
+        try {
+            int count = model.archiveTasksEndingBefore(date.getEpochDay());
+            return new CommandResult(String.format(MESSAGE_SUCCESS, count, date));
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_FAILURE, e);
+        }
+    }
+
+    /**
+     * Returns the archived tasks whose start date is written in the {@code MM-yy} month {@code monthYear}.
+     * Only the archived tasks starting on the days such dates can fall on are read from the archive.
+     */
+    static ReadOnlyTaskBook getArchivedTasksStartingIn(Model model, String monthYear) throws IOException {
+        ReadOnlyTaskBook candidates = model.getArchivedTasksStartingBetween(DateUtil.toEpochDay("01-" + monthYear),
+                DateUtil.toEpochDay(DateUtil.lastDateWrittenIn(monthYear)));
+        TaskIdBitmap inMonth = candidates.getTaskIdsStartingInMonth(DateUtil.toEpochMonth(monthYear));
+        return new ArchivedTaskBook(candidates.getTaskList().filtered(task -> inMonth.contains(task.getId())));
+    }
+
+    /**
+     * Returns the lines listing {@code archivedTasks}, to follow the result of a command that also looked up the
+     * archive. At most {@link #ARCHIVED_TASKS_SHOWN} of the tasks are listed.
+     */
+    static String describeArchivedTasks(List<Task> archivedTasks) {
+        StringBuilder description = new StringBuilder(String.format(MESSAGE_ARCHIVED_TASKS, archivedTasks.size()));
+        for (Task task : archivedTasks.subList(0, Math.min(archivedTasks.size(), ARCHIVED_TASKS_SHOWN))) {
+            description.append("\n").append(task.getName()).append(" (")
+                    .append(task.getStartDate()).append(" ").append(task.getStartTime()).append(" - ")
+                    .append(task.getEndDate()).append(" ").append(task.getEndTime()).append(")");
+        }
+        if (archivedTasks.size() > ARCHIVED_TASKS_SHOWN) {
+            description.append(String.format(MESSAGE_MORE_ARCHIVED_TASKS,
+                    archivedTasks.size() - ARCHIVED_TASKS_SHOWN));
+        }
+        return description.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ArchiveCommand // instanceof handles nulls
+                && date.equals(((ArchiveCommand) other).date)); // state check
+    }
+}
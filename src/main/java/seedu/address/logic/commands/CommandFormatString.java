@@ -31,6 +31,7 @@ public class CommandFormatString {
             + PREFIX_ENDTIME + "hh.mm  "
             + PREFIX_DESCRIPTION + "content  ";
     public static final String FIND_COMMAND_FORMATSTRING = "Keyword";
+    public static final String SEARCH_COMMAND_FORMATSTRING = "Keyword";
     public static final String DELETE_COMMAND_FORMATSTRING = "Index";
     public static final String CLEAR_COMMAND_FORMATSTRING = "dd-mm-yy";
     public static final String EXPORT_COMMAND_FORMATSTRING = "filename.json";
@@ -47,4 +48,5 @@ public class CommandFormatString {
     public static final String LOGIN_COMMAND_FORMATSTRING = PREFIX_USERNAME + "Username "
             + PREFIX_PASSWORD + "Password";
     public static final String TIMELINE_COMMAND_FORMATSTRING = "dd-mm-yy";
+    public static final String ARCHIVE_COMMAND_FORMATSTRING = "before dd-mm-yy";
 }
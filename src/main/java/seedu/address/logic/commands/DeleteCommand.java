@@ -2,9 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
-import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -21,19 +18,25 @@ public class DeleteCommand extends Command {
     public static final String COMMAND_ALIAS = "d";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the task identified by the index number used in the displayed task list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
-    public static final String COMMAND_PARAMETERS = "Parameters: INDEX (must be a positive integer)\n";
+            + ": Deletes the task identified by the index number used in the displayed task list, "
+            + "or by its task ID.\n"
+            + "Parameters: INDEX (must be a positive integer) or #ID\n"
+            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " #12";
+    public static final String COMMAND_PARAMETERS = "Parameters: INDEX (must be a positive integer) or #ID\n";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Task: %1$s";
 
     public static final String MESSAGE_LOGIN = "Please login first";
 
-    private final Index targetIndex;
+    private final TaskTarget target;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(TaskTarget.byIndex(targetIndex));
+    }
+
+    public DeleteCommand(TaskTarget target) {
+        requireNonNull(target);
+        this.target = target;
     }
 
     @Override
@@ -44,13 +47,7 @@ public class DeleteCommand extends Command {
             throw new CommandException(MESSAGE_LOGIN);
         }
 
-        List<Task> lastShownList = model.getFilteredTaskList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-        }
-
-        Task personToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Task personToDelete = target.resolve(model);
         model.deleteTask(personToDelete);
         model.commitTaskBook();
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
@@ -60,7 +57,7 @@ public class DeleteCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCommand) other).targetIndex)); // state check
+                && target.equals(((DeleteCommand) other).target)); // state check
     }
 
 }
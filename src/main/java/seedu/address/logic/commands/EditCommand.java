@@ -17,11 +17,9 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.CommandHistory;
@@ -51,9 +49,9 @@ public class EditCommand extends Command {
     public static final String COMMAND_WORD = "edit";
     public static final String COMMAND_ALIAS = "e";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the task identified "
-            + "by the index number used in the displayed task list. "
+            + "by the index number used in the displayed task list, or by its task ID. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or #ID "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_DESCRIPTION + "DECRIPTION] "
             + "[" + PREFIX_STARTDATE + "STRATDATE] "
@@ -64,7 +62,7 @@ public class EditCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_NAME + "Study "
             + PREFIX_DESCRIPTION + "Study for the whole day";
-    public static final String COMMAND_PARAMETERS = "Parameters: INDEX (must be a positive integer) "
+    public static final String COMMAND_PARAMETERS = "Parameters: INDEX (must be a positive integer) or #ID "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_DESCRIPTION + "DECRIPTION] "
             + "[" + PREFIX_STARTDATE + "STRATDATE] "
@@ -80,7 +78,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_DAILYTIME_CONSTRAINTS =
             "Editing daily task, Start Time must be before End Time!";
 
-    private final Index index;
+    private final TaskTarget target;
     private final EditTaskDescriptor editTaskDescriptor;
 
     /**
@@ -89,10 +87,18 @@ public class EditCommand extends Command {
       */
 
     public EditCommand(Index index, EditTaskDescriptor editTaskDescriptor) {
-        requireNonNull(index);
+        this(TaskTarget.byIndex(index), editTaskDescriptor);
+    }
+
+    /**
+      * @param target the Task to edit
+      * @param editTaskDescriptor details to edit the person with
+      */
+    public EditCommand(TaskTarget target, EditTaskDescriptor editTaskDescriptor) {
+        requireNonNull(target);
         requireNonNull(editTaskDescriptor);
 
-        this.index = index;
+        this.target = target;
         this.editTaskDescriptor = new EditTaskDescriptor(editTaskDescriptor);
     }
 
@@ -104,13 +110,7 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_LOGIN);
         }
 
-        List<Task> lastShownList = model.getFilteredTaskList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-        }
-
-        Task taskToEdit = lastShownList.get(index.getZeroBased());
+        Task taskToEdit = target.resolve(model);
         Task editedTask = createEditedTask(taskToEdit, editTaskDescriptor);
 
         boolean isValidDate;
@@ -162,7 +162,7 @@ public class EditCommand extends Command {
 
         System.out.println(editTaskDescriptor.getName());
         return new Task(updatedName, updatedStartDate, updatedStartTime, updatedEndDate, updatedEndTime,
-                updatedDescription, updatedCategories, updatedTags);
+                updatedDescription, updatedCategories, updatedTags, personToEdit.getId());
     }
 
     @Override
@@ -179,7 +179,7 @@ public class EditCommand extends Command {
 
         // state check
         EditCommand e = (EditCommand) other;
-        return index.equals(e.index)
+        return target.equals(e.target)
                 && editTaskDescriptor.equals(e.editTaskDescriptor);
     }
 
@@ -10,6 +10,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.task.Categories;
 import seedu.address.model.task.Task;
 
 /**
@@ -77,7 +78,8 @@ public class ExportCommand extends Command {
         }
 
         if (!category.equals("not specified category")) {
-            Predicate<Task> predicate = task -> meetRequirement(task);
+            Categories wantedCategory = Categories.of(category);
+            Predicate<Task> predicate = task -> task.getCategories() == wantedCategory;
             model.updateFilteredTaskList(predicate);
         }
         try {
@@ -90,19 +92,6 @@ public class ExportCommand extends Command {
 
         return new CommandResult(String.format(messageExportESuccess, filePath));
     }
-    /**
-     * To check whether the task is belong to that category.
-     */
-    private boolean meetRequirement(Task task) {
-        String cateInTask = task.getCategories().toString();
-        if (cateInTask.equals(category)) {
-            return true;
-        } else {
-            return false;
-        }
-    }
-
-
     @Override
     public boolean equals(Object other) {
         // same object
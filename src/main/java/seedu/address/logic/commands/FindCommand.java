@@ -2,16 +2,21 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+
 import seedu.address.commons.core.Messages;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.task.TaskContainsKeywordsPredicate;
+import seedu.address.model.task.TaskIdBitmap;
 
 /**
  * Finds and lists all tasks in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * The matching tasks are looked up in the word index of the task book rather than by testing every task name.
  */
 public class FindCommand extends Command {
 
@@ -21,7 +26,7 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [--all]\n"
             + "Example: " + COMMAND_WORD + " cs2101 cs2113t";
     public static final String COMMAND_PARAMETERS = "Parameters"
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
@@ -31,9 +36,19 @@ public class FindCommand extends Command {
     public static final String MESSAGE_LOGIN = "Please login first";
 
     private final TaskContainsKeywordsPredicate predicate;
+    private final boolean isIncludingArchive;
 
     public FindCommand(TaskContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand finding the tasks matching {@code predicate}, and also the matching archived tasks if
+     * {@code isIncludingArchive}.
+     */
+    public FindCommand(TaskContainsKeywordsPredicate predicate, boolean isIncludingArchive) {
         this.predicate = predicate;
+        this.isIncludingArchive = isIncludingArchive;
     }
 
     @Override
@@ -42,16 +57,39 @@ public class FindCommand extends Command {
         if (!model.getLoginStatus()) {
             throw new CommandException(MESSAGE_LOGIN);
         }
-        model.updateFilteredTaskList(predicate); // Updates the shown list
-        return new CommandResult(
-                String.format(Messages.MESSAGE_TASK_LISTED_OVERVIEW, model.getFilteredTaskList().size()));
+        model.updateFilteredTaskListToQuery(this::getMatchingIds); // Updates the shown list
+        String feedback = String.format(Messages.MESSAGE_TASK_LISTED_OVERVIEW, model.getFilteredTaskList().size());
+        if (!isIncludingArchive) {
+            return new CommandResult(feedback);
+        }
+
+        try {
+            ReadOnlyTaskBook archived = model.getArchivedTasks();
+            TaskIdBitmap archivedMatching = getMatchingIds(archived);
+            return new CommandResult(feedback + ArchiveCommand.describeArchivedTasks(
+                    archived.getTaskList().filtered(task -> archivedMatching.contains(task.getId()))));
+        } catch (IOException e) {
+            throw new CommandException(ArchiveCommand.MESSAGE_READ_FAILURE, e);
+        }
+    }
+
+    /**
+     * Returns the ids of the tasks of {@code taskBook} whose name contains any of the keywords.
+     */
+    private TaskIdBitmap getMatchingIds(ReadOnlyTaskBook taskBook) {
+        TaskIdBitmap matching = new TaskIdBitmap();
+        for (String keyword : predicate.getKeywords()) {
+            matching = matching.or(taskBook.getTaskIdsWithNameWord(keyword));
+        }
+        return matching;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate) // state check
+                && isIncludingArchive == ((FindCommand) other).isIncludingArchive);
     }
 
 }
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.task.TaskIdBitmap;
+
+/**
+ * Finds and lists all tasks whose name contains a word close to any of the argument keywords, so that a typo in a
+ * keyword still finds the task. Keyword matching is case insensitive.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "fuzzyfind";
+
+    public static final String COMMAND_ALIAS = "ff";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks whose names contain words close to "
+            + "any of the specified keywords (case-insensitive), allowing a typo in keywords of 3 to 5 letters "
+            + "and two typos in longer keywords, and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " lectrue";
+
+    public static final String MESSAGE_LOGIN = "Please login first";
+
+    private final List<String> keywords;
+
+    public FuzzyFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!model.getLoginStatus()) {
+            throw new CommandException(MESSAGE_LOGIN);
+        }
+        model.updateFilteredTaskListToQuery(this::getMatchingIds);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_TASK_LISTED_OVERVIEW, model.getFilteredTaskList().size()));
+    }
+
+    /**
+     * Returns the ids of the tasks of {@code taskBook} whose name contains a word close to any of the keywords.
+     */
+    private TaskIdBitmap getMatchingIds(ReadOnlyTaskBook taskBook) {
+        TaskIdBitmap matching = new TaskIdBitmap();
+        for (String keyword : keywords) {
+            matching = matching.or(taskBook.getTaskIdsWithNameWordNear(keyword, maxTyposIn(keyword)));
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the number of typos tolerated in {@code keyword}.
+     * Short keywords allow fewer, as a typo in them already reaches many unrelated words.
+     */
+    private static int maxTyposIn(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyFindCommand // instanceof handles nulls
+                && keywords.equals(((FuzzyFindCommand) other).keywords)); // state check
+    }
+
+}
@@ -3,14 +3,25 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.function.Predicate;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 
+import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.day.Date;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Categories;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdBitmap;
 
 /**
  * Lists all tasks in the task book to the user.
@@ -26,23 +37,47 @@ public class ListCommand extends Command {
             + "2. td: list td       list all the tasks of today\n"
             + "3. DATE: list 25-03-19    "
             + "list all the tasks which are before/after 25th March, 2019\n"
-            + "4. category: list a/c/e/r/o";
+            + "4. RANGE: list 01-03-19..15-03-19    "
+            + "list all the tasks taking place between 1st and 15th March, 2019\n"
+            + "5. category: list a/c/e/r/o\n"
+            + "6. TAG: list t/exam\n"
+            + "Several criteria can be combined, e.g. list a 03-19 t/exam. "
+            + "Criteria of the same kind match any of them, criteria of different kinds must all match, "
+            + "and a criterion starting with ! must not match.\n"
+            + "Add --all to also list the archived tasks matching the criteria.";
     public static final String MESSAGE_SUCCESS1 = "Listed all tasks";
     public static final String MESSAGE_SUCCESS2 = "Listed all tasks of today.";
     public static final String MESSAGE_SUCCESS3 = "Listed tasks on %1$s";
     public static final String MESSAGE_SUCCESS4 = "Listed all tasks of %1$s category";
+    public static final String MESSAGE_SUCCESS5 = "Listed tasks matching %1$s";
+    public static final String TAG_PREFIX = "t/";
+    public static final String NOT_PREFIX = "!";
     public static final String COMMAND_PARAMETERS = "Parameters:\n"
             + "1. no parameters: list        list all tasks\n"
             + "2. td: list td       list all the tasks of today\n"
             + "3. DATE: list 25-03-19    "
             + "list all the tasks which are before/after 25th March, 2019\n"
-            + "4. category: list a      list all tasks of academic category";
+            + "4. RANGE: list 01-03-19..15-03-19    "
+            + "list all the tasks taking place between 1st and 15th March, 2019\n"
+            + "5. category: list a      list all tasks of academic category\n"
+            + "6. TAG: list t/exam      list all tasks tagged exam\n"
+            + "Criteria can be combined: list a 03-19 !t/exam";
     private String[] arguments;
     private String specifiedDate;
-    private String specifiedCategory;
+    private Categories specifiedCategory;
+    private final boolean isIncludingArchive;
 
     public ListCommand(String[] arguments) {
+        this(arguments, false);
+    }
+
+    /**
+     * Creates a ListCommand listing the tasks matching {@code arguments}, and also the matching archived tasks if
+     * {@code isIncludingArchive}.
+     */
+    public ListCommand(String[] arguments, boolean isIncludingArchive) {
         this.arguments = arguments;
+        this.isIncludingArchive = isIncludingArchive;
     }
 
     @Override
@@ -53,116 +88,202 @@ public class ListCommand extends Command {
             throw new CommandException(MESSAGE_LOGIN);
         }
 
+        CommandResult result = listTasks(model);
+        if (!isIncludingArchive) {
+            return result;
+        }
+        try {
+            return new CommandResult(result.getFeedbackToUser()
+                    + ArchiveCommand.describeArchivedTasks(getArchivedTasksMatching(model)));
+        } catch (IOException e) {
+            throw new CommandException(ArchiveCommand.MESSAGE_READ_FAILURE, e);
+        }
+    }
+
+    /**
+     * Shows the tasks of the task book matching {@code arguments}, and returns the result to show the user.
+     */
+    private CommandResult listTasks(Model model) {
         if (arguments[0].equals("")) {
 
             model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
             return new CommandResult(MESSAGE_SUCCESS1);
+        } else if (arguments.length > 1 || arguments[0].startsWith(TAG_PREFIX)
+                || arguments[0].startsWith(NOT_PREFIX)) {
+
+            model.updateFilteredTaskListToQuery(taskBook -> getTasksMatching(taskBook, arguments));
+            return new CommandResult(String.format(MESSAGE_SUCCESS5, String.join(" ", arguments)));
         } else if (arguments[0].equals("td")) {
 
-            Predicate<Task> predicate = task -> meetRequirementTd(task);
-            model.updateFilteredTaskList(predicate);
+            int today = (int) LocalDate.now().toEpochDay();
+            model.updateFilteredTaskListToQuery(
+                    taskBook -> TaskIdBitmap.of(taskBook.getTasksStartingBetween(today, today)));
             //ObservableList<Task> test = model.getFilteredTaskList();
             return new CommandResult(MESSAGE_SUCCESS2);
-        } else if (isCategory(arguments[0])) {
+        } else if (Categories.isValidCategories(arguments[0])) {
 
-            specifiedCategory = arguments[0];
-            Predicate<Task> predicate = task -> meetRequirementCategory(task);
-            model.updateFilteredTaskList(predicate);
+            specifiedCategory = Categories.of(arguments[0]);
+            model.updateFilteredTaskListToQuery(taskBook -> taskBook.getTaskIdsWithCategory(specifiedCategory));
             return new CommandResult(String.format(MESSAGE_SUCCESS4, categoryString(specifiedCategory)));
         } else {
 
             specifiedDate = arguments[0];
-            Predicate<Task> predicate = task -> meetRequirementDate(task);
-            model.updateFilteredTaskList(predicate);
+            model.updateFilteredTaskListToQuery(taskBook -> getTaskIdsOn(taskBook, specifiedDate));
             return new CommandResult(String.format(MESSAGE_SUCCESS3, specifiedDate));
         }
 
     }
 
     /**
-     * A boolean function used to decide predicate for list td command.
+     * Returns the archived tasks matching {@code arguments}, as {@link #listTasks} would list them.
+     * A single DATE or MONTH, or td, only reads the archived tasks starting on those days from the archive.
+     */
+    private List<Task> getArchivedTasksMatching(Model model) throws IOException {
+        if (arguments[0].equals("")) {
+            return model.getArchivedTasks().getTaskList();
+        }
+        if (arguments.length == 1 && !arguments[0].startsWith(NOT_PREFIX)) {
+            String criterion = arguments[0];
+            if (criterion.equals("td")) {
+                int today = (int) LocalDate.now().toEpochDay();
+                return model.getArchivedTasksStartingBetween(today, today).getTaskList();
+            }
+            if (Date.isValidDate(criterion)) {
+                int day = DateUtil.toEpochDay(criterion);
+                return model.getArchivedTasksStartingBetween(day, day).getTaskList();
+            }
+            if (criterion.matches(ShowTimeCommand.MONTH_VALIDATION_REGEX)) {
+                return ArchiveCommand.getArchivedTasksStartingIn(model, criterion).getTaskList();
+            }
+        }
+        for (String criterion : arguments) {
+            if (!isValidCriterion(criterion)) {
+                return new ArrayList<>();
+            }
+        }
+
+        ReadOnlyTaskBook archived = model.getArchivedTasks();
+        TaskIdBitmap matching = getTasksMatching(archived, arguments);
+        return archived.getTaskList().filtered(task -> matching.contains(task.getId()));
+    }
+
+    /**
+     * Returns true if {@code criterion} is a criterion that can be combined with others:
+     * td, a DATE, a MONTH, a RANGE, a category or a TAG, each optionally negated.
      */
-    private boolean meetRequirementTd(Task task) {
+    public static boolean isValidCriterion(String criterion) {
+        String positive = criterion.startsWith(NOT_PREFIX) ? criterion.substring(NOT_PREFIX.length()) : criterion;
+        return kindOf(positive) != null;
+    }
 
-        Date currentDate = new Date();
-        SimpleDateFormat formatter = new SimpleDateFormat("dd-MM-YY");
-        String dateInString = formatter.format(currentDate);
+    /**
+     * Returns the kind of the non-negated {@code criterion}, or null if it is not a valid criterion.
+     */
+    private static CriterionKind kindOf(String criterion) {
+        if (criterion.equals("td") || ShowTimeCommand.isValidDays(criterion)) {
+            return CriterionKind.DATE;
+        }
+        if (Categories.isValidCategories(criterion)) {
+            return CriterionKind.CATEGORY;
+        }
+        if (criterion.startsWith(TAG_PREFIX) && Tag.isValidTagName(criterion.substring(TAG_PREFIX.length()))) {
+            return CriterionKind.TAG;
+        }
+        return null;
+    }
 
-        final String taskDate = task.getStartDate().value;
-        if (taskDate.equals(dateInString)) {
-            return true;
+    /**
+     * Returns the ids of the tasks of {@code taskBook} matching all of {@code criteria}, see {@link #MESSAGE_USAGE}.
+     * Each criterion is answered by an index of the task book, and the answers are combined as sets of ids.
+     */
+    private static TaskIdBitmap getTasksMatching(ReadOnlyTaskBook taskBook, String[] criteria) {
+        Map<CriterionKind, TaskIdBitmap> anyOfKind = new EnumMap<>(CriterionKind.class);
+        TaskIdBitmap excluded = new TaskIdBitmap();
+        for (String criterion : criteria) {
+            if (criterion.startsWith(NOT_PREFIX)) {
+                excluded = excluded.or(getTasksMatching(taskBook, criterion.substring(NOT_PREFIX.length())));
+            } else {
+                anyOfKind.merge(kindOf(criterion), getTasksMatching(taskBook, criterion), TaskIdBitmap::or);
+            }
         }
-        return false;
+        TaskIdBitmap matching = taskBook.getTaskIds();
+        for (TaskIdBitmap ofKind : anyOfKind.values()) {
+            matching = matching.and(ofKind);
+        }
+        return matching.andNot(excluded);
     }
 
     /**
-     * A boolean function used to decide predicate for list category command.
+     * Returns the ids of the tasks of {@code taskBook} matching the single non-negated {@code criterion}.
      */
-    private boolean isCategory(String str) {
-        if (str.equals("a") || str.equals("c") || str.equals("e") || str.equals("r") || str.equals("o")) {
-            return true;
-        } else {
-            return false;
+    private static TaskIdBitmap getTasksMatching(ReadOnlyTaskBook taskBook, String criterion) {
+        switch (kindOf(criterion)) {
+        case CATEGORY:
+            return taskBook.getTaskIdsWithCategory(Categories.of(criterion));
+        case TAG:
+            return taskBook.getTaskIdsWithTag(criterion.substring(TAG_PREFIX.length()));
+        default:
+            if (criterion.equals("td")) {
+                int today = (int) LocalDate.now().toEpochDay();
+                return TaskIdBitmap.of(taskBook.getTasksStartingBetween(today, today));
+            }
+            return getTaskIdsOn(taskBook, criterion);
         }
     }
 
     /**
      * Return a string that to be printed.
      */
-    private String categoryString(String str) {
-        if (str.equals("a")) {
+    private String categoryString(Categories category) {
+        switch (category) {
+        case ACADEMIC:
             return "academic";
-        } else if (str.equals("c")) {
+        case CCA:
             return "CCA";
-        } else if (str.equals("e")) {
+        case ENTERTAINMENT:
             return "entertainment";
-        } else if (str.equals("r")) {
+        case ERRAND:
             return "errand";
-        } else {
+        default:
             return "other";
         }
     }
 
     /**
-     * A boolean function used to decide predicate for list DATE command.
+     * Returns the ids of the tasks of {@code taskBook} on {@code dates}, found through its date indexes.
+     * A DATE gives the tasks starting on it, a MONTH the tasks whose start date is written in it, and a RANGE the
+     * tasks taking place on any day of it.
      */
-    private boolean meetRequirementDate(Task task) {
-
-        String[] dateInfo = specifiedDate.split("-");
-        if (dateInfo.length == 3) {
-
-            final String taskDate = task.getStartDate().value;
-            if (taskDate.equals(specifiedDate)) {
-                return true;
-            } else {
-                return false;
-            }
-        } else if (dateInfo.length == 2) {
-
-            final String taskDate = task.getStartDate().value;
-            String[] splitDate = taskDate.split("-");
-
-            if (splitDate[1].equals(dateInfo[0]) && splitDate[2].equals(dateInfo[1])) {
-                return true;
-            } else {
-                return false;
-            }
+    private static TaskIdBitmap getTaskIdsOn(ReadOnlyTaskBook taskBook, String dates) {
+        if (Date.isValidDate(dates)) {
+            int day = DateUtil.toEpochDay(dates);
+            return TaskIdBitmap.of(taskBook.getTasksStartingBetween(day, day));
+        }
+        if (dates.matches(ShowTimeCommand.MONTH_VALIDATION_REGEX)) {
+            return taskBook.getTaskIdsStartingInMonth(DateUtil.toEpochMonth(dates));
+        }
+        String[] bounds = dates.split(Pattern.quote(ShowTimeCommand.RANGE_SEPARATOR), -1);
+        if (bounds.length == 2 && Date.isValidDate(bounds[0]) && Date.isValidDate(bounds[1])) {
+            return TaskIdBitmap.of(
+                    taskBook.getTasksOverlapping(DateUtil.toEpochDay(bounds[0]), DateUtil.toEpochDay(bounds[1])));
         }
-        return false;
+        return new TaskIdBitmap();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListCommand // instanceof handles nulls
+                && Arrays.equals(arguments, ((ListCommand) other).arguments)
+                && isIncludingArchive == ((ListCommand) other).isIncludingArchive); // state check
     }
 
     /**
-     * A boolean function used to decide predicate for list category command.
+     * The kinds of criteria. Criteria of the same kind are alternatives, criteria of different kinds narrow each
+     * other down.
      */
-    private boolean meetRequirementCategory(Task task) {
-        String taskCategory = task.getCategories().value;
-        if (taskCategory.equals(specifiedCategory)) {
-            return true;
-        } else {
-            return false;
-        }
+    private enum CriterionKind {
+        CATEGORY, DATE, TAG
     }
 
 }
-
-
@@ -3,11 +3,15 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.ReminderView;
 import seedu.address.model.task.Task;
 
 /**
@@ -25,6 +29,10 @@ public class RemindCommand extends Command {
             + "2. a/e/c/r/o start/ddl: Tasketch will give a reminding task list of specified category\n"
             + "of tasks ordered by start time or deadline.\n";
     public static final String MESSAGE_LOGIN = "Please login first";
+    public static final String MESSAGE_SUCCESS = "Reminder shown!";
+    public static final String MESSAGE_UPCOMING = "Next: %1$s";
+    /** The number of upcoming tasks named in the result. */
+    public static final int UPCOMING_SHOWN = 3;
     private String arguments;
     private ObservableList<Task> shownTaskList;
 
@@ -42,20 +50,6 @@ public class RemindCommand extends Command {
         return this.arguments;
     }
 
-    /**
-     * A boolean function to verify user's input
-     */
-    private boolean isValidCategory(String input) {
-        if (!input.equals("a") && !input.equals("e")
-                && !input.equals("c") && !input.equals("r") && !input.equals("o")) {
-
-            return false;
-        } else {
-
-            return true;
-        }
-    }
-
     public ObservableList<Task> getShownTaskList() {
         return this.shownTaskList;
     }
@@ -72,19 +66,6 @@ public class RemindCommand extends Command {
         }
     }
 
-    /**
-     * A predicate function decide which task to choose
-     */
-    private boolean meetRequirement(Task task, String givenCategory) {
-        if (task.getCategories().value.equals(givenCategory)) {
-
-            return true;
-        } else {
-
-            return false;
-        }
-    }
-
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException, ParseException {
 
@@ -101,32 +82,20 @@ public class RemindCommand extends Command {
             if (!isValidTime(splitedInput[0])) {
 
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemindCommand.MESSAGE_USAGE));
-            } else if (splitedInput[0].equals("start")) {
-                //model.sortByStart();
-                model.sortRemindListByStart();
-            } else {
-
-                //model.sortByEnd();
-                model.sortRemindListByEnd();
             }
+            model.filterRemindList(null);
+            model.sortRemindList(toSortKey(splitedInput[0]));
 
             model.commitTaskBook();
 
         } else if (splitedInput.length == 2) {
 
-            if (!isValidCategory(splitedInput[0]) || !isValidTime(splitedInput[1])) {
+            if (!Categories.isValidCategories(splitedInput[0]) || !isValidTime(splitedInput[1])) {
 
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemindCommand.MESSAGE_USAGE));
-            } else {
-
-                if (splitedInput[1].equals("start")) {
-                    model.sortRemindListByStart();
-                    model.filterRemindList(splitedInput[0]);
-                } else {
-                    model.sortRemindListByEnd();
-                    model.filterRemindList(splitedInput[0]);
-                }
             }
+            model.filterRemindList(Categories.of(splitedInput[0]));
+            model.sortRemindList(toSortKey(splitedInput[1]));
 
             model.commitTaskBook();
 
@@ -135,6 +104,21 @@ public class RemindCommand extends Command {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemindCommand.MESSAGE_USAGE));
         }
 
-        return new CommandResult("Reminder shown!");
+        List<Task> upcoming = model.getUpcomingReminders(UPCOMING_SHOWN);
+        if (upcoming.isEmpty()) {
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+        StringBuilder next = new StringBuilder();
+        for (Task task : upcoming) {
+            next.append(next.length() == 0 ? "" : ", ").append(task.getName());
+        }
+        return new CommandResult(MESSAGE_SUCCESS + "\n" + String.format(MESSAGE_UPCOMING, next));
+    }
+
+    /**
+     * Returns the order given by the valid time {@code input}.
+     */
+    private static ReminderView.SortKey toSortKey(String input) {
+        return input.equals("start") ? ReminderView.SortKey.START : ReminderView.SortKey.DEADLINE;
     }
 }
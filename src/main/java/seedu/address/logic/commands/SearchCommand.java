@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdBitmap;
+
+/**
+ * Lists the tasks whose name, description or tags best match the argument keywords, best match first.
+ * Keyword matching is case insensitive, and a match in the name counts more than one in the tags or description.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String COMMAND_ALIAS = "s";
+
+    /** The largest number of tasks listed. */
+    public static final int RESULT_LIMIT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches the names, descriptions and tags of all "
+            + "tasks for the specified keywords (case-insensitive) and lists the " + RESULT_LIMIT
+            + " best matches.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " revise lecture notes";
+
+    public static final String MESSAGE_SUCCESS = "%1$d tasks listed, best match first:";
+    public static final String MESSAGE_NO_MATCH = "No task matches %1$s";
+    public static final String MESSAGE_LOGIN = "Please login first";
+
+    private final String query;
+
+    public SearchCommand(String query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!model.getLoginStatus()) {
+            throw new CommandException(MESSAGE_LOGIN);
+        }
+        model.updateFilteredTaskListToQuery(taskBook -> TaskIdBitmap.of(taskBook.searchTasks(query, RESULT_LIMIT)));
+        List<Task> ranked = model.getTaskBook().searchTasks(query, RESULT_LIMIT);
+        if (ranked.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_MATCH, query));
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, ranked.size()));
+        for (int i = 0; i < ranked.size(); i++) {
+            result.append("\n").append(i + 1).append(". ").append(ranked.get(i).getName());
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && query.equals(((SearchCommand) other).query)); // state check
+    }
+
+}
@@ -3,12 +3,19 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_DAYS;
 
-import java.util.function.Predicate;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.regex.Pattern;
 
+import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ArchivedTaskBook;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
+import seedu.address.model.task.Categories;
 
 /**
  * Lists all tasks in the task book to the user.
@@ -21,47 +28,58 @@ public class ShowTimeCommand extends Command {
             + "Parameters:\n"
             + "1. no parameters: showtime        show all days\n"
             + "2. DATE: showtime 25-03-19    "
-            + "show the day 25th March, 2019\n";
+            + "show the day 25th March, 2019\n"
+            + "3. MONTH: showtime 03-19    "
+            + "show the days of March, 2019\n"
+            + "4. RANGE: showtime 01-03-19..15-03-19    "
+            + "show the days from 1st to 15th March, 2019\n"
+            + "Add --all to also total the time of the archived tasks on these days.\n";
     public static final String MESSAGE_LOGIN = "Please login first";
     public static final String MESSAGE_SUCCESS1 = "Shown all days";
     public static final String MESSAGE_SUCCESS2 = "Listed day on %1$s";
+    public static final String MESSAGE_ARCHIVED_TIME = "\nArchived time: academic %1$s, CCA %2$s, "
+            + "entertainment %3$s, errand %4$s, other %5$s";
     public static final String COMMAND_PARAMETERS = "Parameters:\n"
             + "1. no parameters: showtime        show all days\n"
             + "2. DATE: showtime 25-03-19    "
-            + "show the day 25th March, 2019\n";
+            + "show the day 25th March, 2019\n"
+            + "3. MONTH: showtime 03-19    "
+            + "show the days of March, 2019\n"
+            + "4. RANGE: showtime 01-03-19..15-03-19    "
+            + "show the days from 1st to 15th March, 2019\n";
+    public static final String RANGE_SEPARATOR = "..";
+    public static final String MONTH_VALIDATION_REGEX = "(0[1-9]|1[0-2])-\\d{2}";
     private String[] arguments;
     private String specifiedDate;
+    private final boolean isIncludingArchive;
 
     public ShowTimeCommand(String[] arguments) {
-        this.arguments = arguments;
+        this(arguments, false);
     }
 
     /**
-     * A boolean function used to decide predicate for list DATE command.
+     * Creates a ShowTimeCommand showing the days of {@code arguments}, and also totalling the time of the archived
+     * tasks on these days if {@code isIncludingArchive}.
      */
-    private boolean meetRequirementDate(Day day) {
-
-        String[] dateInfo = specifiedDate.split("-");
-        if (dateInfo.length == 3) {
-
-            final String taskDate = day.getDate().value;
-            if (taskDate.equals(specifiedDate)) {
-                return true;
-            } else {
-                return false;
-            }
-        } else if (dateInfo.length == 2) {
-
-            final String taskDate = day.getDate().value;
-            String[] splitDate = taskDate.split("-");
+    public ShowTimeCommand(String[] arguments, boolean isIncludingArchive) {
+        this.arguments = arguments;
+        this.isIncludingArchive = isIncludingArchive;
+    }
 
-            if (splitDate[0].equals(dateInfo[0]) && splitDate[1].equals(dateInfo[1])) {
-                return true;
-            } else {
-                return false;
-            }
+    /**
+     * Returns true if {@code str} is a DATE, a MONTH or a RANGE of two DATEs, the first not after the second.
+     */
+    public static boolean isValidDays(String str) {
+        if (isMonth(str) || Date.isValidDate(str)) {
+            return true;
         }
-        return false;
+        String[] bounds = str.split(Pattern.quote(RANGE_SEPARATOR), -1);
+        return bounds.length == 2 && Date.isValidDate(bounds[0]) && Date.isValidDate(bounds[1])
+                && DateUtil.toEpochDay(bounds[0]) <= DateUtil.toEpochDay(bounds[1]);
+    }
+
+    private static boolean isMonth(String str) {
+        return str.matches(MONTH_VALIDATION_REGEX);
     }
 
     @Override
@@ -72,6 +90,21 @@ public class ShowTimeCommand extends Command {
             throw new CommandException(MESSAGE_LOGIN);
         }
 
+        CommandResult result = showDays(model);
+        if (!isIncludingArchive) {
+            return result;
+        }
+        try {
+            return new CommandResult(result.getFeedbackToUser() + describeTime(getArchivedTasksOnShownDays(model)));
+        } catch (IOException e) {
+            throw new CommandException(ArchiveCommand.MESSAGE_READ_FAILURE, e);
+        }
+    }
+
+    /**
+     * Shows the days of the task book given by {@code arguments}, and returns the result to show the user.
+     */
+    private CommandResult showDays(Model model) {
         if (arguments[0].equals("")) {
 
             model.updateFilteredDayList(PREDICATE_SHOW_ALL_DAYS);
@@ -79,11 +112,61 @@ public class ShowTimeCommand extends Command {
         } else {
 
             specifiedDate = arguments[0];
-            Predicate<Day> predicate = day -> meetRequirementDate(day);
-            model.updateFilteredDayList(predicate);
+            if (!isValidDays(specifiedDate)) {
+                model.updateFilteredDayList(unused -> false);
+            } else if (isMonth(specifiedDate)) {
+                int month = DateUtil.toEpochMonth(specifiedDate);
+                model.updateFilteredDayRange(new Date("01-" + specifiedDate),
+                        new Date(DateUtil.lastDateWrittenIn(specifiedDate)),
+                        day -> day.getDate().getEpochMonth() == month);
+            } else if (Date.isValidDate(specifiedDate)) {
+                Date date = new Date(specifiedDate);
+                model.updateFilteredDayRange(date, date);
+            } else {
+                String[] bounds = specifiedDate.split(Pattern.quote(RANGE_SEPARATOR));
+                model.updateFilteredDayRange(new Date(bounds[0]), new Date(bounds[1]));
+            }
             return new CommandResult(String.format(MESSAGE_SUCCESS2, specifiedDate));
         }
     }
 
-}
+    /**
+     * Returns the archived tasks on the days given by {@code arguments}, read from the archive by their start date.
+     */
+    private ReadOnlyTaskBook getArchivedTasksOnShownDays(Model model) throws IOException {
+        String days = arguments[0];
+        if (days.equals("")) {
+            return model.getArchivedTasks();
+        } else if (!isValidDays(days)) {
+            return new ArchivedTaskBook(new ArrayList<>());
+        } else if (isMonth(days)) {
+            return ArchiveCommand.getArchivedTasksStartingIn(model, days);
+        } else if (Date.isValidDate(days)) {
+            int day = DateUtil.toEpochDay(days);
+            return model.getArchivedTasksStartingBetween(day, day);
+        } else {
+            String[] bounds = days.split(Pattern.quote(RANGE_SEPARATOR));
+            return model.getArchivedTasksStartingBetween(DateUtil.toEpochDay(bounds[0]),
+                    DateUtil.toEpochDay(bounds[1]));
+        }
+    }
+
+    /**
+     * Returns the line totalling the time of each category over the days of {@code taskBook}.
+     */
+    private static String describeTime(ReadOnlyTaskBook taskBook) {
+        int[] minutes = new int[Categories.values().length];
+        for (Day day : taskBook.getDayList()) {
+            for (Categories category : Categories.values()) {
+                minutes[category.ordinal()] += day.getMinutes(category);
+            }
+        }
+        return String.format(MESSAGE_ARCHIVED_TIME,
+                DateUtil.formatDuration(minutes[Categories.ACADEMIC.ordinal()]),
+                DateUtil.formatDuration(minutes[Categories.CCA.ordinal()]),
+                DateUtil.formatDuration(minutes[Categories.ENTERTAINMENT.ordinal()]),
+                DateUtil.formatDuration(minutes[Categories.ERRAND.ordinal()]),
+                DateUtil.formatDuration(minutes[Categories.OTHER.ordinal()]));
+    }
 
+}
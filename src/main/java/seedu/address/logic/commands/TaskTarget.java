@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.task.Task;
+
+/**
+ * Identifies the task a command acts on, either by its index in the displayed task list
+ * or by the id it carries in the task book.
+ */
+public class TaskTarget {
+
+    private final Index index;
+    private final long id;
+
+    private TaskTarget(Index index, long id) {
+        this.index = index;
+        this.id = id;
+    }
+
+    /**
+     * Returns a target for the task at {@code index} in the displayed task list.
+     */
+    public static TaskTarget byIndex(Index index) {
+        requireNonNull(index);
+        return new TaskTarget(index, Task.UNASSIGNED_ID);
+    }
+
+    /**
+     * Returns a target for the task carrying {@code id}, whether or not it is currently displayed.
+     */
+    public static TaskTarget byId(long id) {
+        return new TaskTarget(null, id);
+    }
+
+    /**
+     * Returns the task in {@code model} identified by this target.
+     * @throws CommandException if no such task exists.
+     */
+    public Task resolve(Model model) throws CommandException {
+        if (index == null) {
+            return model.getTaskById(id).orElseThrow(() ->
+                    new CommandException(Messages.MESSAGE_INVALID_TASK_ID));
+        }
+
+        List<Task> lastShownList = model.getFilteredTaskList();
+
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TaskTarget)) {
+            return false;
+        }
+
+        TaskTarget otherTarget = (TaskTarget) other;
+        return id == otherTarget.id
+                && (index == null ? otherTarget.index == null : index.equals(otherTarget.index));
+    }
+
+    @Override
+    public String toString() {
+        return index == null ? "#" + id : String.valueOf(index.getOneBased());
+    }
+}
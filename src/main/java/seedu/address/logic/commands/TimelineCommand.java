@@ -4,13 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.function.Predicate;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
-import seedu.address.model.task.Task;
 
 /**
  * This is the Timeline command.
@@ -37,20 +35,6 @@ public class TimelineCommand extends Command {
         this.parameter = args;
     }
 
-    /**
-     * This filters the tasks.
-     * @param task
-     * @param d
-     * @return
-     */
-    private boolean filter(Task task, String d) {
-        if (task.getStartDate().value.equals(d)) {
-            return true;
-        } else {
-            return false;
-        }
-    }
-
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException, ParseException {
         requireNonNull(model);
@@ -74,13 +58,10 @@ public class TimelineCommand extends Command {
             throw new ParseException(e.getMessage());
         }
 
+        // The timeline itself looks the tasks of the day up in the date index when it is redrawn.
         if (parameter.equals("")) {
-            Predicate<Task> predicate = task -> filter(task, formattedToday);
-            //model.updateFilteredTaskList(predicate);
             return new CommandResult(String.format(MESSAGE_SUCCESS, formattedToday));
         } else {
-            Predicate<Task> predicate = task -> filter(task, this.parameter);
-            //model.updateFilteredTaskList(predicate);
             return new CommandResult(String.format(MESSAGE_SUCCESS, parameter));
         }
     }
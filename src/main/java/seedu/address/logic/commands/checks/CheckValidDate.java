@@ -19,21 +19,9 @@ public class CheckValidDate {
     }
 
     /**
-     * Returns true if endDate of a task is after startDate.
+     * Returns true if endDate of a task is on or after startDate.
      */
     private boolean isValidDate(Task task) {
-        String[] dateS = task.getStartDate().value.split("-");
-        String[] dateE = task.getEndDate().value.split("-");
-
-        if (Integer.parseInt(dateS[0]) > Integer.parseInt(dateE[0])) {
-            return false;
-        }
-        if (Integer.parseInt(dateS[1]) > Integer.parseInt(dateE[1])) {
-            return false;
-        }
-        if (Integer.parseInt(dateS[2]) > Integer.parseInt(dateE[2])) {
-            return false;
-        }
-        return true;
+        return task.getStartDate().getEpochDay() <= task.getEndDate().getEpochDay();
     }
 }
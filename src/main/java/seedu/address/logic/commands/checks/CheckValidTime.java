@@ -22,13 +22,6 @@ public class CheckValidTime {
      * Returns true if endTime of a task is after startTime.
      */
     public boolean isValidTime(Task task) {
-        String time = task.getEndTime().value;
-        double end = task.getEndTime().getTimeDouble(time);
-        time = task.getStartTime().value;
-        double start = task.getStartTime().getTimeDouble(time);
-        if (end > start) {
-            return true;
-        }
-        return false;
+        return task.getEndTime().getMinuteOfDay() > task.getStartTime().getMinuteOfDay();
     }
 }
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.day.Date;
+
+/**
+ * Parses input arguments and creates a new {@code ArchiveCommand} object
+ */
+public class ArchiveCommandParser implements Parser<ArchiveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ArchiveCommand
+     * and returns an ArchiveCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ArchiveCommand parse(String userInput) throws ParseException {
+        String[] arguments = userInput.trim().split("\\s+");
+        if (arguments.length != 2 || !arguments[0].equals("before") || !Date.isValidDate(arguments[1])) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE));
+        }
+        return new ArchiveCommand(new Date(arguments[1]));
+    }
+}
@@ -16,4 +16,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_PASSWORD = new Prefix("p/");
     public static final Prefix PREFIX_USERNAME = new Prefix("u/");
+
+    /* Flag definitions */
+    /** Makes {@code list}, {@code find} and {@code showtime} look up the archived tasks as well. */
+    public static final String FLAG_ALL = "--all";
 }
@@ -19,7 +19,8 @@ public class FindCommandParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        boolean isIncludingArchive = ParserUtil.hasFlag(args, CliSyntax.FLAG_ALL);
+        String trimmedArgs = ParserUtil.removeFlag(args, CliSyntax.FLAG_ALL);
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -27,7 +28,7 @@ public class FindCommandParser {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        return new FindCommand(new TaskContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(new TaskContainsKeywordsPredicate(Arrays.asList(nameKeywords)), isIncludingArchive);
     }
 
 }
@@ -2,29 +2,38 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ShowTimeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.task.Categories;
 
 /**
  * Used for parsing user input for list command
  */
-public class ListCommandParser {
+public class ListCommandParser implements Parser<ListCommand> {
 
     /**
      * Parse function
      */
-    public Command parse(String userInput) throws ParseException {
-        String[] arguments = userInput.trim().split("\\s+");
+    @Override
+    public ListCommand parse(String userInput) throws ParseException {
+        boolean isIncludingArchive = ParserUtil.hasFlag(userInput, CliSyntax.FLAG_ALL);
+        String[] arguments = ParserUtil.removeFlag(userInput, CliSyntax.FLAG_ALL).split("\\s+");
         if (arguments.length == 1) {
             if (arguments[0].equals("") || arguments[0].equals("td") || isValidDateFormat(arguments[0])
-                    || isCategory(arguments[0])) {
-                return new ListCommand(arguments);
+                    || Categories.isValidCategories(arguments[0]) || ListCommand.isValidCriterion(arguments[0])) {
+                return new ListCommand(arguments, isIncludingArchive);
             } else {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
             }
         } else {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+            for (String argument : arguments) {
+                if (!ListCommand.isValidCriterion(argument)) {
+                    throw new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+                }
+            }
+            return new ListCommand(arguments, isIncludingArchive);
         }
     }
 
@@ -32,6 +41,9 @@ public class ListCommandParser {
      * Check if user input is of the correct format
      */
     public boolean isValidDateFormat(String str) {
+        if (str.contains(ShowTimeCommand.RANGE_SEPARATOR)) {
+            return ShowTimeCommand.isValidDays(str);
+        }
         String[] strSplit = str.split("-");
         if (strSplit.length == 2 || strSplit.length == 3) {
             return true;
@@ -40,15 +52,4 @@ public class ListCommandParser {
         }
     }
 
-    /**
-     * Check if user input is of the correct format
-     */
-    private boolean isCategory(String str) {
-        if (str.equals("a") || str.equals("c") || str.equals("e") || str.equals("r") || str.equals("o")) {
-            return true;
-        } else {
-            return false;
-        }
-    }
-
 }
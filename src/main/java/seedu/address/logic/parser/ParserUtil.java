@@ -7,12 +7,15 @@ import static seedu.address.model.Filetype.isValidFiletype;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.TaskTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Filetype;
 import seedu.address.model.account.Password;
@@ -32,6 +35,8 @@ import seedu.address.model.task.StartTime;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_TASK_ID = "Task ID is not a non-zero unsigned integer after #.";
+    public static final String TASK_ID_MARKER = "#";
     public static final String MESSAGE_INVALID_FILENAME = "Filename is invalid.";
     public static final String MESSAGE_INVALID_EXTENSION = "Filename must end with \".json\".";
 
@@ -48,6 +53,23 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code target} into a {@code TaskTarget} and returns it. Leading and trailing whitespaces will be
+     * trimmed. A target starting with {@code TASK_ID_MARKER} is read as a task ID, anything else as an index.
+     * @throws ParseException if the specified index or task ID is invalid.
+     */
+    public static TaskTarget parseTaskTarget(String target) throws ParseException {
+        String trimmedTarget = target.trim();
+        if (!trimmedTarget.startsWith(TASK_ID_MARKER)) {
+            return TaskTarget.byIndex(parseIndex(trimmedTarget));
+        }
+        String trimmedId = trimmedTarget.substring(TASK_ID_MARKER.length());
+        if (!trimmedId.matches("\\d{1,18}") || Long.parseLong(trimmedId) == 0) {
+            throw new ParseException(MESSAGE_INVALID_TASK_ID);
+        }
+        return TaskTarget.byId(Long.parseLong(trimmedId));
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -150,7 +172,7 @@ public class ParserUtil {
         if (!Categories.isValidCategories(trimmedCategories)) {
             throw new ParseException(Categories.MESSAGE_CONSTRAINTS);
         }
-        return new Categories(trimmedCategories);
+        return Categories.of(trimmedCategories);
     }
 
     /**
@@ -255,4 +277,20 @@ public class ParserUtil {
         }
         return new Password(trimmedPassword);
     }
+
+    /**
+     * Returns true if {@code flag} is one of the whitespace-separated words of {@code args}.
+     */
+    public static boolean hasFlag(String args, String flag) {
+        return Arrays.asList(args.trim().split("\\s+")).contains(flag);
+    }
+
+    /**
+     * Returns {@code args} without the words that are {@code flag}, the remaining words separated by single spaces.
+     */
+    public static String removeFlag(String args, String flag) {
+        return Arrays.stream(args.trim().split("\\s+"))
+                .filter(word -> !word.equals(flag))
+                .collect(Collectors.joining(" "));
+    }
 }
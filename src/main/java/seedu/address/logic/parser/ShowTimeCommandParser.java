@@ -15,10 +15,11 @@ public class ShowTimeCommandParser {
      * Parse function
      */
     public Command parse(String userInput) throws ParseException {
-        String[] arguments = userInput.trim().split("\\s+");
+        boolean isIncludingArchive = ParserUtil.hasFlag(userInput, CliSyntax.FLAG_ALL);
+        String[] arguments = ParserUtil.removeFlag(userInput, CliSyntax.FLAG_ALL).split("\\s+");
         if (arguments.length == 1) {
             if (arguments[0].equals("") || arguments[0].equals("st") || isValidDateFormat(arguments[0])) {
-                return new ShowTimeCommand(arguments);
+                return new ShowTimeCommand(arguments, isIncludingArchive);
             } else {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowTimeCommand.MESSAGE_USAGE));
             }
@@ -31,12 +32,7 @@ public class ShowTimeCommandParser {
      * Check if user input is of the correct format
      */
     public boolean isValidDateFormat(String str) {
-        String[] strSplit = str.split("-");
-        if (strSplit.length == 2 || strSplit.length == 3) {
-            return true;
-        } else {
-            return false;
-        }
+        return ShowTimeCommand.isValidDays(str);
     }
 
 }
@@ -5,6 +5,7 @@ import java.util.List;
 
 import seedu.address.logic.commands.AddAccountCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteAccountCommand;
 import seedu.address.logic.commands.DeleteCommand;
@@ -14,6 +15,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindAccountCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ImportCommand;
@@ -25,6 +27,7 @@ import seedu.address.logic.commands.LogoutCommand;
 import seedu.address.logic.commands.MonthCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemindCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.ShowTimeCommand;
 import seedu.address.logic.commands.TimelineCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -45,6 +48,7 @@ public class WrongCommandSuggestion implements Suggestion {
         CommandList = new String[] {
             AddCommand.COMMAND_WORD,
             AddAccountCommand.COMMAND_WORD,
+            ArchiveCommand.COMMAND_WORD,
             ClearCommand.COMMAND_WORD,
             DeleteCommand.COMMAND_WORD,
             DeleteAccountCommand.COMMAND_WORD,
@@ -54,6 +58,7 @@ public class WrongCommandSuggestion implements Suggestion {
             ExitCommand.COMMAND_WORD,
             FindCommand.COMMAND_WORD,
             FindAccountCommand.COMMAND_WORD,
+            FuzzyFindCommand.COMMAND_WORD,
             HelpCommand.COMMAND_WORD,
             HistoryCommand.COMMAND_WORD,
             ImportCommand.COMMAND_WORD,
@@ -65,6 +70,7 @@ public class WrongCommandSuggestion implements Suggestion {
             MonthCommand.COMMAND_WORD,
             RedoCommand.COMMAND_WORD,
             RemindCommand.COMMAND_WORD,
+            SearchCommand.COMMAND_WORD,
             ShowTimeCommand.COMMAND_WORD,
             TimelineCommand.COMMAND_WORD,
             UndoCommand.COMMAND_WORD,
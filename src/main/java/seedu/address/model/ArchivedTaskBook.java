@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.day.Day;
+import seedu.address.model.task.Task;
+
+/**
+ * An unmodifiable task book of tasks read from the archive for a single query.
+ * It builds no indexes, so its queries are answered by the scans of {@link ReadOnlyTaskBook}, which cost less than
+ * indexing tasks that are only looked at once. Unlike a {@code TaskBook}, it may hold tasks of the same name that
+ * were archived at different times.
+ */
+public class ArchivedTaskBook implements ReadOnlyTaskBook {
+
+    private final ObservableList<Task> tasks;
+    private final ObservableList<Day> days;
+
+    public ArchivedTaskBook(List<Task> tasks) {
+        this.tasks = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(tasks));
+        this.days = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(TaskBook.buildDays(tasks)));
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public ObservableList<Day> getDayList() {
+        return days;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // an archived task book never changes
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // an archived task book never changes
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -12,8 +14,12 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.account.Account;
 import seedu.address.model.account.Username;
+import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.ReminderView;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdBitmap;
 
 /**
  * The API of the Model component.
@@ -72,26 +78,64 @@ public interface Model {
      */
     boolean hasTask(Task task);
 
+    /**
+     * Returns the task carrying {@code id} in the task book, if any, regardless of the current filter.
+     */
+    Optional<Task> getTaskById(long id);
+
+    /**
+     * Returns the tasks of the filtered task list starting from {@code fromEpochDay} to {@code toEpochDay},
+     * both inclusive. The tasks are looked up in the task book's date index instead of scanning the list.
+     */
+    List<Task> getFilteredTasksStartingBetween(int fromEpochDay, int toEpochDay);
+
+    /**
+     * Returns the tasks of the filtered task list ending before {@code epochDay}.
+     * The tasks are looked up in the task book's date index instead of scanning the list.
+     */
+    List<Task> getFilteredTasksEndingBefore(int epochDay);
+
     /**
      * Deletes the given task.
      * The task must exist in the task book.
      */
     void deleteTask(Task target);
 
+    /**
+     * Deletes the given tasks in a single pass over the task list, notifying listeners once.
+     * The tasks must exist in the task book.
+     */
     void deleteTaskList(List<Task> targets);
 
-    void sortRemindListByStart();
-
-    void sortRemindListByEnd();
+    /**
+     * Applies the changes of {@code transaction} to the task book together, notifying listeners of the task book
+     * and its lists once for all of them.
+     */
+    void applyTransaction(TaskBookTransaction transaction);
 
-    void setRemindList(ObservableList<Task> remindList);
+    /**
+     * Orders the remind list by {@code sortKey}, or in task book order if {@code sortKey} is null.
+     */
+    void sortRemindList(ReminderView.SortKey sortKey);
 
-    void filterRemindList(String str);
+    /**
+     * Restricts the remind list to the tasks of {@code category}, or shows every task if {@code category} is null.
+     */
+    void filterRemindList(Categories category);
 
+    /**
+     * Shows every task in the remind list again, in task book order.
+     */
     void reinitializeRemindList();
 
+    /** Returns an unmodifiable live view of the remind list */
     ObservableList<Task> getRemindTaskList();
 
+    /**
+     * Returns the first {@code count} tasks of the remind list that are not yet past by its order.
+     */
+    List<Task> getUpcomingReminders(int count);
+
     ObservableList<Task> getAllTaskList();
 
     /**
@@ -109,6 +153,12 @@ public interface Model {
 
     void resetData(ReadOnlyTaskBook newData);
 
+    /**
+     * Replaces the task book and the account list with {@code taskBook} and {@code accountList} read from storage
+     * after startup. The data they replace is not kept in the undo history.
+     */
+    void loadData(ReadOnlyTaskBook taskBook, ReadOnlyAccountList accountList);
+
     /**
      * Returns an unmodifiable view of the filtered task list
      */
@@ -127,6 +177,15 @@ public interface Model {
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
+    /**
+     * Updates the filtered task list to show the tasks whose ids {@code query} returns on the task book.
+     * The query is run again whenever the task book changes, so that added and edited tasks are shown if and only
+     * if they match it. Updating the filtered task list again replaces the query.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredTaskListToQuery(Function<ReadOnlyTaskBook, TaskIdBitmap> query);
+
     /**
      * Updates the filter of the filtered day list to filter by the given {@code predicate}.
      *
@@ -134,6 +193,20 @@ public interface Model {
      */
     void updateFilteredDayList(Predicate<Day> predicate);
 
+    /**
+     * Updates the filtered day list to show only the days from {@code from} to {@code to}, both inclusive.
+     * A null bound leaves that end of the range open. Any predicate set on the filtered day list is cleared.
+     */
+    void updateFilteredDayRange(Date from, Date to);
+
+    /**
+     * Updates the filtered day list to show only the days from {@code from} to {@code to}, both inclusive, that
+     * also match {@code predicate}. A null bound leaves that end of the range open.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredDayRange(Date from, Date to, Predicate<Day> predicate);
+
     /**
      * Returns true if the model has previous task book states to restore.
      */
@@ -211,6 +284,38 @@ public interface Model {
      */
     void exportFilteredTaskBook(Path exportFilePath) throws IOException, IllegalValueException;
 
+    //=========== Archive =====================================================================================
+
+    /**
+     * Sets the archive of the task book to {@code taskArchive}. The ids of the archived tasks are reserved, so that
+     * no task added to the task book from now on takes one of them. Until an archive is set, the archive operations
+     * fail with an {@code IOException}.
+     */
+    void setTaskArchive(TaskBookArchive taskArchive);
+
+    /**
+     * Returns the tasks moved out of the task book into the archive.
+     *
+     * @throws IOException if the archive file cannot be read.
+     */
+    ReadOnlyTaskBook getArchivedTasks() throws IOException;
+
+    /**
+     * Returns the archived tasks starting from {@code fromEpochDay} to {@code toEpochDay}, both inclusive.
+     * Only these tasks are read from the archive file.
+     *
+     * @throws IOException if the archive file cannot be read.
+     */
+    ReadOnlyTaskBook getArchivedTasksStartingBetween(int fromEpochDay, int toEpochDay) throws IOException;
+
+    /**
+     * Moves the tasks ending before {@code epochDay} out of the task book into the archive, and returns the number
+     * of tasks moved. The undo history of the task book is cleared, as the archive cannot be undone.
+     *
+     * @throws IOException if the archive file cannot be read or written, in which case no task is moved.
+     */
+    int archiveTasksEndingBefore(int epochDay) throws IOException;
+
     //============ Login/ Logout ===============================================================================
     boolean hasAccount(Account account);
 
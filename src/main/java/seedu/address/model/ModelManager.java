@@ -5,10 +5,12 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -24,6 +26,7 @@ import seedu.address.commons.events.model.AccountListChangedEvent;
 import seedu.address.commons.events.model.TaskBookChangedEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.export.Export;
 import seedu.address.export.ExportManager;
 import seedu.address.export.Import;
@@ -31,9 +34,14 @@ import seedu.address.export.ImportManager;
 import seedu.address.model.account.Account;
 import seedu.address.model.account.LoggedInAccount;
 import seedu.address.model.account.Username;
+import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
+import seedu.address.model.day.DayRangeView;
 import seedu.address.model.day.exceptions.DayNotFoundException;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.ReminderView;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdBitmap;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 
 /**
@@ -45,57 +53,21 @@ public class ModelManager implements Model {
     private final VersionedTaskBook versionedTaskBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Task> filteredTasks;
+    /** The query whose result the filtered task list shows, or null if it is filtered by a plain predicate. */
+    private Function<ReadOnlyTaskBook, TaskIdBitmap> taskQuery;
+    private final DayRangeView daysInRange;
     private final FilteredList<Day> filteredDays;
     private final SimpleObjectProperty<Task> selectedTask = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Day> selectedDay = new SimpleObjectProperty<>();
-    private ObservableList<Task> remindList = FXCollections.observableArrayList();
+    private final ReminderView reminderView;
+
+    /** The archive of the task book, or null if none has been set. */
+    private TaskBookArchive taskArchive;
 
     private final VersionedAccountList versionedAccountList;
     private final FilteredList<Account> filteredAccounts;
     private final LoggedInAccount loggedInAccount;
 
-    private Comparator<Task> startComparator = new Comparator<Task>() {
-        @Override
-        public int compare(Task o1, Task o2) {
-
-            String sdO1 = o1.getStartDate().toString();
-            String sd02 = o2.getStartDate().toString();
-            String[] dateInfo1 = sdO1.split("-");
-            String[] dateInfo2 = sd02.split("-");
-            String finalDate1 = dateInfo1[2] + dateInfo1[1] + dateInfo1[0];
-            String finalDate2 = dateInfo2[2] + dateInfo2[1] + dateInfo2[0];
-
-            if (finalDate1.compareTo(finalDate2) != 0) {
-
-                return finalDate1.compareTo(finalDate2);
-            } else {
-
-                return o1.getStartTime().toString().compareTo(o2.getStartTime().toString());
-            }
-        }
-    };
-
-    private Comparator<Task> endComparator = new Comparator<Task>() {
-        @Override
-        public int compare(Task o1, Task o2) {
-
-            String sdO1 = o1.getEndDate().toString();
-            String sd02 = o2.getEndDate().toString();
-            String[] dateInfo1 = sdO1.split("-");
-            String[] dateInfo2 = sd02.split("-");
-            String finalDate1 = dateInfo1[2] + dateInfo1[1] + dateInfo1[0];
-            String finalDate2 = dateInfo2[2] + dateInfo2[1] + dateInfo2[0];
-
-            if (finalDate1.compareTo(finalDate2) != 0) {
-
-                return finalDate1.compareTo(finalDate2);
-            } else {
-
-                return o1.getStartTime().toString().compareTo(o2.getStartTime().toString());
-            }
-        }
-    };
-
     /**
      * Initializes a ModelManager with the given taskBook, userPrefs and accountList.
      */
@@ -114,11 +86,15 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredTasks = new FilteredList<>(versionedTaskBook.getTaskList());
         filteredTasks.addListener(this::ensureSelectedTaskIsValid);
-        filteredDays = new FilteredList<>(versionedTaskBook.getDayList());
+        versionedTaskBook.addListener(unused -> {
+            if (taskQuery != null) {
+                showTaskQueryResult();
+            }
+        });
+        daysInRange = new DayRangeView(versionedTaskBook.getDayList());
+        filteredDays = new FilteredList<>(daysInRange);
         filteredDays.addListener(this::ensureSelectedDayIsValid);
-        for (Task task : versionedTaskBook.getTaskList()) {
-            remindList.add(task);
-        }
+        reminderView = new ReminderView(versionedTaskBook.getTaskList());
     }
 
 
@@ -182,6 +158,32 @@ public class ModelManager implements Model {
         return versionedTaskBook.hasTask(task);
     }
 
+    @Override
+    public Optional<Task> getTaskById(long id) {
+        return versionedTaskBook.getTaskById(id);
+    }
+
+    @Override
+    public List<Task> getFilteredTasksStartingBetween(int fromEpochDay, int toEpochDay) {
+        return retainFiltered(versionedTaskBook.getTasksStartingBetween(fromEpochDay, toEpochDay));
+    }
+
+    @Override
+    public List<Task> getFilteredTasksEndingBefore(int epochDay) {
+        return retainFiltered(versionedTaskBook.getTasksEndingBefore(epochDay));
+    }
+
+    /**
+     * Returns the tasks of {@code tasks} that pass the predicate of the filtered task list.
+     */
+    private List<Task> retainFiltered(List<Task> tasks) {
+        Predicate<? super Task> predicate = filteredTasks.getPredicate();
+        if (predicate != null) {
+            tasks.removeIf(task -> !predicate.test(task));
+        }
+        return tasks;
+    }
+
     @Override
     public void deleteTask(Task target) {
         versionedTaskBook.removeTask(target);
@@ -189,44 +191,39 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteTaskList(List<Task> targets) {
-        for (Task target : targets) {
-            versionedTaskBook.removeTask(target);
-        }
+        versionedTaskBook.removeTasks(targets);
     }
 
     @Override
-    public void sortRemindListByStart() {
-        FXCollections.sort(remindList, startComparator);
+    public void applyTransaction(TaskBookTransaction transaction) {
+        versionedTaskBook.applyTransaction(transaction);
     }
 
     @Override
-    public void sortRemindListByEnd() {
-        FXCollections.sort(remindList, endComparator);
-
+    public void sortRemindList(ReminderView.SortKey sortKey) {
+        reminderView.setSortKey(sortKey);
     }
 
     @Override
     public void reinitializeRemindList() {
-        remindList = FXCollections.observableArrayList();
-        for (Task task : versionedTaskBook.getTaskList()) {
-            remindList.add(task);
-        }
+        reminderView.reset();
     }
 
     @Override
-    public void setRemindList(ObservableList<Task> remindList) {
-        this.remindList = remindList;
+    public ObservableList<Task> getRemindTaskList() {
+        return reminderView.asUnmodifiableObservableList();
     }
 
     @Override
-    public ObservableList<Task> getRemindTaskList() {
-        return remindList;
+    public void filterRemindList(Categories category) {
+        reminderView.setCategory(category);
     }
 
     @Override
-    public void filterRemindList(String str) {
-        Predicate<Task> predicate = task -> meetRequirement(task, str);
-        remindList = remindList.filtered(predicate);
+    public List<Task> getUpcomingReminders(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        return reminderView.getUpcoming(count,
+                DateUtil.toEpochMinute((int) now.toLocalDate().toEpochDay(), now.getHour() * 60 + now.getMinute()));
     }
 
     @Override
@@ -252,6 +249,16 @@ public class ModelManager implements Model {
         versionedTaskBook.resetData(newData);
     }
 
+    @Override
+    public void loadData(ReadOnlyTaskBook taskBook, ReadOnlyAccountList accountList) {
+        requireAllNonNull(taskBook, accountList);
+
+        versionedTaskBook.setTasks(taskBook.getTaskList(), taskBook.getDayList());
+        versionedTaskBook.clearHistory();
+        versionedAccountList.resetData(accountList);
+        versionedAccountList.clearHistory();
+    }
+
     //=========== Filtered Task List Accessors =============================================================
 
     /**
@@ -266,9 +273,26 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
+        taskQuery = null;
         filteredTasks.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredTaskListToQuery(Function<ReadOnlyTaskBook, TaskIdBitmap> query) {
+        requireNonNull(query);
+        taskQuery = query;
+        showTaskQueryResult();
+    }
+
+    /**
+     * Filters the filtered task list down to the result of {@code taskQuery} on the current task book.
+     * The task book notifies its listeners once its indexes are up to date, so the query sees every change.
+     */
+    private void showTaskQueryResult() {
+        TaskIdBitmap ids = taskQuery.apply(versionedTaskBook);
+        filteredTasks.setPredicate(task -> ids.contains(task.getId()));
+    }
+
     //=========== Filtered Day List Accessors =============================================================
 
     /**
@@ -282,8 +306,21 @@ public class ModelManager implements Model {
 
     @Override
     public void updateFilteredDayList(Predicate<Day> predicate) {
+        requireNonNull(predicate);
+        daysInRange.setRange(null, null);
+        filteredDays.setPredicate(predicate);
+    }
+
+    @Override
+    public void updateFilteredDayRange(Date from, Date to) {
+        updateFilteredDayRange(from, to, PREDICATE_SHOW_ALL_DAYS);
+    }
+
+    @Override
+    public void updateFilteredDayRange(Date from, Date to, Predicate<Day> predicate) {
         requireNonNull(predicate);
         filteredDays.setPredicate(predicate);
+        daysInRange.setRange(from, to);
     }
 
     //=========== TaskBook =================================================================================
@@ -381,18 +418,6 @@ public class ModelManager implements Model {
         }
     }
 
-    /**
-     * Determine the predicate
-     */
-    private boolean meetRequirement(Task task, String givenCategory) {
-        if (task.getCategories().value.equals(givenCategory)) {
-
-            return true;
-        } else {
-
-            return false;
-        }
-    }
     //=========== Import/ Export ==============================================================================
     @Override
     public void importTasksFromTaskBook(Path importFilePath) throws IOException, DataConversionException {
@@ -407,15 +432,14 @@ public class ModelManager implements Model {
     }
     @Override
     public boolean addTasksToTaskBook(ReadOnlyTaskBook addressBookImported) {
-        ObservableList<Task> tasks = addressBookImported.getTaskList();
-        AtomicBoolean hasChanged = new AtomicBoolean(false);
-        tasks.forEach((task) -> {
+        TaskBookTransaction transaction = new TaskBookTransaction();
+        for (Task task : addressBookImported.getTaskList()) {
             if (!hasTask(task)) {
-                hasChanged.set(true);
-                versionedTaskBook.addTask(task);
+                transaction.addTask(task);
             }
-        });
-        return hasChanged.get();
+        }
+        applyTransaction(transaction);
+        return !transaction.isEmpty();
     }
 
     @Override
@@ -424,6 +448,52 @@ public class ModelManager implements Model {
         export.saveFilteredTasks();
     }
 
+    //=========== Archive =====================================================================================
+
+    @Override
+    public void setTaskArchive(TaskBookArchive taskArchive) {
+        requireNonNull(taskArchive);
+        this.taskArchive = taskArchive;
+        versionedTaskBook.reserveTaskIdsBelow(taskArchive.getMaxId() + 1);
+    }
+
+    /**
+     * Returns the archive of the task book.
+     *
+     * @throws IOException if no archive has been set.
+     */
+    private TaskBookArchive getTaskArchive() throws IOException {
+        if (taskArchive == null) {
+            throw new IOException("The task book has no archive");
+        }
+        return taskArchive;
+    }
+
+    @Override
+    public ReadOnlyTaskBook getArchivedTasks() throws IOException {
+        return new ArchivedTaskBook(getTaskArchive().getTasks());
+    }
+
+    @Override
+    public ReadOnlyTaskBook getArchivedTasksStartingBetween(int fromEpochDay, int toEpochDay) throws IOException {
+        return new ArchivedTaskBook(getTaskArchive().getTasksStartingBetween(fromEpochDay, toEpochDay));
+    }
+
+    @Override
+    public int archiveTasksEndingBefore(int epochDay) throws IOException {
+        List<Task> toArchive = versionedTaskBook.getTasksEndingBefore(epochDay);
+        if (toArchive.isEmpty()) {
+            return 0;
+        }
+
+        // the archive is written before the tasks leave the task book, so a failure loses no task
+        taskArchive = getTaskArchive().withTasks(toArchive);
+        deleteTaskList(toArchive);
+        versionedTaskBook.clearHistory();
+        versionedTaskBook.reserveTaskIdsBelow(taskArchive.getMaxId() + 1);
+        return toArchive.size();
+    }
+
     /**
      * Ensures {@code selectedDay} is a valid day in {@code filteredDays}.
      */
@@ -1,9 +1,21 @@
 package seedu.address.model;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import javafx.beans.Observable;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.day.Day;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.StartDate;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdBitmap;
+import seedu.address.model.task.TaskTextIndex;
 
 /**
  * Unmodifiable view of an task book
@@ -16,4 +28,102 @@ public interface ReadOnlyTaskBook extends Observable {
      */
     ObservableList<Task> getTaskList();
     ObservableList<Day> getDayList();
+
+    /**
+     * Returns the task carrying {@code id}, if any.
+     */
+    default Optional<Task> getTaskById(long id) {
+        return getTaskList().stream().filter(task -> task.hasId() && task.getId() == id).findFirst();
+    }
+
+    /**
+     * Returns the tasks starting from {@code fromEpochDay} to {@code toEpochDay}, both inclusive.
+     */
+    default List<Task> getTasksStartingBetween(int fromEpochDay, int toEpochDay) {
+        return getTaskList().stream()
+                .filter(task -> task.getStartDate().getEpochDay() >= fromEpochDay
+                        && task.getStartDate().getEpochDay() <= toEpochDay)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the tasks spanning at least one day from {@code fromEpochDay} to {@code toEpochDay}, both inclusive.
+     */
+    default List<Task> getTasksOverlapping(int fromEpochDay, int toEpochDay) {
+        return getTaskList().stream()
+                .filter(task -> task.getStartDate().getEpochDay() <= toEpochDay
+                        && task.getEndDate().getEpochDay() >= fromEpochDay)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the tasks ending before {@code epochDay}.
+     */
+    default List<Task> getTasksEndingBefore(int epochDay) {
+        return getTaskList().stream()
+                .filter(task -> task.getEndDate().getEpochDay() < epochDay)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the ids of every task.
+     */
+    default TaskIdBitmap getTaskIds() {
+        return TaskIdBitmap.of(getTaskList());
+    }
+
+    /**
+     * Returns the ids of the tasks in {@code category}.
+     */
+    default TaskIdBitmap getTaskIdsWithCategory(Categories category) {
+        return TaskIdBitmap.of(getTaskList().filtered(task -> task.getCategories() == category));
+    }
+
+    /**
+     * Returns the ids of the tasks starting in {@code epochMonth}, see {@link StartDate#getEpochMonth()}.
+     */
+    default TaskIdBitmap getTaskIdsStartingInMonth(int epochMonth) {
+        return TaskIdBitmap.of(getTaskList().filtered(task -> task.getStartDate().getEpochMonth() == epochMonth));
+    }
+
+    /**
+     * Returns the ids of the tasks tagged {@code tagName}.
+     */
+    default TaskIdBitmap getTaskIdsWithTag(String tagName) {
+        return TaskIdBitmap.of(getTaskList().filtered(task ->
+                task.getTags().stream().anyMatch(tag -> tag.tagName.equals(tagName))));
+    }
+
+    /**
+     * Returns the ids of the tasks whose name contains the whole word {@code word}, ignoring case.
+     */
+    default TaskIdBitmap getTaskIdsWithNameWord(String word) {
+        return TaskIdBitmap.of(getTaskList().filtered(task ->
+                StringUtil.containsWordIgnoreCase(task.getName().fullName, word)));
+    }
+
+    /**
+     * Returns the ids of the tasks whose name contains a word within {@code maxTypos} typos of {@code word},
+     * ignoring case. A typo is a character inserted, deleted or substituted.
+     */
+    default TaskIdBitmap getTaskIdsWithNameWordNear(String word, int maxTypos) {
+        String lowerCaseWord = word.trim().toLowerCase();
+        return TaskIdBitmap.of(getTaskList().filtered(task -> Arrays.stream(task.getName().fullName.split("\\s+"))
+                .anyMatch(nameWord -> StringUtil.editDistanceWithin(lowerCaseWord, nameWord.toLowerCase(), maxTypos)
+                        <= maxTypos)));
+    }
+
+    /**
+     * Returns at most {@code limit} tasks whose name, description or tags contain any of the words of
+     * {@code query}, best match first.
+     * The tasks found are looked up by id in a map built along with the index, rather than by a scan for each.
+     */
+    default List<Task> searchTasks(String query, int limit) {
+        TaskTextIndex index = new TaskTextIndex();
+        index.setTasks(getTaskList());
+        Map<Long, Task> tasksById = getTaskList().stream().filter(Task::hasId)
+                .collect(Collectors.toMap(Task::getId, Function.identity(), (first, second) -> first));
+        List<Long> ids = index.search(query, limit);
+        return ids.stream().map(tasksById::get).collect(Collectors.toList());
+    }
 }
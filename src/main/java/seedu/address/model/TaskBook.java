@@ -2,10 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
@@ -13,19 +20,46 @@ import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
 import seedu.address.model.day.UniqueDayList;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.Name;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskAttributeIndex;
+import seedu.address.model.task.TaskDateIndex;
+import seedu.address.model.task.TaskIdBitmap;
+import seedu.address.model.task.TaskKeywordIndex;
+import seedu.address.model.task.TaskTextIndex;
 import seedu.address.model.task.UniqueTaskList;
+import seedu.address.model.task.exceptions.TaskNotFoundException;
 
 /**
  * Wraps all data at the task-book level
  * Duplicates are not allowed (by .isSameTask comparison)
+ * Every task in the book carries a unique id, assigned in increasing order as tasks are added.
+ * The tasks are also indexed by the dates they span, for date-range queries that do not scan every task,
+ * and by category, start month, tag and name word, for attribute queries answered as sets of task ids.
+ * The text of the tasks is indexed for ranked full-text search.
+ * Changes made in a batch, such as those of a {@link TaskBookTransaction}, are reported to listeners once, at the end
+ * of the batch, and each day they affect is updated once.
  */
 public class TaskBook implements ReadOnlyTaskBook {
 
     private final UniqueTaskList tasks;
     private final UniqueDayList days;
-    private Map<Date, Day> dayMap;
+    private final TaskDateIndex dateIndex;
+    private final TaskAttributeIndex attributeIndex;
+    private final TaskKeywordIndex keywordIndex;
+    private final TaskTextIndex textIndex;
+    private Map<Long, Task> idMap;
+    private long nextTaskId = 1;
+    /** Ids below this limit are reserved, except those in {@code ownIds}, and are never kept by an incoming task. */
+    private long reservedIdLimit = Task.UNASSIGNED_ID + 1;
+    /** The ids below {@code reservedIdLimit} that belonged to the task book when they were reserved. */
+    private TaskIdBitmap ownIds = new TaskIdBitmap();
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    /** The days whose times changed in the current batch, not yet reported to the day list. */
+    private final Map<Date, Day> affectedDays = new LinkedHashMap<>();
+    private int batchDepth;
+    private boolean isModifiedInBatch;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -37,7 +71,11 @@ public class TaskBook implements ReadOnlyTaskBook {
     {
         tasks = new UniqueTaskList();
         days = new UniqueDayList();
-        dayMap = new HashMap<>();
+        dateIndex = new TaskDateIndex();
+        attributeIndex = new TaskAttributeIndex();
+        keywordIndex = new TaskKeywordIndex();
+        textIndex = new TaskTextIndex();
+        idMap = new HashMap<>();
     }
 
     public TaskBook() {}
@@ -55,49 +93,241 @@ public class TaskBook implements ReadOnlyTaskBook {
     /**
      * Replaces the contents of the task list with {@code tasks}.
      * {@code tasks} must not contain duplicate tasks.
+     * Ids already carried by {@code tasks} are kept; tasks without an id, or with an id already taken, get a new one.
+     * When the tasks kept from the current list are in the same order in {@code tasks}, only the tasks that differ
+     * are removed, inserted or replaced, so listeners see changes to those tasks and their days alone.
+     * Otherwise the task list is replaced as a whole and the days are rebuilt from it.
      */
-    public void setDatas(List<Task> tasks, List<Day> days) {
-        this.tasks.setTasks(tasks);
-        this.days.setDays(days);
-        this.dayMap = new HashMap<>();
-        resetDayMap(tasks);
+    public void setTasks(List<Task> tasks) {
+        replaceTasks(tasks, null);
+    }
+
+    /**
+     * Replaces the contents of the task list with {@code tasks} as {@link #setTasks(List)} does, except that the
+     * days are copied from {@code days} instead of being computed from the tasks if the task list is replaced as a
+     * whole. {@code days} must be the days of {@code tasks}, such as those of another task book holding them; days
+     * that are not on the dates of the tasks, as a stale cache may give, are computed from the tasks instead.
+     */
+    public void setTasks(List<Task> tasks, List<Day> days) {
+        requireNonNull(days);
+        replaceTasks(tasks, days);
+    }
+
+    /**
+     * Replaces the contents of the task list with {@code tasks}, taking {@code daysOfTasks} as their days, or
+     * computing the days if it is null.
+     */
+    private void replaceTasks(List<Task> tasks, List<Day> daysOfTasks) {
+        Map<Long, Task> replacementIdMap = new HashMap<>();
+        List<Task> tasksWithIds = assignIds(tasks, replacementIdMap);
+        if (!updateToMatch(tasksWithIds)) {
+            this.tasks.setTasks(tasksWithIds);
+            this.dateIndex.setTasks(tasksWithIds);
+            this.attributeIndex.setTasks(tasksWithIds);
+            this.keywordIndex.setTasks(tasksWithIds);
+            this.textIndex.setTasks(tasksWithIds);
+            this.affectedDays.clear();
+            this.days.setDays(daysOfTasks == null || !isOnDatesOf(daysOfTasks, tasksWithIds)
+                    ? buildDays(tasksWithIds) : copyDays(daysOfTasks));
+        }
+        this.idMap = replacementIdMap;
         indicateModified();
     }
 
     /**
-     * Reset the dayMap after reset data
-     * @param tasks
+     * Changes the task list into {@code target} by removing, inserting and replacing only the tasks that differ,
+     * and updates the indexes and days for those tasks alone.
+     * Returns false without changing anything if {@code target} has tasks of the same identity, or if the tasks kept
+     * from the current list are in a different order in {@code target}. Also returns false if the task list is
+     * empty, or if more than about half of {@code target} differs from it, as building the indexes and days of every
+     * task at once is then cheaper than changing the tasks one by one.
+     */
+    private boolean updateToMatch(List<Task> target) {
+        if (tasks.asUnmodifiableObservableList().isEmpty()) {
+            return false;
+        }
+        Set<Name> targetNames = new HashSet<>();
+        for (Task t : target) {
+            if (!targetNames.add(t.getName())) {
+                return false;
+            }
+        }
+        List<Task> current = tasks.asUnmodifiableObservableList();
+        int position = 0;
+        int changes = 0;
+        for (Task t : target) {
+            if (!tasks.contains(t)) {
+                changes++;
+                continue;
+            }
+            while (!targetNames.contains(current.get(position).getName())) {
+                position++;
+                changes++;
+            }
+            if (!current.get(position).isSameTask(t)) {
+                return false;
+            }
+            if (!current.get(position).isIdenticalTo(t)) {
+                changes++;
+            }
+            position++;
+        }
+        changes += current.size() - position;
+        if (changes > target.size() / 2 + 1) {
+            return false;
+        }
+
+        List<Task> removed = new ArrayList<>();
+        for (Task t : current) {
+            if (!targetNames.contains(t.getName())) {
+                removed.add(t);
+            }
+        }
+        List<Task> added = new ArrayList<>();
+        beginBatch();
+        try {
+            // the tasks kept are left in the order of target, with the tasks to add going in between them
+            tasks.removeAll(removed);
+            int index = 0;
+            for (Task t : target) {
+                if (index == current.size() || !current.get(index).isSameTask(t)) {
+                    tasks.add(index, t);
+                    added.add(t);
+                } else if (!current.get(index).isIdenticalTo(t)) {
+                    removed.add(current.get(index));
+                    added.add(t);
+                    tasks.setTask(index, t);
+                }
+                index++;
+            }
+
+            for (Task t : removed) {
+                dateIndex.remove(t);
+                attributeIndex.remove(t);
+                keywordIndex.remove(t);
+                textIndex.remove(t);
+            }
+            for (Task t : added) {
+                dateIndex.add(t);
+                attributeIndex.add(t);
+                keywordIndex.add(t);
+                textIndex.add(t);
+            }
+            updateDays(removed, added);
+        } finally {
+            endBatch();
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code tasks} with every task carrying a unique id, recording each task in {@code ids}.
+     * A task keeps its id if it is not taken by an earlier task and not reserved.
+     * Advances {@code nextTaskId} past every id in use so that ids are never handed out twice.
+     */
+    private List<Task> assignIds(List<Task> tasks, Map<Long, Task> ids) {
+        for (Task t : tasks) {
+            nextTaskId = Math.max(nextTaskId, t.getId() + 1);
+        }
+        List<Task> tasksWithIds = new ArrayList<>(tasks.size());
+        for (Task t : tasks) {
+            Task withId = canKeepId(t, ids) ? t : t.withId(nextTaskId++);
+            ids.put(withId.getId(), withId);
+            tasksWithIds.add(withId);
+        }
+        return tasksWithIds;
+    }
+
+    /**
+     * Returns copies of {@code days}, so that the days of this task book change apart from them.
+     */
+    private static List<Day> copyDays(List<Day> days) {
+        List<Day> copies = new ArrayList<>(days.size());
+        for (Day day : days) {
+            copies.add(new Day(day));
+        }
+        return copies;
+    }
+
+    /**
+     * Returns new days holding the times of the single-day tasks in {@code tasks}, in a single pass.
      */
-    public void resetDayMap(List<Task> tasks) {
-        dayMap.clear();
-        days.clear();
-        for (int i = 0; i <= tasks.size() - 1; i++) {
-            Task t = tasks.get(i);
-            String dateS = t.getStartDate().toString();
-            String dateE = t.getEndDate().toString();
-            if (dateS.equalsIgnoreCase(dateE)) {
-                addingDay(t, dateS);
+    static List<Day> buildDays(List<Task> tasks) {
+        Map<Date, Day> dayByDate = new HashMap<>();
+        for (Task t : tasks) {
+            if (isSingleDayTask(t)) {
+                dayByDate.computeIfAbsent(new Date(t.getStartDate().value), Day::new).addCategory(t);
             }
         }
+        return new ArrayList<>(dayByDate.values());
     }
 
     /**
-     * Adding day into dayMap and days
-     * @param dateS
+     * Returns true if {@code days} are on the dates of the single-day tasks of {@code tasks}, one day for each date.
      */
-    public void addingDay(Task t, String dateS) {
-        Date date = new Date(dateS);
-        if (!dayMap.containsKey(date)) {
-            dayMap.put(date, new Day(date));
-            Day a = dayMap.get(date);
-            days.add(a);
+    private static boolean isOnDatesOf(List<Day> days, List<Task> tasks) {
+        Set<String> dates = new HashSet<>();
+        for (Task t : tasks) {
+            if (isSingleDayTask(t)) {
+                dates.add(t.getStartDate().value);
+            }
         }
-        Day d = dayMap.get(date);
-        dayMap.remove(date, d);
-        days.remove(d);
-        d.addCategory(t);
-        dayMap.put(date, d);
-        addDay(d);
+        return dates.size() == days.size() && days.stream().allMatch(day -> dates.contains(day.getDate().value));
+    }
+
+    /**
+     * Returns true if {@code t} starts and ends on the same date. Only such tasks count towards a day.
+     */
+    private static boolean isSingleDayTask(Task t) {
+        return t.getStartDate().value.equalsIgnoreCase(t.getEndDate().value);
+    }
+
+    /**
+     * Moves the times of the single-day tasks in {@code removed} out of their days, and those in {@code added} into
+     * their days, creating days as needed. The affected days are reported to the day list at the end of the batch.
+     */
+    private void updateDays(List<Task> removed, List<Task> added) {
+        for (Task t : removed) {
+            if (isSingleDayTask(t)) {
+                Date date = new Date(t.getStartDate().value);
+                Optional<Day> day = affectedDays.containsKey(date)
+                        ? Optional.of(affectedDays.get(date))
+                        : days.get(date);
+                day.ifPresent(d -> {
+                    d.removeCategory(t);
+                    affectedDays.put(date, d);
+                });
+            }
+        }
+        for (Task t : added) {
+            if (isSingleDayTask(t)) {
+                affectedDays.computeIfAbsent(new Date(t.getStartDate().value), date ->
+                        days.get(date).orElseGet(() -> new Day(date))).addCategory(t);
+            }
+        }
+        if (batchDepth == 0) {
+            reportAffectedDays();
+        }
+    }
+
+    /**
+     * Reports each affected day to the day list once: a new day is added unless the batch emptied it again, an
+     * emptied day is dropped, and any other day is marked as updated.
+     */
+    private void reportAffectedDays() {
+        for (Day d : affectedDays.values()) {
+            boolean isListed = days.contains(d);
+            if (!isListed) {
+                if (!d.isDayEmpty()) {
+                    days.add(d);
+                }
+            } else if (d.isDayEmpty()) {
+                days.remove(d);
+            } else {
+                days.markUpdated(d);
+            }
+        }
+        affectedDays.clear();
     }
 
     /**
@@ -106,7 +336,49 @@ public class TaskBook implements ReadOnlyTaskBook {
     public void resetData(ReadOnlyTaskBook newData) {
         requireNonNull(newData);
 
-        setDatas(newData.getTaskList(), newData.getDayList());
+        setTasks(newData.getTaskList());
+    }
+
+    /**
+     * Applies the changes of {@code transaction} to this task book in a single batch.
+     * The changes must be valid when applied in order, as for the single-task operations.
+     */
+    public void applyTransaction(TaskBookTransaction transaction) {
+        requireNonNull(transaction);
+        beginBatch();
+        try {
+            transaction.applyTo(this);
+        } finally {
+            endBatch();
+        }
+    }
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #endBatch()}, changes to the task and day lists are
+     * collected into a single change of each list, and listeners of this task book are not notified.
+     * Batches may be nested; only the outermost one reports.
+     */
+    protected void beginBatch() {
+        if (batchDepth++ == 0) {
+            tasks.beginBatch();
+            days.beginBatch();
+        }
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, reporting the changes made in it.
+     */
+    protected void endBatch() {
+        if (--batchDepth > 0) {
+            return;
+        }
+        reportAffectedDays();
+        tasks.endBatch();
+        days.endBatch();
+        if (isModifiedInBatch) {
+            isModifiedInBatch = false;
+            indicateModified();
+        }
     }
 
     //// task-level operations
@@ -119,27 +391,109 @@ public class TaskBook implements ReadOnlyTaskBook {
         return tasks.contains(task);
     }
 
+    /**
+     * Returns the task carrying {@code id}, if any.
+     */
+    @Override
+    public Optional<Task> getTaskById(long id) {
+        return Optional.ofNullable(idMap.get(id));
+    }
+
+    @Override
+    public List<Task> getTasksStartingBetween(int fromEpochDay, int toEpochDay) {
+        return dateIndex.startingBetween(fromEpochDay, toEpochDay);
+    }
+
+    @Override
+    public List<Task> getTasksOverlapping(int fromEpochDay, int toEpochDay) {
+        return dateIndex.overlapping(fromEpochDay, toEpochDay);
+    }
+
+    @Override
+    public List<Task> getTasksEndingBefore(int epochDay) {
+        return dateIndex.endingBefore(epochDay);
+    }
+
+    @Override
+    public TaskIdBitmap getTaskIds() {
+        return attributeIndex.all();
+    }
+
+    @Override
+    public TaskIdBitmap getTaskIdsWithCategory(Categories category) {
+        return attributeIndex.withCategory(category);
+    }
+
+    @Override
+    public TaskIdBitmap getTaskIdsStartingInMonth(int epochMonth) {
+        return attributeIndex.startingInMonth(epochMonth);
+    }
+
+    @Override
+    public TaskIdBitmap getTaskIdsWithTag(String tagName) {
+        return attributeIndex.withTag(tagName);
+    }
+
+    @Override
+    public TaskIdBitmap getTaskIdsWithNameWord(String word) {
+        return keywordIndex.withWord(word);
+    }
+
+    @Override
+    public TaskIdBitmap getTaskIdsWithNameWordNear(String word, int maxTypos) {
+        return keywordIndex.withWordNear(word, maxTypos);
+    }
+
+    @Override
+    public List<Task> searchTasks(String query, int limit) {
+        List<Task> ranked = new ArrayList<>();
+        for (long id : textIndex.search(query, limit)) {
+            ranked.add(idMap.get(id));
+        }
+        return ranked;
+    }
+
     /**
      * Adds a task to the task book.
      * The task must not already exist in the task book.
+     * The task keeps its id if it has one that is not taken, and is given a new id otherwise.
      */
-    public void addTask(Task t) {
-        tasks.add(t);
-        String dateS = t.getStartDate().toString();
-        String dateE = t.getEndDate().toString();
-        if (dateS.equalsIgnoreCase(dateE)) {
-            addingDay(t, dateS);
-            return;
-        }
-        indicateModified();
+    public void addTask(Task toAdd) {
+        addTask(tasks.asUnmodifiableObservableList().size(), toAdd);
     }
 
     /**
-     * Add day into uniqueDayList
-     * @param d
+     * Makes sure that no task added from now on is given an id below {@code id}, such as the id of a task that was
+     * moved out of the task book.
      */
-    public void addDay(Day d) {
-        days.add(d);
+    public void reserveTaskIdsBelow(long id) {
+        nextTaskId = Math.max(nextTaskId, id);
+        reservedIdLimit = Math.max(reservedIdLimit, id);
+        ownIds = TaskIdBitmap.of(tasks);
+    }
+
+    /**
+     * Returns true if {@code task} can keep its id among the tasks in {@code ids}: it has one, the id is not taken,
+     * and the id is not reserved unless the task book already held it when it was reserved.
+     */
+    private boolean canKeepId(Task task, Map<Long, Task> ids) {
+        long id = task.getId();
+        return task.hasId() && !ids.containsKey(id) && (id >= reservedIdLimit || ownIds.contains(id));
+    }
+
+    /**
+     * Inserts a task into the task list at {@code index}, as {@link #addTask(Task)} does at the end of it.
+     */
+    protected void addTask(int index, Task toAdd) {
+        Task t = canKeepId(toAdd, idMap) ? toAdd : toAdd.withId(nextTaskId);
+        tasks.add(index, t);
+        idMap.put(t.getId(), t);
+        dateIndex.add(t);
+        attributeIndex.add(t);
+        keywordIndex.add(t);
+        textIndex.add(t);
+        nextTaskId = Math.max(nextTaskId, t.getId() + 1);
+        updateDays(Collections.emptyList(), Collections.singletonList(t));
         indicateModified();
     }
 
@@ -147,78 +501,28 @@ public class TaskBook implements ReadOnlyTaskBook {
      * Replaces the given task {@code target} in the list with {@code editedTask}.
      * {@code target} must exist in the task book.
      * The task identity of {@code editedTask} must not be the same as another existing task in the task book.
+     * {@code editedTask} takes over the id of {@code target}.
      */
     public void setTask(Task target, Task editedTask) {
         requireNonNull(editedTask);
-        tasks.setTask(target, editedTask);
-        String targetDateS = target.getStartDate().toString();
-        String targetDateE = target.getEndDate().toString();
-        String editedDateS = editedTask.getStartDate().toString();
-        String editedDateE = editedTask.getEndDate().toString();
-
-        if (targetDateE.equalsIgnoreCase(targetDateS) && !editedDateE.equalsIgnoreCase(editedDateS)) {
-            Date date = new Date(targetDateS);
-            if (!dayMap.containsKey(date)) {
-            }
-            Day d = dayMap.get(date);
-            days.remove(d);
-            dayMap.remove(date, d);
-            d.removeCategory(target);
-            if (!d.isDayEmpty()) {
-                days.add(d);
-                dayMap.put(date, d);
-            }
-            indicateModified();
-        } else if (!targetDateE.equalsIgnoreCase(targetDateS) && editedDateE.equalsIgnoreCase(editedDateS)) {
-            Date date = new Date(editedDateS);
-            if (!dayMap.containsKey(date)) {
-                dayMap.put(date, new Day(date));
-                Day a = dayMap.get(date);
-                dayMap.remove(date, a);
-                days.add(a);
-                dayMap.put(date, a);
-            }
-            Day d = dayMap.get(date);
-            dayMap.remove(date, d);
-            days.remove(d);
-            d.addCategory(editedTask);
-            addDay(d);
-            dayMap.put(date, d);
-            indicateModified();
-        } else if (targetDateE.equalsIgnoreCase(targetDateS) && editedDateE.equalsIgnoreCase(editedDateS)) {
-            Date targetStartDate = new Date(targetDateS);
-            Date editedStartDate = new Date(editedDateS);
-
-            if (!targetStartDate.equals(editedStartDate)) {
-                if (!dayMap.containsKey(editedStartDate)) {
-                    dayMap.put(editedStartDate, new Day(editedStartDate));
-                }
-                Day eD = dayMap.get(editedStartDate);
-                dayMap.remove(editedStartDate, eD);
-                days.add(eD);
-                days.remove(eD);
-                eD.addCategory(editedTask);
-                days.add(eD);
-                dayMap.put(editedStartDate, eD);
-
-                Day tD = dayMap.get(targetStartDate);
-                dayMap.remove(targetStartDate, tD);
-                days.remove(tD);
-                tD.removeCategory(target);
-                days.add(tD);
-                dayMap.put(targetStartDate, tD);
-
-                indicateModified();
-                return;
-            }
-            Day tD = dayMap.get(targetStartDate);
-            dayMap.remove(targetStartDate, tD);
-            days.remove(tD);
-            tD.editCategory(target, editedTask);
-            addDay(tD);
-            dayMap.put(targetStartDate, tD);
-            indicateModified();
+        int index = indexOfTask(target);
+        if (index == -1) {
+            throw new TaskNotFoundException();
         }
+        Task stored = getTaskList().get(index);
+        Task editedWithId = editedTask.withId(stored.getId());
+        tasks.setTask(index, editedWithId);
+        idMap.put(editedWithId.getId(), editedWithId);
+        dateIndex.remove(stored);
+        dateIndex.add(editedWithId);
+        attributeIndex.remove(stored);
+        attributeIndex.add(editedWithId);
+        keywordIndex.remove(stored);
+        keywordIndex.add(editedWithId);
+        textIndex.remove(stored);
+        textIndex.add(editedWithId);
+        updateDays(Collections.singletonList(stored), Collections.singletonList(editedWithId));
+        indicateModified();
     }
 
     /**
@@ -226,29 +530,52 @@ public class TaskBook implements ReadOnlyTaskBook {
      * {@code key} must exist in the task book.
      */
     public void removeTask(Task key) {
-        String dateS = key.getStartDate().toString();
-        String dateE = key.getEndDate().toString();
-        if (dateS.equalsIgnoreCase(dateE)) {
-            Date date = new Date(dateS);
-            if (dayMap.containsKey(date)) {
-
-                Day d = dayMap.get(date);
-                dayMap.remove(date, d);
-                days.remove(d);
-                d.removeCategory(key);
-                if (!d.isDayEmpty()) {
-                    days.add(d);
-                    dayMap.put(date, d);
-                }
-                tasks.remove(key);
-                indicateModified();
-                return;
-            }
+        int index = indexOfTask(key);
+        if (index == -1) {
+            throw new TaskNotFoundException();
         }
-        tasks.remove(key);
+        Task stored = getTaskList().get(index);
+        idMap.remove(stored.getId());
+        dateIndex.remove(stored);
+        attributeIndex.remove(stored);
+        keywordIndex.remove(stored);
+        textIndex.remove(stored);
+        tasks.remove(index);
+        updateDays(Collections.singletonList(stored), Collections.emptyList());
         indicateModified();
     }
 
+    /**
+     * Removes the tasks equivalent to those in {@code keys} from this {@code TaskBook}, in a single pass over the task
+     * list. Every task in {@code keys} must exist in the task book; if one does not, nothing is removed.
+     */
+    public void removeTasks(Collection<Task> keys) {
+        requireNonNull(keys);
+        beginBatch();
+        try {
+            List<Task> removed = tasks.removeAll(keys);
+            for (Task stored : removed) {
+                idMap.remove(stored.getId());
+                dateIndex.remove(stored);
+                attributeIndex.remove(stored);
+                keywordIndex.remove(stored);
+                textIndex.remove(stored);
+            }
+            updateDays(removed, Collections.emptyList());
+            indicateModified();
+        } finally {
+            endBatch();
+        }
+    }
+
+    /**
+     * Returns the position of the equivalent task in the task list, or -1 if there is none.
+     * The position is looked up rather than searched for.
+     */
+    protected int indexOfTask(Task task) {
+        return tasks.indexOf(task);
+    }
+
     /**
      * Sort tasks in the storage by given comparator.
      */
@@ -257,6 +584,15 @@ public class TaskBook implements ReadOnlyTaskBook {
         indicateModified();
     }
 
+    /**
+     * Puts the tasks in the order given by {@code order}: position {@code i} gets the task at position
+     * {@code order[i]}. Only the order of the tasks changes, so the indexes and days stay as they are.
+     */
+    protected void reorderTasks(int[] order) {
+        tasks.reorder(order);
+        indicateModified();
+    }
+
 
     @Override
     public void addListener(InvalidationListener listener) {
@@ -272,6 +608,10 @@ public class TaskBook implements ReadOnlyTaskBook {
      * Notifies listeners that the task book has been modified.
      */
     protected void indicateModified() {
+        if (batchDepth > 0) {
+            isModifiedInBatch = true;
+            return;
+        }
         invalidationListenerManager.callListeners(this);
     }
 
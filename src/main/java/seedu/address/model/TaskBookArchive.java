@@ -0,0 +1,40 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.model.task.Task;
+
+/**
+ * The archive of a task book: the tasks moved out of the task book, which are only read when asked for.
+ * An archive never changes; archiving more tasks gives a new archive.
+ */
+public interface TaskBookArchive {
+
+    /**
+     * Returns the greatest id of the archived tasks, or {@code Task.UNASSIGNED_ID} if there are none.
+     */
+    long getMaxId();
+
+    /**
+     * Returns every archived task, ordered by start date.
+     *
+     * @throws IOException if the archive cannot be read.
+     */
+    List<Task> getTasks() throws IOException;
+
+    /**
+     * Returns the archived tasks starting between {@code fromEpochDay} and {@code toEpochDay} inclusive, ordered by
+     * start date.
+     *
+     * @throws IOException if the archive cannot be read.
+     */
+    List<Task> getTasksStartingBetween(int fromEpochDay, int toEpochDay) throws IOException;
+
+    /**
+     * Returns an archive holding the tasks of this archive and {@code tasks}, written before it is returned.
+     *
+     * @throws IOException if this archive cannot be read or the new one cannot be written.
+     */
+    TaskBookArchive withTasks(List<Task> tasks) throws IOException;
+}
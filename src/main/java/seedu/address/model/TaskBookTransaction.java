@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.address.model.task.Task;
+
+/**
+ * A sequence of task additions, edits and removals to apply to a task book together.
+ * Applying it notifies the listeners of the task book, its task list and its day list once, however many tasks
+ * change, and it is undone and redone as a whole if committed as one state.
+ */
+public class TaskBookTransaction {
+
+    private final List<Consumer<TaskBook>> changes = new ArrayList<>();
+
+    /**
+     * Adds {@code toAdd} to the task book, as {@link TaskBook#addTask(Task)} does.
+     */
+    public TaskBookTransaction addTask(Task toAdd) {
+        requireNonNull(toAdd);
+        changes.add(taskBook -> taskBook.addTask(toAdd));
+        return this;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedTask}, as {@link TaskBook#setTask(Task, Task)} does.
+     */
+    public TaskBookTransaction setTask(Task target, Task editedTask) {
+        requireAllNonNull(target, editedTask);
+        changes.add(taskBook -> taskBook.setTask(target, editedTask));
+        return this;
+    }
+
+    /**
+     * Removes {@code key} from the task book, as {@link TaskBook#removeTask(Task)} does.
+     */
+    public TaskBookTransaction removeTask(Task key) {
+        requireNonNull(key);
+        changes.add(taskBook -> taskBook.removeTask(key));
+        return this;
+    }
+
+    /**
+     * Returns true if the transaction changes nothing.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Applies the changes to {@code taskBook} in the order they were made.
+     * Called by {@link TaskBook#applyTransaction(TaskBookTransaction)}, which batches them.
+     */
+    void applyTo(TaskBook taskBook) {
+        changes.forEach(change -> change.accept(taskBook));
+    }
+}
@@ -13,8 +13,20 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * The formats the task book can be stored in.
+     */
+    public enum TaskBookFormat {
+        JSON,
+        /** A compact binary file beside the json file, see {@code BinaryTaskBookStorage}. */
+        BINARY,
+        /** One json file per month, see {@code SegmentedTaskBookStorage}. */
+        SEGMENTED
+    }
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path taskBookFilePath = Paths.get("data" , "taskbook.json");
+    private TaskBookFormat taskBookFormat = TaskBookFormat.JSON;
     private Path daysKeeperFilePath = Paths.get("data" , "dayskeeper.json");
     private Path exportCsvFilePath = Paths.get("data", "tasketch.json");
     private Path accountListFilePath = Paths.get("data" , "AccountList.json");
@@ -39,6 +51,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTaskBookFilePath(newUserPrefs.getTaskBookFilePath());
+        setTaskBookFormat(newUserPrefs.getTaskBookFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -64,6 +77,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.taskBookFilePath = taskBookFilePath;
     }
 
+    public TaskBookFormat getTaskBookFormat() {
+        return taskBookFormat;
+    }
+
+    public void setTaskBookFormat(TaskBookFormat taskBookFormat) {
+        requireNonNull(taskBookFormat);
+        this.taskBookFormat = taskBookFormat;
+    }
+
 
     public Path getExportCsvFilePath() {
         return exportCsvFilePath;
@@ -90,12 +112,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 && taskBookFilePath.equals(o.taskBookFilePath)
                 && daysKeeperFilePath.equals(o.daysKeeperFilePath)
                 && exportCsvFilePath.equals(o.exportCsvFilePath)
-                && taskBookFilePath.equals(o.taskBookFilePath);
+                && taskBookFilePath.equals(o.taskBookFilePath)
+                && taskBookFormat == o.taskBookFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, taskBookFilePath);
+        return Objects.hash(guiSettings, taskBookFilePath, taskBookFormat);
     }
 
     @Override
@@ -34,6 +34,15 @@ public class VersionedAccountList extends AccountList {
     }
 
 
+    /**
+     * Makes the current account list the only state, forgetting the states before and after it.
+     */
+    public void clearHistory() {
+        accountListStateList.clear();
+        accountListStateList.add(new AccountList(this));
+        currentStatePointer = 0;
+    }
+
     private void removeStatesAfterCurrentPointer() {
         accountListStateList.subList(currentStatePointer + 1, accountListStateList.size()).clear();
     }
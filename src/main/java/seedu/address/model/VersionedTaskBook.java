@@ -1,37 +1,65 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import seedu.address.model.day.Day;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
 
 /**
  * {@code TaskBook} that keeps track of its own history.
+ * Rather than a copy of the task book for every state, the history holds the changes made between consecutive
+ * states. The tasks themselves are immutable and shared between the changes and the task book, so a commit takes
+ * constant time and the history only grows with the changes made. Undoing and redoing apply the changes of one
+ * state to the task book in place, instead of rebuilding it from a copy.
  */
 public class VersionedTaskBook extends TaskBook {
 
-    private final List<ReadOnlyTaskBook> taskBookStateList;
+    /** The changes leading from each state to the next. */
+    private final List<List<TaskBookChange>> changesByState = new ArrayList<>();
+    /** The changes made since the current state. */
+    private List<TaskBookChange> pendingChanges = new ArrayList<>();
     private int currentStatePointer;
+    private boolean isReplaying;
 
     public VersionedTaskBook(ReadOnlyTaskBook initialState) {
-        super(initialState);
-
-        taskBookStateList = new ArrayList<>();
-        taskBookStateList.add(new TaskBook(initialState));
+        super();
+        resetData(initialState);
+        pendingChanges.clear();
         currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code TaskBook} state at the end of the state list.
+     * Saves the current {@code TaskBook} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        taskBookStateList.add(new TaskBook(this));
+        changesByState.add(pendingChanges);
+        pendingChanges = new ArrayList<>();
         currentStatePointer++;
         indicateModified();
     }
 
+    /**
+     * Makes the current task book the only state, forgetting the states before and after it along with the changes
+     * made since it. The history no longer holds on to the tasks that these changes removed.
+     */
+    public void clearHistory() {
+        changesByState.clear();
+        pendingChanges.clear();
+        currentStatePointer = 0;
+    }
+
     private void removeStatesAfterCurrentPointer() {
-        taskBookStateList.subList(currentStatePointer + 1, taskBookStateList.size()).clear();
+        changesByState.subList(currentStatePointer, changesByState.size()).clear();
     }
 
     /**
@@ -41,8 +69,9 @@ public class VersionedTaskBook extends TaskBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        discardPendingChanges();
         currentStatePointer--;
-        resetData(taskBookStateList.get(currentStatePointer));
+        replay(() -> undo(changesByState.get(currentStatePointer)));
     }
 
     /**
@@ -52,8 +81,9 @@ public class VersionedTaskBook extends TaskBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        discardPendingChanges();
+        replay(() -> changesByState.get(currentStatePointer).forEach(change -> change.redo(this)));
         currentStatePointer++;
-        resetData(taskBookStateList.get(currentStatePointer));
     }
 
     /**
@@ -67,7 +97,108 @@ public class VersionedTaskBook extends TaskBook {
      * Returns true if {@code redo()} has task book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < taskBookStateList.size() - 1;
+        return currentStatePointer < changesByState.size();
+    }
+
+    /**
+     * Undoes the changes made since the current state, which would otherwise be lost from the history.
+     */
+    private void discardPendingChanges() {
+        replay(() -> undo(pendingChanges));
+        pendingChanges.clear();
+    }
+
+    private void undo(List<TaskBookChange> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).undo(this);
+        }
+    }
+
+    /**
+     * Runs {@code replay} in a single batch, without recording the changes it makes.
+     */
+    private void replay(Runnable replay) {
+        beginBatch();
+        isReplaying = true;
+        try {
+            replay.run();
+        } finally {
+            isReplaying = false;
+            endBatch();
+        }
+    }
+
+    private void record(TaskBookChange change) {
+        if (!isReplaying) {
+            pendingChanges.add(change);
+        }
+    }
+
+    @Override
+    public void setTasks(List<Task> tasks) {
+        List<Task> before = new ArrayList<>(getTaskList());
+        super.setTasks(tasks);
+        record(TasksReplaced.between(before, getTaskList()));
+    }
+
+    @Override
+    public void setTasks(List<Task> tasks, List<Day> days) {
+        List<Task> before = new ArrayList<>(getTaskList());
+        super.setTasks(tasks, days);
+        record(TasksReplaced.between(before, getTaskList()));
+    }
+
+    @Override
+    protected void addTask(int index, Task toAdd) {
+        super.addTask(index, toAdd);
+        record(new TaskReplaced(index, null, getTaskList().get(index)));
+    }
+
+    @Override
+    public void setTask(Task target, Task editedTask) {
+        int index = indexOfTask(target);
+        Task before = index == -1 ? null : getTaskList().get(index);
+        super.setTask(target, editedTask);
+        record(new TaskReplaced(index, before, getTaskList().get(index)));
+    }
+
+    @Override
+    public void removeTask(Task key) {
+        int index = indexOfTask(key);
+        Task before = index == -1 ? null : getTaskList().get(index);
+        super.removeTask(key);
+        record(new TaskReplaced(index, before, null));
+    }
+
+    @Override
+    public void removeTasks(Collection<Task> keys) {
+        int[] indexes = keys.stream().mapToInt(this::indexOfTask).distinct().sorted().toArray();
+        if (indexes.length > 0 && indexes[0] == -1) {
+            super.removeTasks(keys); // throws, as a task is not in the task book
+            return;
+        }
+        List<Task> before = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            before.add(getTaskList().get(index));
+        }
+        super.removeTasks(keys);
+        record(new TasksRemoved(indexes, before));
+    }
+
+    /**
+     * Sorts the tasks as {@link TaskBook#sortTaskByDate(Comparator)} does, and records the order they were put in
+     * rather than the task lists before and after.
+     */
+    @Override
+    public void sortTaskByDate(Comparator<Task> comparator) {
+        List<Task> tasks = getTaskList();
+        // a stable sort of the positions, as the sort of the tasks themselves is
+        int[] order = IntStream.range(0, tasks.size()).boxed()
+                .sorted(Comparator.comparing(tasks::get, comparator))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        reorderTasks(order);
+        record(new TasksReordered(order));
     }
 
     @Override
@@ -86,8 +217,342 @@ public class VersionedTaskBook extends TaskBook {
 
         // state check
         return super.equals(otherVersionedTaskBook)
-                && taskBookStateList.equals(otherVersionedTaskBook.taskBookStateList)
-                && currentStatePointer == otherVersionedTaskBook.currentStatePointer;
+                && currentStatePointer == otherVersionedTaskBook.currentStatePointer
+                && getStateTaskLists().equals(otherVersionedTaskBook.getStateTaskLists());
+    }
+
+    /**
+     * Returns the task list of every state, rebuilt by replaying the changes on plain lists.
+     * Only the comparison of two histories needs the states themselves.
+     */
+    private List<List<Task>> getStateTaskLists() {
+        List<Task> current = new ArrayList<>(getTaskList());
+        for (int i = pendingChanges.size() - 1; i >= 0; i--) {
+            pendingChanges.get(i).undo(current);
+        }
+
+        List<List<Task>> states = new ArrayList<>();
+        List<Task> earlier = new ArrayList<>(current);
+        for (int i = currentStatePointer - 1; i >= 0; i--) {
+            List<TaskBookChange> changes = changesByState.get(i);
+            for (int j = changes.size() - 1; j >= 0; j--) {
+                changes.get(j).undo(earlier);
+            }
+            states.add(new ArrayList<>(earlier));
+        }
+        Collections.reverse(states);
+        states.add(current);
+        List<Task> later = new ArrayList<>(current);
+        for (int i = currentStatePointer; i < changesByState.size(); i++) {
+            changesByState.get(i).forEach(change -> change.redo(later));
+            states.add(new ArrayList<>(later));
+        }
+        return states;
+    }
+
+    /**
+     * A change made to the task book between two states, which can be undone and redone.
+     */
+    private interface TaskBookChange {
+        void undo(TaskBook taskBook);
+
+        void redo(TaskBook taskBook);
+
+        /** Undoes the change on a plain list of the tasks of the task book. */
+        void undo(List<Task> tasks);
+
+        /** Redoes the change on a plain list of the tasks of the task book. */
+        void redo(List<Task> tasks);
+    }
+
+    /**
+     * The task at {@code index} of the task list changed from {@code before} to {@code after}.
+     * {@code before} is null for an added task, and {@code after} is null for a removed task.
+     */
+    private static class TaskReplaced implements TaskBookChange {
+        private final int index;
+        private final Task before;
+        private final Task after;
+
+        TaskReplaced(int index, Task before, Task after) {
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(TaskBook taskBook) {
+            replace(taskBook, after, before);
+        }
+
+        @Override
+        public void redo(TaskBook taskBook) {
+            replace(taskBook, before, after);
+        }
+
+        @Override
+        public void undo(List<Task> tasks) {
+            replace(tasks, after, before);
+        }
+
+        @Override
+        public void redo(List<Task> tasks) {
+            replace(tasks, before, after);
+        }
+
+        private void replace(TaskBook taskBook, Task from, Task to) {
+            if (from == null) {
+                taskBook.addTask(index, to);
+            } else if (to == null) {
+                taskBook.removeTask(from);
+            } else {
+                taskBook.setTask(from, to);
+            }
+        }
+
+        private void replace(List<Task> tasks, Task from, Task to) {
+            if (from == null) {
+                tasks.add(index, to);
+            } else if (to == null) {
+                tasks.remove(index);
+            } else {
+                tasks.set(index, to);
+            }
+        }
+    }
+
+    /**
+     * The tasks {@code removed} were removed together from the positions {@code indexes} of the task list, given in
+     * increasing order.
+     */
+    private static class TasksRemoved implements TaskBookChange {
+        private final int[] indexes;
+        private final List<Task> removed;
+
+        TasksRemoved(int[] indexes, List<Task> removed) {
+            this.indexes = indexes;
+            this.removed = removed;
+        }
+
+        @Override
+        public void undo(TaskBook taskBook) {
+            // inserted from the first, each task goes back to its position once those before it are back
+            for (int i = 0; i < indexes.length; i++) {
+                taskBook.addTask(indexes[i], removed.get(i));
+            }
+        }
+
+        @Override
+        public void redo(TaskBook taskBook) {
+            taskBook.removeTasks(removed);
+        }
+
+        @Override
+        public void undo(List<Task> tasks) {
+            for (int i = 0; i < indexes.length; i++) {
+                tasks.add(indexes[i], removed.get(i));
+            }
+        }
+
+        @Override
+        public void redo(List<Task> tasks) {
+            for (int i = indexes.length - 1; i >= 0; i--) {
+                tasks.remove(indexes[i]);
+            }
+        }
+    }
+
+    /**
+     * The task list was replaced, which removed the tasks {@code removed} from the positions {@code removedIndexes}
+     * of the list before and put the tasks {@code added} at the positions {@code addedIndexes} of the list after,
+     * with both positions in increasing order. The tasks kept stay in the same order, so only the tasks that
+     * changed are held, and replaying the change goes through the same update of the differing tasks alone.
+     */
+    private static class TasksReplaced implements TaskBookChange {
+        private final int[] removedIndexes;
+        private final List<Task> removed;
+        private final int[] addedIndexes;
+        private final List<Task> added;
+
+        TasksReplaced(int[] removedIndexes, List<Task> removed, int[] addedIndexes, List<Task> added) {
+            this.removedIndexes = removedIndexes;
+            this.removed = removed;
+            this.addedIndexes = addedIndexes;
+            this.added = added;
+        }
+
+        /**
+         * Returns the change from the task list {@code before} to {@code after}. A task is kept if a task identical
+         * to it is in both lists; the others are removed and added. If the tasks kept are in a different order in
+         * {@code after}, the whole list is recorded instead.
+         */
+        static TaskBookChange between(List<Task> before, List<Task> after) {
+            Map<Name, Integer> afterIndexes = new HashMap<>();
+            for (int i = 0; i < after.size(); i++) {
+                afterIndexes.put(after.get(i).getName(), i);
+            }
+            boolean[] isKept = new boolean[after.size()];
+            List<Integer> removedIndexes = new ArrayList<>();
+            List<Task> removed = new ArrayList<>();
+            int lastKeptIndex = -1;
+            for (int i = 0; i < before.size(); i++) {
+                Task task = before.get(i);
+                Integer afterIndex = afterIndexes.get(task.getName());
+                if (afterIndex == null || !after.get(afterIndex).isIdenticalTo(task)) {
+                    removedIndexes.add(i);
+                    removed.add(task);
+                } else if (afterIndex < lastKeptIndex) {
+                    return new TaskListReplaced(before, new ArrayList<>(after));
+                } else {
+                    isKept[afterIndex] = true;
+                    lastKeptIndex = afterIndex;
+                }
+            }
+            List<Integer> addedIndexes = new ArrayList<>();
+            List<Task> added = new ArrayList<>();
+            for (int i = 0; i < after.size(); i++) {
+                if (!isKept[i]) {
+                    addedIndexes.add(i);
+                    added.add(after.get(i));
+                }
+            }
+            return new TasksReplaced(removedIndexes.stream().mapToInt(Integer::intValue).toArray(), removed,
+                    addedIndexes.stream().mapToInt(Integer::intValue).toArray(), added);
+        }
+
+        @Override
+        public void undo(TaskBook taskBook) {
+            taskBook.setTasks(patch(taskBook.getTaskList(), addedIndexes, removedIndexes, removed));
+        }
+
+        @Override
+        public void redo(TaskBook taskBook) {
+            taskBook.setTasks(patch(taskBook.getTaskList(), removedIndexes, addedIndexes, added));
+        }
+
+        @Override
+        public void undo(List<Task> tasks) {
+            List<Task> patched = patch(tasks, addedIndexes, removedIndexes, removed);
+            tasks.clear();
+            tasks.addAll(patched);
+        }
+
+        @Override
+        public void redo(List<Task> tasks) {
+            List<Task> patched = patch(tasks, removedIndexes, addedIndexes, added);
+            tasks.clear();
+            tasks.addAll(patched);
+        }
+
+        /**
+         * Returns {@code tasks} without the tasks at the positions {@code outIndexes}, and with the tasks {@code in}
+         * at the positions {@code inIndexes} of the returned list, in a single pass over {@code tasks}.
+         */
+        private static List<Task> patch(List<Task> tasks, int[] outIndexes, int[] inIndexes, List<Task> in) {
+            List<Task> patched = new ArrayList<>(tasks.size() - outIndexes.length + inIndexes.length);
+            int nextOut = 0;
+            int nextIn = 0;
+            for (int i = 0; i < tasks.size(); i++) {
+                if (nextOut < outIndexes.length && outIndexes[nextOut] == i) {
+                    nextOut++;
+                    continue;
+                }
+                while (nextIn < inIndexes.length && inIndexes[nextIn] == patched.size()) {
+                    patched.add(in.get(nextIn++));
+                }
+                patched.add(tasks.get(i));
+            }
+            while (nextIn < inIndexes.length) {
+                patched.add(in.get(nextIn++));
+            }
+            return patched;
+        }
+    }
+
+    /**
+     * The tasks were put in the order {@code order}: position {@code i} got the task at position {@code order[i]},
+     * as when the task book is sorted. Only the positions are held, not the tasks.
+     */
+    private static class TasksReordered implements TaskBookChange {
+        private final int[] order;
+
+        TasksReordered(int[] order) {
+            this.order = order;
+        }
+
+        @Override
+        public void undo(TaskBook taskBook) {
+            taskBook.reorderTasks(inverse(order));
+        }
+
+        @Override
+        public void redo(TaskBook taskBook) {
+            taskBook.reorderTasks(order);
+        }
+
+        @Override
+        public void undo(List<Task> tasks) {
+            reorder(tasks, inverse(order));
+        }
+
+        @Override
+        public void redo(List<Task> tasks) {
+            reorder(tasks, order);
+        }
+
+        private static int[] inverse(int[] order) {
+            int[] inverse = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                inverse[order[i]] = i;
+            }
+            return inverse;
+        }
+
+        private static void reorder(List<Task> tasks, int[] order) {
+            List<Task> reordered = new ArrayList<>(order.length);
+            for (int position : order) {
+                reordered.add(tasks.get(position));
+            }
+            tasks.clear();
+            tasks.addAll(reordered);
+        }
+    }
+
+    /**
+     * The whole task list changed from {@code before} to {@code after}, as when the task list is replaced by one
+     * holding the same tasks in a different order. The lists hold the same tasks as the task book, not copies of
+     * them.
+     */
+    private static class TaskListReplaced implements TaskBookChange {
+        private final List<Task> before;
+        private final List<Task> after;
+
+        TaskListReplaced(List<Task> before, List<Task> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(TaskBook taskBook) {
+            taskBook.setTasks(before);
+        }
+
+        @Override
+        public void redo(TaskBook taskBook) {
+            taskBook.setTasks(after);
+        }
+
+        @Override
+        public void undo(List<Task> tasks) {
+            tasks.clear();
+            tasks.addAll(before);
+        }
+
+        @Override
+        public void redo(List<Task> tasks) {
+            tasks.clear();
+            tasks.addAll(after);
+        }
     }
 
     /**
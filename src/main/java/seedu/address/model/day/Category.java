@@ -1,8 +0,0 @@
-package seedu.address.model.day;
-
-/**
- * To extend an object to category.
- */
-public class Category {
-
-}
@@ -3,11 +3,14 @@ package seedu.address.model.day;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.DateUtil;
+
 /**
  * Represents a Day's date in the task book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
+ * Dates are ordered chronologically.
  */
-public class Date {
+public class Date implements Comparable<Date> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Date should only contain numbers & -, 2 digits-2 digits-2digits, ie: 12-03-19\n"
@@ -16,6 +19,12 @@ public class Date {
     public static final String VALIDATION_REGEX = "\\d{2}" + "-" + "\\d{2}" + "-" + "\\d{2}";
     public final String value;
 
+    /** The date as days since 1970-01-01, for comparing and filtering. */
+    private final int epochDay;
+
+    /** The month of the date as written, counted as in {@link DateUtil#toEpochMonth(String)}. */
+    private final int epochMonth;
+
     /**
      * Constructs a {@code Date}.
      *
@@ -25,6 +34,16 @@ public class Date {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
         value = date;
+        epochDay = DateUtil.toEpochDay(date);
+        epochMonth = DateUtil.toEpochMonth(date.substring("dd-".length()));
+    }
+
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    public int getEpochMonth() {
+        return epochMonth;
     }
 
     /**
@@ -46,6 +65,13 @@ public class Date {
         return false;
     }
 
+    @Override
+    public int compareTo(Date other) {
+        int byDay = Integer.compare(epochDay, other.epochDay);
+        // dates past the end of their month share a day with a date of the next month, but are not equal to it
+        return byDay != 0 ? byDay : value.compareTo(other.value);
+    }
+
     @Override
     public String toString() {
         return value;
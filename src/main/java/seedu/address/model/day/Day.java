@@ -9,19 +9,16 @@ import seedu.address.model.task.Task;
 
 /**
  * Represents a day in the task book.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Guarantees: details are present and not null, field values are validated.
+ * The date is immutable; the minutes spent on each category are counted in place as tasks on the day change.
  */
 public class Day {
 
-    public final String dafault = "0.0";
-
     // Identity fields
     private final Date date;
-    private Academic academic;
-    private Entertainment entertainment;
-    private Cca cca;
-    private Errand errand;
-    private Other other;
+
+    // Data fields
+    private final int[] minutes = new int[Categories.COUNT];
 
     /**
      * Every field must be present and not null.
@@ -29,169 +26,99 @@ public class Day {
     public Day(Date date) {
         requireAllNonNull(date);
         this.date = date;
-        this.academic = new Academic(dafault);
-        this.entertainment = new Entertainment(dafault);
-        this.cca = new Cca(dafault);
-        this.errand = new Errand(dafault);
-        this.other = new Other(dafault);
     }
 
-    public Day(Date date, Academic academic, Entertainment entertainment, Cca cca, Errand errand, Other other) {
-        this.date = date;
-        this.academic = academic;
-        this.entertainment = entertainment;
-        this.cca = cca;
-        this.errand = errand;
-        this.other = other;
+    /**
+     * Creates a day with the given minutes already spent on each category.
+     */
+    public Day(Date date, int academic, int entertainment, int cca, int errand, int other) {
+        this(date);
+        minutes[Categories.ACADEMIC.ordinal()] = academic;
+        minutes[Categories.ENTERTAINMENT.ordinal()] = entertainment;
+        minutes[Categories.CCA.ordinal()] = cca;
+        minutes[Categories.ERRAND.ordinal()] = errand;
+        minutes[Categories.OTHER.ordinal()] = other;
+    }
+
+    /**
+     * Creates a copy of {@code source}, which changes apart from it.
+     */
+    public Day(Day source) {
+        this(source.date);
+        System.arraycopy(source.minutes, 0, minutes, 0, minutes.length);
     }
 
     public Date getDate() {
         return date;
     }
 
-    public Academic getAcademic() {
-        return academic;
+    /**
+     * Returns the minutes spent on {@code category} on this day.
+     */
+    public int getMinutes(Categories category) {
+        return minutes[category.ordinal()];
     }
 
-    public Entertainment getEntertainment() {
-        return entertainment;
+    public int getAcademicMinutes() {
+        return getMinutes(Categories.ACADEMIC);
     }
 
-    public Cca getCca() {
-        return cca;
+    public int getEntertainmentMinutes() {
+        return getMinutes(Categories.ENTERTAINMENT);
     }
 
-    public Errand getErrand() {
-        return errand;
+    public int getCcaMinutes() {
+        return getMinutes(Categories.CCA);
     }
 
-    public Other getOther() {
-        return other;
+    public int getErrandMinutes() {
+        return getMinutes(Categories.ERRAND);
+    }
+
+    public int getOtherMinutes() {
+        return getMinutes(Categories.OTHER);
     }
 
     /**
-     * To add a time into the category for each task
+     * To add the time of a task into its category
      */
     public void addCategory(Task task) {
-
-        String timeStart = task.getStartTime().value;
-        String timeEnd = task.getEndTime().value;
-        String category = task.getCategories().value;
-        switch(category) {
-        case Categories.CAT_ACADEMIC:
-            academic.addTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_CCA:
-            cca.addTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_ENTERTAINMENT:
-            entertainment.addTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_ERRAND:
-            errand.addTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_OTHER:
-            other.addTime(calculateTime(timeStart, timeEnd));
-            break;
-        default:
-            break;
-        }
+        addMinutes(task, 1);
     }
 
     /**
-     * To remove a time into the category for each task
+     * To remove the time of a task from its category
      */
     public void removeCategory(Task task) {
-
-        String timeStart = task.getStartTime().value;
-        String timeEnd = task.getEndTime().value;
-        String category = task.getCategories().value;
-        switch(category) {
-        case Categories.CAT_ACADEMIC:
-            academic.removeTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_CCA:
-            cca.removeTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_ENTERTAINMENT:
-            entertainment.removeTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_ERRAND:
-            errand.removeTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_OTHER:
-            other.removeTime(calculateTime(timeStart, timeEnd));
-            break;
-        default:
-            break;
-        }
+        addMinutes(task, -1);
     }
 
     /**
-     * To edit a time into the category for each task
+     * To move the time of a task from its old category and duration to its edited ones
      */
     public void editCategory(Task task, Task editedTask) {
-
-        String taskCategory = task.getCategories().value;
-        String editedTaskCategory = editedTask.getCategories().value;
-
-        if (taskCategory.equals(editedTaskCategory)) {
-            removeCategory(task);
-            addCategory(editedTask);
-        } else {
-            removeCategory(task);
-            addCategory(editedTask);
-        }
+        removeCategory(task);
+        addCategory(editedTask);
     }
 
     /**
-     * To calculate time into the category for each task
+     * Adds the duration of {@code task} to its category, {@code sign} times.
      */
-    public double calculateTime(String start, String end) {
-        String[] splitStart = start.split("\\.");
-        String[] splitEnd = end.split("\\.");
-
-        int startHour = Integer.valueOf(splitStart[0]);
-        int startMinute = Integer.valueOf(splitStart[1]);
-        int endHour = Integer.valueOf(splitEnd[0]);
-        int endMinute = Integer.valueOf(splitEnd[1]);
-
-        int s = startHour * 60 + startMinute;
-        int e = endHour * 60 + endMinute;
-        int duration = e - s;
-        int hours = duration / 60;
-        int mins = duration % 60;
-
-        final StringBuilder builder = new StringBuilder();
-        builder.append(hours)
-                .append(".")
-                .append(mins);
-        String st = builder.toString();
-
-        return Double.valueOf(st);
+    private void addMinutes(Task task, int sign) {
+        minutes[task.getCategories().ordinal()] +=
+                sign * (task.getEndTime().getMinuteOfDay() - task.getStartTime().getMinuteOfDay());
     }
 
     /**
      * To check whether each categories for a task is empty
      */
     public boolean isDayEmpty() {
-        double academicTime;
-        double ccaTime;
-        double entertainmentTime;
-        double errandTime;
-        double otherTime;
-
-        academicTime = academic.getTimeDouble();
-        ccaTime = cca.getTimeDouble();
-        entertainmentTime = entertainment.getTimeDouble();
-        errandTime = errand.getTimeDouble();
-        otherTime = other.getTimeDouble();
-
-        if (academicTime == 0 && ccaTime == 0 && entertainmentTime == 0 && errandTime == 0 && otherTime == 0) {
-            return true;
+        for (int categoryMinutes : minutes) {
+            if (categoryMinutes != 0) {
+                return false;
+            }
         }
-        return false;
-
+        return true;
     }
 
     /**
@@ -228,7 +155,8 @@ public class Day {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(date, academic, entertainment, cca, errand, other);
+        // the minutes change in place, so only the date is hashed, as only the date is compared
+        return Objects.hash(date);
     }
 
     @Override
@@ -236,15 +164,15 @@ public class Day {
         final StringBuilder builder = new StringBuilder();
         builder.append(getDate())
                 .append(" AcademicTime: ")
-                .append(getAcademic().getTime())
+                .append(getAcademicMinutes())
                 .append(" EntertainmentTime: ")
-                .append(getEntertainment().getTime())
+                .append(getEntertainmentMinutes())
                 .append(" CcaTime: ")
-                .append(getCca().getTime())
+                .append(getCcaMinutes())
                 .append(" ErrandTime: ")
-                .append(getErrand().getTime())
+                .append(getErrandMinutes())
                 .append(" OtherTime: ")
-                .append(getOther().getTime());
+                .append(getOtherMinutes());
         return builder.toString();
     }
 }
@@ -0,0 +1,157 @@
+package seedu.address.model.day;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable view of the days of a date-ordered day list that fall within a date range, both ends inclusive.
+ * The days in the range are a contiguous run of the source list, so the view only keeps the start and size
+ * of that run. The run is found by binary search when the range changes, and shifted as the source changes.
+ * A day is in the range if the day it falls on is, so a date written past the end of its month, such as 30-02-19,
+ * is in the range of the day of the next month it falls on.
+ */
+public class DayRangeView extends ObservableListBase<Day> {
+
+    private final ObservableList<Day> source;
+    private Date from;
+    private Date to;
+    private int start;
+    private int size;
+
+    /**
+     * Creates a view showing every day of {@code source}, which must be kept in date order.
+     */
+    public DayRangeView(ObservableList<Day> source) {
+        requireNonNull(source);
+        this.source = source;
+        this.size = source.size();
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Restricts the view to the days from {@code from} to {@code to}, both inclusive.
+     * A null bound leaves that end of the range open.
+     */
+    public void setRange(Date from, Date to) {
+        if (Objects.equals(this.from, from) && Objects.equals(this.to, to)) {
+            return;
+        }
+        List<Day> removed = new ArrayList<>(this);
+        this.from = from;
+        this.to = to;
+        start = from == null ? 0 : insertionPoint(from, false);
+        size = (to == null ? source.size() : insertionPoint(to, true)) - start;
+        size = Math.max(size, 0);
+
+        if (removed.isEmpty() && size == 0) {
+            return;
+        }
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    @Override
+    public Day get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return source.get(start + index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index in the source of the first day falling after {@code date} if {@code inclusive},
+     * or of the first day falling on or after {@code date} otherwise.
+     */
+    private int insertionPoint(Date date, boolean inclusive) {
+        int epochDay = date.getEpochDay();
+        int low = 0;
+        int high = source.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int midEpochDay = source.get(mid).getDate().getEpochDay();
+            if (midEpochDay < epochDay || (inclusive && midEpochDay == epochDay)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean isBeforeRange(Day day) {
+        return from != null && day.getDate().getEpochDay() < from.getEpochDay();
+    }
+
+    private boolean isAfterRange(Day day) {
+        return to != null && day.getDate().getEpochDay() > to.getEpochDay();
+    }
+
+    /**
+     * Translates a change of the source into a change of this view.
+     * Because the source is in date order, the days of a change that fall in the range are contiguous,
+     * and the days before the range only shift where the run starts.
+     */
+    private void onSourceChanged(ListChangeListener.Change<? extends Day> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // A date-ordered source is never reordered.
+                continue;
+            }
+            if (change.wasUpdated()) {
+                for (int i = Math.max(change.getFrom(), start); i < Math.min(change.getTo(), start + size); i++) {
+                    nextUpdate(i - start);
+                }
+                continue;
+            }
+
+            List<Day> removedInRange = new ArrayList<>();
+            int removedBefore = 0;
+            for (Day day : change.getRemoved()) {
+                if (isBeforeRange(day)) {
+                    removedBefore++;
+                } else if (!isAfterRange(day)) {
+                    removedInRange.add(day);
+                }
+            }
+            int addedInRange = 0;
+            int addedBefore = 0;
+            for (Day day : change.getAddedSubList()) {
+                if (isBeforeRange(day)) {
+                    addedBefore++;
+                } else if (!isAfterRange(day)) {
+                    addedInRange++;
+                }
+            }
+
+            int viewFrom = Math.max(change.getFrom() - start, 0);
+            if (!removedInRange.isEmpty()) {
+                nextRemove(viewFrom, removedInRange);
+            }
+            if (addedInRange > 0) {
+                nextAdd(viewFrom, viewFrom + addedInRange);
+            }
+            start += addedBefore - removedBefore;
+            size += addedInRange - removedInRange.size();
+        }
+        endChange();
+    }
+}
@@ -3,20 +3,27 @@ package seedu.address.model.day;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import seedu.address.model.day.exceptions.DayNotFoundException;
 import seedu.address.model.day.exceptions.DuplicateDayException;
 
 /**
  * A list of days that enforces uniqueness between its elements and does not allow nulls.
- * A day is considered unique by comparing using {@code Day#isSameDay(Day)}. As such, adding and updating of
- * days uses Day#isSameDay(Day) for equality so as to ensure that the day being added or updated is
- * unique in terms of identity in the UniqueDayList. However, the removal of a day uses Day#equals(Day) so
- * as to ensure that the day with exactly the same fields will be removed.
+ * A day is considered unique by comparing using {@code Day#isSameDay(Day)}, that is, by its date.
+ *
+ * The days are kept in chronological order, so a day is found by binary search on its date and
+ * the days in a date range form a contiguous run of the list.
+ * Days are mutable aggregates: a day whose times were changed in place is reported to listeners
+ * with {@link #markUpdated(Day)} as a single "updated" change rather than being removed and re-added.
+ * Changes made between {@link #beginBatch()} and {@link #endBatch()} are reported to listeners as a single change.
  *
  * Supports a minimal set of list operations.
  *
@@ -24,7 +31,7 @@ import seedu.address.model.day.exceptions.DuplicateDayException;
  */
 public class UniqueDayList implements Iterable<Day> {
 
-    private final ObservableList<Day> internalList = FXCollections.observableArrayList();
+    private final DayObservableList internalList = new DayObservableList();
     private final ObservableList<Day> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -33,19 +40,42 @@ public class UniqueDayList implements Iterable<Day> {
      */
     public boolean contains(Day toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDay);
+        return indexOf(internalList, toCheck.getDate()) >= 0;
+    }
+
+    /**
+     * Returns the day on {@code date}, if any.
+     */
+    public Optional<Day> get(Date date) {
+        requireNonNull(date);
+        int index = indexOf(internalList, date);
+        return index >= 0 ? Optional.of(internalList.get(index)) : Optional.empty();
     }
 
     /**
-     * Adds a day to the list.
+     * Adds a day to the list, in date order.
      * The day must not already exist in the list.
      */
     public void add(Day toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        int index = indexOf(internalList, toAdd.getDate());
+        if (index >= 0) {
             throw new DuplicateDayException();
         }
-        internalList.add(toAdd);
+        internalList.insert(-index - 1, toAdd);
+    }
+
+    /**
+     * Notifies listeners that the times of {@code updated} have changed in place.
+     * The day must exist in the list.
+     */
+    public void markUpdated(Day updated) {
+        requireNonNull(updated);
+        int index = indexOf(internalList, updated.getDate());
+        if (index < 0) {
+            throw new DayNotFoundException();
+        }
+        internalList.updated(index);
     }
 
     /**
@@ -54,21 +84,23 @@ public class UniqueDayList implements Iterable<Day> {
      */
     public void remove(Day toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(internalList, toRemove.getDate());
+        if (index < 0) {
             throw new DayNotFoundException();
         }
+        internalList.removeAt(index);
     }
 
     /**
      * Clear all the days in the list.
      */
     public void clear() {
-        internalList.clear();
+        internalList.replaceAll(new ArrayList<>());
     }
 
     public void setDays(UniqueDayList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.replaceAll(new ArrayList<>(replacement.internalList));
     }
 
     /**
@@ -77,15 +109,34 @@ public class UniqueDayList implements Iterable<Day> {
      */
     public void setDays(List<Day> days) {
         requireAllNonNull(days);
-        if (!daysAreUnique(days)) {
-            throw new DuplicateDayException();
+        List<Day> sortedDays = new ArrayList<>(days);
+        sortedDays.sort(Comparator.comparing(Day::getDate));
+        for (int i = 1; i < sortedDays.size(); i++) {
+            if (sortedDays.get(i - 1).isSameDay(sortedDays.get(i))) {
+                throw new DuplicateDayException();
+            }
         }
 
-        internalList.setAll(days);
+        internalList.replaceAll(sortedDays);
+    }
+
+    /**
+     * Starts collecting the changes to the list into a single change, reported by the matching {@link #endBatch()}.
+     * Batches may be nested; only the outermost one reports.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}, in date order.
      */
     public ObservableList<Day> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -109,17 +160,85 @@ public class UniqueDayList implements Iterable<Day> {
     }
 
     /**
-     * Returns true if {@code days} contains only unique days.
+     * Returns the index of the day on {@code date} in {@code days}, which must be in date order.
+     * If there is no such day, returns {@code -(insertion point) - 1}, as {@code Collections#binarySearch} does.
      */
-    private boolean daysAreUnique(List<Day> days) {
-        for (int i = 0; i < days.size() - 1; i++) {
-            for (int j = i + 1; j < days.size(); j++) {
-                if (days.get(i).isSameDay(days.get(j))) {
-                    return false;
-                }
+    static int indexOf(List<Day> days, Date date) {
+        int low = 0;
+        int high = days.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = days.get(mid).getDate().compareTo(date);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
             }
         }
-        return true;
+        return -(low + 1);
     }
-}
 
+    /**
+     * The observable backing list. Every operation is reported as exactly one change, unless batched.
+     */
+    private static class DayObservableList extends ObservableListBase<Day> {
+        private final List<Day> days = new ArrayList<>();
+
+        @Override
+        public Day get(int index) {
+            return days.get(index);
+        }
+
+        @Override
+        public int size() {
+            return days.size();
+        }
+
+        void insert(int index, Day day) {
+            days.add(index, day);
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        void removeAt(int index) {
+            Day removed = days.remove(index);
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        void updated(int index) {
+            beginChange();
+            nextUpdate(index);
+            endChange();
+        }
+
+        void beginBatch() {
+            beginChange();
+        }
+
+        void endBatch() {
+            endChange();
+        }
+
+        void replaceAll(List<Day> replacement) {
+            List<Day> removed = new ArrayList<>(days);
+            days.clear();
+            days.addAll(replacement);
+            if (removed.isEmpty() && days.isEmpty()) {
+                return;
+            }
+            beginChange();
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (!days.isEmpty()) {
+                nextAdd(0, days.size());
+            }
+            endChange();
+        }
+    }
+}
@@ -5,69 +5,74 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a Task's category in the task book.
+ * There is exactly one instance per category, so categories are compared with {@code ==}
+ * and can index per-category arrays by {@link #ordinal()}.
  * Guarantees: immutable; is valid as declared in {@link #isValidCategories(String)}
  */
-public class Categories {
+public enum Categories {
+    ACADEMIC("a", "Academic"),
+    CCA("c", "Cca"),
+    ENTERTAINMENT("e", "Entertainment"),
+    ERRAND("r", "Errand"),
+    OTHER("o", "Other");
 
-    public static final String CAT_ACADEMIC = "a";
-    public static final String CAT_CCA = "c";
-    public static final String CAT_ENTERTAINMENT = "e";
-    public static final String CAT_ERRAND = "r";
-    public static final String CAT_OTHER = "o";
+    /** The number of categories, for sizing arrays indexed by {@link #ordinal()}. */
+    public static final int COUNT = values().length;
 
     public static final String MESSAGE_CONSTRAINTS =
             "Category should contains 1 alphabet\n"
             + "Should be a (academic), c (cca), e (entertainment), r (errand), o (other)";
-    public static final String VALIDATION_REGEX = "[acero]";
+
     public final String value;
     public final String fullName;
 
+    Categories(String value, String fullName) {
+        this.value = value;
+        this.fullName = fullName;
+    }
+
     /**
-     * Constructs a {@code Categories}.
+     * Returns the {@code Categories} with the given one-letter code.
      *
      * @param categories A valid categories.
      */
-    public Categories(String categories) {
+    public static Categories of(String categories) {
         requireNonNull(categories);
-        checkArgument(isValidCategories(categories), MESSAGE_CONSTRAINTS);
-        value = categories;
-        if (value.equalsIgnoreCase(CAT_ACADEMIC)) {
-            fullName = "Academic";
-        } else if (value.equalsIgnoreCase(CAT_CCA)) {
-            fullName = "Cca";
-        } else if (value.equalsIgnoreCase(CAT_ENTERTAINMENT)) {
-            fullName = "Entertainment";
-        } else if (value.equalsIgnoreCase(CAT_ERRAND)) {
-            fullName = "Errand";
-        } else if (value.equalsIgnoreCase(CAT_OTHER)) {
-            fullName = "Other";
-        } else {
-            fullName = "Invalid";
-        }
+        Categories category = lookup(categories);
+        checkArgument(category != null, MESSAGE_CONSTRAINTS);
+        return category;
     }
 
     /**
      * Returns true if a given string is a valid category.
      */
     public static boolean isValidCategories(String test) {
-        return test.matches(VALIDATION_REGEX);
-    }
-
-    @Override
-    public String toString() {
-        return value;
+        return lookup(test) != null;
     }
 
-    @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Categories // instanceof handles nulls
-                && value.equals(((Categories) other).value)); // state check
+    private static Categories lookup(String code) {
+        if (code.length() != 1) {
+            return null;
+        }
+        switch (code.charAt(0)) {
+        case 'a':
+            return ACADEMIC;
+        case 'c':
+            return CCA;
+        case 'e':
+            return ENTERTAINMENT;
+        case 'r':
+            return ERRAND;
+        case 'o':
+            return OTHER;
+        default:
+            return null;
+        }
     }
 
     @Override
-    public int hashCode() {
-        return value.hashCode();
+    public String toString() {
+        return value;
     }
 
 }
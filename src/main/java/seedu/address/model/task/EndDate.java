@@ -3,6 +3,8 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.DateUtil;
+
 /**
  * Represents a Task's endDate in the task book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEndDate(String)}
@@ -16,6 +18,9 @@ public class EndDate {
     public static final String VALIDATION_REGEX = "\\d{2}" + "-" + "\\d{2}" + "-" + "\\d{2}";
     public final String value;
 
+    /** The date as days since 1970-01-01, for comparing and filtering. */
+    private final int epochDay;
+
     /**
      * Constructs a {@code StartDate}.
      *
@@ -25,6 +30,11 @@ public class EndDate {
         requireNonNull(date);
         checkArgument(isValidEndDate(date), MESSAGE_CONSTRAINTS);
         value = date;
+        epochDay = DateUtil.toEpochDay(date);
+    }
+
+    public int getEpochDay() {
+        return epochDay;
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.DateUtil;
+
 /**
  * Represents a Task's startTime in the task book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEndTime(String)}
@@ -17,6 +19,9 @@ public class EndTime {
 
     public final String value;
 
+    /** The time as minutes since midnight, for comparing and adding up durations. */
+    private final short minuteOfDay;
+
     /**
      * Constructs a {@code StartTime}.
      *
@@ -26,6 +31,11 @@ public class EndTime {
         requireNonNull(time);
         checkArgument(isValidEndTime(time), MESSAGE_CONSTRAINTS);
         value = time;
+        minuteOfDay = DateUtil.toMinuteOfDay(time);
+    }
+
+    public short getMinuteOfDay() {
+        return minuteOfDay;
     }
 
     /**
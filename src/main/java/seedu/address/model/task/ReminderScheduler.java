@@ -0,0 +1,233 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.DateUtil;
+
+/**
+ * Fires a reminder when a task of a task list starts and when it is due.
+ * The pending start and deadline instants are kept ordered by time and are updated as tasks are added, edited and
+ * removed from the task list, each in O(log n) time. Once started, a single background thread sleeps until the
+ * earliest pending instant and wakes up only when that instant comes, or when a change to the task list makes
+ * another instant the earliest. Instants already past when a task is scheduled never fire.
+ */
+public class ReminderScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    /**
+     * A start or deadline instant of a task.
+     */
+    public static class Reminder {
+
+        private static final Comparator<Reminder> ORDER = Comparator.comparingLong((Reminder r) -> r.epochMinute)
+                .thenComparingLong(r -> r.task.getId())
+                .thenComparing(r -> r.instant);
+
+        private final Task task;
+        private final ReminderView.SortKey instant;
+        private final long epochMinute;
+
+        Reminder(Task task, ReminderView.SortKey instant) {
+            this.task = task;
+            this.instant = instant;
+            this.epochMinute = instant.keyOf(task);
+        }
+
+        public Task getTask() {
+            return task;
+        }
+
+        /**
+         * Returns {@code START} if the task starts at this instant and {@code DEADLINE} if it is due.
+         */
+        public ReminderView.SortKey getInstant() {
+            return instant;
+        }
+
+        public long getEpochMinute() {
+            return epochMinute;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Reminder // instanceof handles nulls
+                    && task.equals(((Reminder) other).task)
+                    && instant == ((Reminder) other).instant);
+        }
+
+        @Override
+        public int hashCode() {
+            return task.hashCode() * 31 + instant.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return (instant == ReminderView.SortKey.START ? "Starting now: " : "Due now: ") + task.getName();
+        }
+    }
+
+    private final ObservableList<Task> tasks;
+    private final Clock clock;
+    private final Consumer<List<Reminder>> onDue;
+    private final TreeSet<Reminder> pending = new TreeSet<>(Reminder.ORDER);
+    private final ListChangeListener<Task> taskListListener = this::onTaskListChanged;
+    private long lastPolledMinute;
+    private Thread thread;
+
+    /**
+     * Creates a scheduler for the instants of {@code tasks} that are not yet past by {@code clock}.
+     * Due reminders are handed to {@code onDue} on the background thread, in order of time.
+     */
+    public ReminderScheduler(ObservableList<Task> tasks, Clock clock, Consumer<List<Reminder>> onDue) {
+        requireNonNull(tasks);
+        requireNonNull(clock);
+        requireNonNull(onDue);
+        this.tasks = tasks;
+        this.clock = clock;
+        this.onDue = onDue;
+        lastPolledMinute = currentEpochMinute() - 1;
+        tasks.forEach(this::schedule);
+        tasks.addListener(taskListListener);
+    }
+
+    /**
+     * Starts the background thread. Does nothing if it is already running.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::run, "reminder-scheduler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the background thread and stops following the task list.
+     */
+    public synchronized void stop() {
+        tasks.removeListener(taskListListener);
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    /**
+     * Returns the earliest reminder that has not fired yet.
+     */
+    public synchronized Optional<Reminder> getNextReminder() {
+        return pending.isEmpty() ? Optional.empty() : Optional.of(pending.first());
+    }
+
+    /**
+     * Removes and returns, in order of time, the pending reminders at or before {@code epochMinute}.
+     */
+    synchronized List<Reminder> pollDue(long epochMinute) {
+        List<Reminder> due = new ArrayList<>();
+        while (!pending.isEmpty() && pending.first().epochMinute <= epochMinute) {
+            due.add(pending.pollFirst());
+        }
+        lastPolledMinute = Math.max(lastPolledMinute, epochMinute);
+        return due;
+    }
+
+    private void onTaskListChanged(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasRemoved()) {
+                change.getRemoved().forEach(this::unschedule);
+            }
+            if (change.wasAdded()) {
+                change.getAddedSubList().forEach(this::schedule);
+            }
+        }
+    }
+
+    /**
+     * Adds the instants of {@code task} that are not yet past, by the clock or by the last poll, to the pending ones.
+     * An instant in the current minute is not past yet.
+     */
+    private synchronized void schedule(Task task) {
+        Reminder earliest = pending.isEmpty() ? null : pending.first();
+        long pastMinute = Math.max(lastPolledMinute, currentEpochMinute() - 1);
+        for (ReminderView.SortKey instant : ReminderView.SortKey.values()) {
+            Reminder reminder = new Reminder(task, instant);
+            if (reminder.epochMinute > pastMinute) {
+                pending.add(reminder);
+            }
+        }
+        wakeIfEarliestChanged(earliest);
+    }
+
+    private synchronized void unschedule(Task task) {
+        Reminder earliest = pending.isEmpty() ? null : pending.first();
+        for (ReminderView.SortKey instant : ReminderView.SortKey.values()) {
+            pending.remove(new Reminder(task, instant));
+        }
+        wakeIfEarliestChanged(earliest);
+    }
+
+    /**
+     * Wakes the background thread to sleep until the earliest pending instant again, if that is no longer
+     * {@code earliest}.
+     */
+    private void wakeIfEarliestChanged(Reminder earliest) {
+        if (!pending.isEmpty() && pending.first() != earliest) {
+            notifyAll();
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                List<Reminder> due;
+                synchronized (this) {
+                    long millisToWait = millisUntilNextReminder();
+                    while (millisToWait > 0) {
+                        wait(millisToWait == Long.MAX_VALUE ? 0 : millisToWait);
+                        millisToWait = millisUntilNextReminder();
+                    }
+                    due = pollDue(Math.max(currentEpochMinute(), pending.first().epochMinute));
+                }
+                if (!due.isEmpty()) {
+                    logger.info("Reminders due: " + due);
+                    onDue.accept(due);
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.fine("Reminder scheduler stopped");
+        }
+    }
+
+    /**
+     * Returns the milliseconds until the earliest pending instant, or {@code Long.MAX_VALUE} if there is none.
+     */
+    private long millisUntilNextReminder() {
+        if (pending.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        LocalDateTime next = LocalDateTime.ofEpochSecond(pending.first().epochMinute * 60, 0, ZoneOffset.UTC);
+        return next.atZone(clock.getZone()).toInstant().toEpochMilli() - clock.millis();
+    }
+
+    private long currentEpochMinute() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return DateUtil.toEpochMinute((int) now.toLocalDate().toEpochDay(), now.getHour() * 60 + now.getMinute());
+    }
+}
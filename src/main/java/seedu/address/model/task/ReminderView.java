@@ -0,0 +1,125 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.commons.util.DateUtil;
+
+/**
+ * A live view of the tasks of a task list for reminding, optionally restricted to one category and ordered by
+ * start or deadline. The view follows the task list: an added, edited or removed task is inserted into or removed
+ * from its place in the order, without sorting the view again. Sorting only happens when the order changes.
+ */
+public class ReminderView {
+
+    /**
+     * The instants the view can be ordered by.
+     */
+    public enum SortKey {
+        START {
+            @Override
+            public long keyOf(Task task) {
+                return DateUtil.toEpochMinute(task.getStartDate().getEpochDay(), task.getStartTime().getMinuteOfDay());
+            }
+        },
+        DEADLINE {
+            @Override
+            public long keyOf(Task task) {
+                return DateUtil.toEpochMinute(task.getEndDate().getEpochDay(), task.getEndTime().getMinuteOfDay());
+            }
+        };
+
+        /**
+         * Returns the instant of {@code task} the view is ordered by, in minutes as by
+         * {@link DateUtil#toEpochMinute(int, int)}.
+         */
+        public abstract long keyOf(Task task);
+
+        Comparator<Task> comparator() {
+            return Comparator.comparingLong(this::keyOf);
+        }
+    }
+
+    private final FilteredList<Task> filtered;
+    private final SortedList<Task> sorted;
+    private SortKey sortKey;
+    private Categories category;
+
+    /**
+     * Creates a view of every task of {@code tasks}, in the order of {@code tasks}.
+     */
+    public ReminderView(ObservableList<Task> tasks) {
+        requireNonNull(tasks);
+        filtered = new FilteredList<>(tasks);
+        sorted = new SortedList<>(filtered);
+    }
+
+    /**
+     * Orders the view by {@code sortKey}, or in the order of the task list if {@code sortKey} is null.
+     */
+    public void setSortKey(SortKey sortKey) {
+        if (this.sortKey == sortKey) {
+            return;
+        }
+        this.sortKey = sortKey;
+        sorted.setComparator(sortKey == null ? null : sortKey.comparator());
+    }
+
+    /**
+     * Restricts the view to the tasks of {@code category}, or shows every task if {@code category} is null.
+     * Replaces any earlier restriction.
+     */
+    public void setCategory(Categories category) {
+        if (this.category == category) {
+            return;
+        }
+        this.category = category;
+        filtered.setPredicate(category == null ? null : task -> task.getCategories() == category);
+    }
+
+    /**
+     * Shows every task in the order of the task list again.
+     */
+    public void reset() {
+        setCategory(null);
+        setSortKey(null);
+    }
+
+    /**
+     * Returns an unmodifiable live view of the tasks, in the order of the view.
+     */
+    public ObservableList<Task> asUnmodifiableObservableList() {
+        return sorted;
+    }
+
+    /**
+     * Returns the first {@code count} tasks of the view at or after {@code epochMinute}, as by
+     * {@link DateUtil#toEpochMinute(int, int)}. The first of them is found by binary search in the ordered view.
+     * If the view is in the order of the task list, returns its first {@code count} tasks.
+     */
+    public List<Task> getUpcoming(int count, long epochMinute) {
+        int from = sortKey == null ? 0 : firstAtOrAfter(epochMinute);
+        int to = (int) Math.min(sorted.size(), (long) from + Math.max(count, 0));
+        return new ArrayList<>(sorted.subList(from, to));
+    }
+
+    private int firstAtOrAfter(long epochMinute) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortKey.keyOf(sorted.get(middle)) < epochMinute) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.DateUtil;
+
 /**
  * Represents a Task's startDate in the task book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStartDate(String)}
@@ -16,6 +18,14 @@ public class StartDate {
     public static final String VALIDATION_REGEX = "\\d{2}" + "-" + "\\d{2}" + "-" + "\\d{2}";
     public final String value;
 
+    /** The date as days since 1970-01-01, for comparing and filtering. */
+    private final int epochDay;
+    /**
+     * The month of the date as written, counted as in {@link DateUtil#toEpochMonth(String)}.
+     * A day past the end of its month, such as 31-02, still belongs to the month it is written in.
+     */
+    private final int epochMonth;
+
     /**
      * Constructs a {@code StartDate}.
      *
@@ -25,6 +35,16 @@ public class StartDate {
         requireNonNull(date);
         checkArgument(isValidStartDate(date), MESSAGE_CONSTRAINTS);
         value = date;
+        epochDay = DateUtil.toEpochDay(date);
+        epochMonth = DateUtil.toEpochMonth(date.substring("dd-".length()));
+    }
+
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    public int getEpochMonth() {
+        return epochMonth;
     }
 
     /**
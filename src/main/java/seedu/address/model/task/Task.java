@@ -1,5 +1,6 @@
 package seedu.address.model.task;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
@@ -15,8 +16,14 @@ import seedu.address.model.tag.Tag;
  */
 public class Task {
 
+    /** Id carried by tasks that have not been added to a task book yet. */
+    public static final long UNASSIGNED_ID = 0;
+
+    public static final String MESSAGE_ID_CONSTRAINTS = "Task ID should not be negative";
+
     // Identity fields
     private final Name name;
+    private final long id;
 
     // Data fields
     private final StartDate startDate;
@@ -32,8 +39,18 @@ public class Task {
      */
     public Task(Name name, StartDate startDate, StartTime startTime, EndDate endDate, EndTime endTime,
         Description description, Categories categories, Set<Tag> tags) {
+        this(name, startDate, startTime, endDate, endTime, description, categories, tags, UNASSIGNED_ID);
+    }
+
+    /**
+     * Every field must be present and not null. {@code id} must not be negative.
+     */
+    public Task(Name name, StartDate startDate, StartTime startTime, EndDate endDate, EndTime endTime,
+        Description description, Categories categories, Set<Tag> tags, long id) {
         requireAllNonNull(name, startDate, endDate, startTime, endTime, description, categories, tags);
+        checkArgument(id >= UNASSIGNED_ID, MESSAGE_ID_CONSTRAINTS);
 
+        this.id = id;
         this.name = name;
         this.startDate = startDate;
         this.endDate = endDate;
@@ -49,6 +66,28 @@ public class Task {
         return name;
     }
 
+    /**
+     * Returns the id assigned to this task by its task book, or {@code UNASSIGNED_ID} if it has none.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
+    }
+
+    /**
+     * Returns a copy of this task carrying {@code newId}, or this task if it already carries {@code newId}.
+     * The id is not part of the task's identity or data fields.
+     */
+    public Task withId(long newId) {
+        if (newId == id) {
+            return this;
+        }
+        return new Task(name, startDate, startTime, endDate, endTime, description, categories, tags, newId);
+    }
+
     public StartDate getStartDate() {
         return startDate;
     }
@@ -94,6 +133,23 @@ public class Task {
                 && otherTask.getName().equals(getName());
     }
 
+    /**
+     * Returns true if both tasks have the same id and the same values in every field.
+     */
+    public boolean isIdenticalTo(Task otherTask) {
+        return otherTask == this
+                || (otherTask != null
+                && otherTask.getId() == getId()
+                && otherTask.getName().equals(getName())
+                && otherTask.getStartDate().equals(getStartDate())
+                && otherTask.getStartTime().equals(getStartTime())
+                && otherTask.getEndDate().equals(getEndDate())
+                && otherTask.getEndTime().equals(getEndTime())
+                && otherTask.getDescription().equals(getDescription())
+                && otherTask.getCategories() == getCategories()
+                && otherTask.getTags().equals(getTags()));
+    }
+
     /**
      * Returns true if both tasks have the same identity and data fields.
      * This defines a stronger notion of equality between two tasks.
@@ -0,0 +1,129 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of tasks by category, start month and tag, keeping for each value the set of ids of the tasks having it.
+ * The sets can be combined with {@link TaskIdBitmap#and}, {@link TaskIdBitmap#or} and {@link TaskIdBitmap#andNot}
+ * to answer queries over several attributes without looking at any task.
+ *
+ * Tasks are told apart by their id, so every task in the index must carry an id unique within the index.
+ * Start months are those of {@link StartDate#getEpochMonth()}.
+ */
+public class TaskAttributeIndex {
+
+    private final TaskIdBitmap all = new TaskIdBitmap();
+    private final TaskIdBitmap[] byCategory = new TaskIdBitmap[Categories.COUNT];
+    private final Map<Integer, TaskIdBitmap> byStartMonth = new HashMap<>();
+    private final Map<String, TaskIdBitmap> byTag = new HashMap<>();
+
+    public TaskAttributeIndex() {
+        for (int i = 0; i < byCategory.length; i++) {
+            byCategory[i] = new TaskIdBitmap();
+        }
+    }
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        long id = task.getId();
+        all.add(id);
+        byCategory[task.getCategories().ordinal()].add(id);
+        byStartMonth.computeIfAbsent(startMonthOf(task), unused -> new TaskIdBitmap()).add(id);
+        for (Tag tag : task.getTags()) {
+            byTag.computeIfAbsent(tag.tagName, unused -> new TaskIdBitmap()).add(id);
+        }
+    }
+
+    /**
+     * Removes {@code task}, which must be in the index with the same attributes and id, from the index.
+     */
+    public void remove(Task task) {
+        requireNonNull(task);
+        long id = task.getId();
+        all.remove(id);
+        byCategory[task.getCategories().ordinal()].remove(id);
+        removeFrom(byStartMonth, startMonthOf(task), id);
+        for (Tag tag : task.getTags()) {
+            removeFrom(byTag, tag.tagName, id);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code tasks}.
+     */
+    public void setTasks(List<Task> tasks) {
+        clear();
+        tasks.forEach(this::add);
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    public void clear() {
+        all.clear();
+        for (TaskIdBitmap bitmap : byCategory) {
+            bitmap.clear();
+        }
+        byStartMonth.clear();
+        byTag.clear();
+    }
+
+    /**
+     * Returns the ids of every task.
+     */
+    public TaskIdBitmap all() {
+        return all.copy();
+    }
+
+    /**
+     * Returns the ids of the tasks in {@code category}.
+     */
+    public TaskIdBitmap withCategory(Categories category) {
+        return byCategory[category.ordinal()].copy();
+    }
+
+    /**
+     * Returns the ids of the tasks starting in {@code epochMonth}.
+     */
+    public TaskIdBitmap startingInMonth(int epochMonth) {
+        return copyOrEmpty(byStartMonth.get(epochMonth));
+    }
+
+    /**
+     * Returns the ids of the tasks tagged {@code tagName}.
+     */
+    public TaskIdBitmap withTag(String tagName) {
+        return copyOrEmpty(byTag.get(tagName));
+    }
+
+    private static int startMonthOf(Task task) {
+        return task.getStartDate().getEpochMonth();
+    }
+
+    private static TaskIdBitmap copyOrEmpty(TaskIdBitmap bitmap) {
+        return bitmap == null ? new TaskIdBitmap() : bitmap.copy();
+    }
+
+    /**
+     * Removes {@code id} from the set under {@code key}, dropping the set once it is empty.
+     */
+    private static <K> void removeFrom(Map<K, TaskIdBitmap> map, K key, long id) {
+        TaskIdBitmap bitmap = map.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.remove(id);
+        if (bitmap.isEmpty()) {
+            map.remove(key);
+        }
+    }
+}
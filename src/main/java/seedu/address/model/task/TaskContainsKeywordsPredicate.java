@@ -7,6 +7,8 @@ import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Task}'s {@code Name} matches any of the keywords given.
+ * The task book can answer the same question for all its tasks at once, see
+ * {@link seedu.address.model.ReadOnlyTaskBook#getTaskIdsWithNameWord(String)}.
  */
 public class TaskContainsKeywordsPredicate implements Predicate<Task> {
     private final List<String> keywords;
@@ -15,6 +17,10 @@ public class TaskContainsKeywordsPredicate implements Predicate<Task> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Task task) {
         return keywords.stream()
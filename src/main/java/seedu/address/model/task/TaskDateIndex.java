@@ -0,0 +1,256 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.task.exceptions.TaskNotFoundException;
+
+/**
+ * An index of tasks by the dates they span, answering date-range queries in O(log n + k) for k matching tasks.
+ * Tasks are kept in two balanced search trees (treaps), one ordered by start date and one by end date.
+ * Each node of the start tree also records the latest end date in its subtree, which makes it an interval tree:
+ * a subtree whose tasks all end before a range is skipped whole.
+ *
+ * Tasks are told apart by their id, so every task in the index must carry an id unique within the index.
+ * Dates are compared as epoch days, see {@link StartDate#getEpochDay()}.
+ */
+public class TaskDateIndex {
+
+    private Node byStart;
+    private Node byEnd;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        byStart = insert(byStart, new Node(task, startOf(task)));
+        byEnd = insert(byEnd, new Node(task, endOf(task)));
+        size++;
+    }
+
+    /**
+     * Removes {@code task}, which must be in the index with the same dates and id, from the index.
+     */
+    public void remove(Task task) {
+        requireNonNull(task);
+        if (!contains(byStart, startOf(task), task.getId())) {
+            throw new TaskNotFoundException();
+        }
+        byStart = delete(byStart, startOf(task), task.getId());
+        byEnd = delete(byEnd, endOf(task), task.getId());
+        size--;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code tasks}.
+     */
+    public void setTasks(List<Task> tasks) {
+        clear();
+        tasks.forEach(this::add);
+    }
+
+    public void clear() {
+        byStart = null;
+        byEnd = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the tasks starting from {@code fromEpochDay} to {@code toEpochDay}, both inclusive, by start date.
+     */
+    public List<Task> startingBetween(int fromEpochDay, int toEpochDay) {
+        List<Task> result = new ArrayList<>();
+        collectKeysBetween(byStart, fromEpochDay, toEpochDay, result);
+        return result;
+    }
+
+    /**
+     * Returns the tasks spanning at least one day from {@code fromEpochDay} to {@code toEpochDay},
+     * both inclusive, by start date.
+     */
+    public List<Task> overlapping(int fromEpochDay, int toEpochDay) {
+        List<Task> result = new ArrayList<>();
+        collectOverlapping(byStart, fromEpochDay, toEpochDay, result);
+        return result;
+    }
+
+    /**
+     * Returns the tasks ending before {@code epochDay}, by end date.
+     */
+    public List<Task> endingBefore(int epochDay) {
+        List<Task> result = new ArrayList<>();
+        collectKeysBetween(byEnd, Integer.MIN_VALUE, epochDay - 1, result);
+        return result;
+    }
+
+    private static int startOf(Task task) {
+        return task.getStartDate().getEpochDay();
+    }
+
+    private static int endOf(Task task) {
+        return task.getEndDate().getEpochDay();
+    }
+
+    //// tree operations
+
+    private static void collectKeysBetween(Node node, int from, int to, List<Task> result) {
+        if (node == null) {
+            return;
+        }
+        if (node.key >= from) {
+            collectKeysBetween(node.left, from, to, result);
+        }
+        if (node.key >= from && node.key <= to) {
+            result.add(node.task);
+        }
+        if (node.key <= to) {
+            collectKeysBetween(node.right, from, to, result);
+        }
+    }
+
+    private static void collectOverlapping(Node node, int from, int to, List<Task> result) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, result);
+        if (node.key > to) {
+            // every task further right starts after the range too
+            return;
+        }
+        if (node.end >= from) {
+            result.add(node.task);
+        }
+        collectOverlapping(node.right, from, to, result);
+    }
+
+    private static Node insert(Node root, Node node) {
+        if (root == null) {
+            return node;
+        }
+        if (node.priority > root.priority) {
+            Node[] halves = split(root, node.key, node.id);
+            node.left = halves[0];
+            node.right = halves[1];
+            return node.update();
+        }
+        if (isBefore(node.key, node.id, root.key, root.id)) {
+            root.left = insert(root.left, node);
+        } else {
+            root.right = insert(root.right, node);
+        }
+        return root.update();
+    }
+
+    private static boolean contains(Node root, int key, long id) {
+        Node node = root;
+        while (node != null && !(node.key == key && node.id == id)) {
+            node = isBefore(key, id, node.key, node.id) ? node.left : node.right;
+        }
+        return node != null;
+    }
+
+    private static Node delete(Node root, int key, long id) {
+        if (root == null) {
+            return null;
+        }
+        if (root.key == key && root.id == id) {
+            return merge(root.left, root.right);
+        }
+        if (isBefore(key, id, root.key, root.id)) {
+            root.left = delete(root.left, key, id);
+        } else {
+            root.right = delete(root.right, key, id);
+        }
+        return root.update();
+    }
+
+    /**
+     * Returns true if a node with {@code key} and {@code id} is ordered before one with {@code otherKey} and
+     * {@code otherId}.
+     */
+    private static boolean isBefore(int key, long id, int otherKey, long otherId) {
+        return key < otherKey || (key == otherKey && id < otherId);
+    }
+
+    /**
+     * Splits {@code root} into the nodes ordered before (key, id) and the rest.
+     */
+    private static Node[] split(Node root, int key, long id) {
+        if (root == null) {
+            return new Node[] {null, null};
+        }
+        if (isBefore(root.key, root.id, key, id)) {
+            Node[] halves = split(root.right, key, id);
+            root.right = halves[0];
+            halves[0] = root.update();
+            return halves;
+        } else {
+            Node[] halves = split(root.left, key, id);
+            root.left = halves[1];
+            halves[1] = root.update();
+            return halves;
+        }
+    }
+
+    /**
+     * Joins two trees where every node of {@code left} is ordered before every node of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        } else {
+            right.left = merge(left, right.left);
+            return right.update();
+        }
+    }
+
+    /**
+     * A tree node holding one task, ordered by its key date and then by task id.
+     */
+    private static class Node {
+        private final int key;
+        private final long id;
+        private final int end;
+        private final int priority;
+        private final Task task;
+        private int maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(Task task, int key) {
+            this.task = task;
+            this.key = key;
+            this.id = task.getId();
+            this.end = endOf(task);
+            this.maxEnd = end;
+            // a well-mixed hash of the id keeps the tree balanced in expectation, and the same on every run
+            this.priority = Long.hashCode(id * 0x9E3779B97F4A7C15L);
+        }
+
+        Node update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package seedu.address.model.task;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compressed set of task ids, for answering and combining attribute queries without looking at the tasks.
+ * Ids are grouped into chunks of 65536 by their high bits. A chunk holding few ids keeps them in a sorted array;
+ * a chunk holding many keeps one bit per possible id. Combining two sets works chunk by chunk, and chunk by chunk
+ * on 64 ids at a time where both chunks keep bits.
+ *
+ * Sets handed out by the task book are snapshots: the combining operations always return a new set.
+ */
+public class TaskIdBitmap {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int LOW_MASK = (1 << CHUNK_BITS) - 1;
+
+    private final TreeMap<Long, Chunk> chunks = new TreeMap<>();
+
+    /**
+     * Returns the set of the ids of {@code tasks}.
+     */
+    public static TaskIdBitmap of(Iterable<Task> tasks) {
+        TaskIdBitmap bitmap = new TaskIdBitmap();
+        for (Task task : tasks) {
+            bitmap.add(task.getId());
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code id} to the set.
+     */
+    void add(long id) {
+        chunks.computeIfAbsent(id >>> CHUNK_BITS, unused -> new Chunk()).add((int) id & LOW_MASK);
+    }
+
+    /**
+     * Removes {@code id} from the set, if it is in the set.
+     */
+    void remove(long id) {
+        Chunk chunk = chunks.get(id >>> CHUNK_BITS);
+        if (chunk == null) {
+            return;
+        }
+        chunk.remove((int) id & LOW_MASK);
+        if (chunk.size == 0) {
+            chunks.remove(id >>> CHUNK_BITS);
+        }
+    }
+
+    /**
+     * Removes every id from the set.
+     */
+    void clear() {
+        chunks.clear();
+    }
+
+    public boolean contains(long id) {
+        Chunk chunk = chunks.get(id >>> CHUNK_BITS);
+        return chunk != null && chunk.contains((int) id & LOW_MASK);
+    }
+
+    /**
+     * Returns the number of ids in the set.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (Chunk chunk : chunks.values()) {
+            cardinality += chunk.size;
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    /**
+     * Returns the ids in both this set and {@code other}.
+     */
+    public TaskIdBitmap and(TaskIdBitmap other) {
+        TaskIdBitmap smaller = chunks.size() <= other.chunks.size() ? this : other;
+        TaskIdBitmap larger = smaller == this ? other : this;
+        TaskIdBitmap result = new TaskIdBitmap();
+        for (Map.Entry<Long, Chunk> entry : smaller.chunks.entrySet()) {
+            Chunk otherChunk = larger.chunks.get(entry.getKey());
+            if (otherChunk != null) {
+                result.putIfNotEmpty(entry.getKey(), Chunk.and(entry.getValue(), otherChunk));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids in this set, in {@code other}, or in both.
+     */
+    public TaskIdBitmap or(TaskIdBitmap other) {
+        TaskIdBitmap result = copy();
+        for (Map.Entry<Long, Chunk> entry : other.chunks.entrySet()) {
+            Chunk ownChunk = chunks.get(entry.getKey());
+            result.chunks.put(entry.getKey(),
+                    ownChunk == null ? entry.getValue().copy() : Chunk.or(ownChunk, entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids in this set but not in {@code other}.
+     */
+    public TaskIdBitmap andNot(TaskIdBitmap other) {
+        TaskIdBitmap result = new TaskIdBitmap();
+        for (Map.Entry<Long, Chunk> entry : chunks.entrySet()) {
+            Chunk otherChunk = other.chunks.get(entry.getKey());
+            result.putIfNotEmpty(entry.getKey(),
+                    otherChunk == null ? entry.getValue().copy() : Chunk.andNot(entry.getValue(), otherChunk));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a set holding the same ids as this set, that does not change when this set does.
+     */
+    public TaskIdBitmap copy() {
+        TaskIdBitmap result = new TaskIdBitmap();
+        chunks.forEach((key, chunk) -> result.chunks.put(key, chunk.copy()));
+        return result;
+    }
+
+    private void putIfNotEmpty(long key, Chunk chunk) {
+        if (chunk.size > 0) {
+            chunks.put(key, chunk);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskIdBitmap // instanceof handles nulls
+                && chunks.equals(((TaskIdBitmap) other).chunks));
+    }
+
+    @Override
+    public int hashCode() {
+        return chunks.hashCode();
+    }
+
+    /**
+     * The ids of one chunk, by their low 16 bits.
+     * Kept as a sorted array of at most {@code ARRAY_LIMIT} values, or as bits once there are more.
+     */
+    private static class Chunk {
+        /** Above this many values, the bits take less space than the array. */
+        private static final int ARRAY_LIMIT = 4096;
+        private static final int WORDS = (1 << CHUNK_BITS) / Long.SIZE;
+
+        private char[] values = new char[4];
+        private long[] bits;
+        private int size;
+
+        boolean contains(int low) {
+            if (bits != null) {
+                return (bits[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, size, (char) low) >= 0;
+        }
+
+        void add(int low) {
+            if (bits != null) {
+                if ((bits[low >>> 6] & (1L << low)) == 0) {
+                    bits[low >>> 6] |= 1L << low;
+                    size++;
+                }
+                return;
+            }
+            int index = Arrays.binarySearch(values, 0, size, (char) low);
+            if (index >= 0) {
+                return;
+            }
+            if (size == ARRAY_LIMIT) {
+                bits = toWords();
+                values = null;
+                add(low);
+                return;
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = (char) low;
+            size++;
+        }
+
+        void remove(int low) {
+            if (bits != null) {
+                if ((bits[low >>> 6] & (1L << low)) != 0) {
+                    bits[low >>> 6] &= ~(1L << low);
+                    size--;
+                    if (size <= ARRAY_LIMIT / 2) {
+                        // stay in bits for a while after crossing the limit, so that ids added and removed
+                        // around the limit do not convert the chunk back and forth
+                        setValuesFromWords(bits, size);
+                    }
+                }
+                return;
+            }
+            int index = Arrays.binarySearch(values, 0, size, (char) low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+        }
+
+        Chunk copy() {
+            Chunk copy = new Chunk();
+            copy.size = size;
+            copy.values = values == null ? null : values.clone();
+            copy.bits = bits == null ? null : bits.clone();
+            return copy;
+        }
+
+        private long[] toWords() {
+            if (bits != null) {
+                return bits;
+            }
+            long[] words = new long[WORDS];
+            for (int i = 0; i < size; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return words;
+        }
+
+        private void setValuesFromWords(long[] words, int cardinality) {
+            char[] newValues = new char[Math.max(cardinality, 4)];
+            int count = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    newValues[count++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = newValues;
+            bits = null;
+            size = cardinality;
+        }
+
+        /**
+         * Returns a chunk holding {@code words}, kept as an array if they are few.
+         */
+        private static Chunk fromWords(long[] words) {
+            Chunk chunk = new Chunk();
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > ARRAY_LIMIT) {
+                chunk.values = null;
+                chunk.bits = words;
+                chunk.size = cardinality;
+            } else {
+                chunk.setValuesFromWords(words, cardinality);
+            }
+            return chunk;
+        }
+
+        /**
+         * Returns a chunk holding the values of the array chunk {@code chunk} that are in {@code other},
+         * or that are not in {@code other} if {@code keepIfContained} is false.
+         */
+        private static Chunk filter(Chunk chunk, Chunk other, boolean keepIfContained) {
+            Chunk result = new Chunk();
+            result.values = new char[Math.max(chunk.size, 4)];
+            for (int i = 0; i < chunk.size; i++) {
+                if (other.contains(chunk.values[i]) == keepIfContained) {
+                    result.values[result.size++] = chunk.values[i];
+                }
+            }
+            return result;
+        }
+
+        static Chunk and(Chunk a, Chunk b) {
+            if (a.bits == null) {
+                return filter(a, b, true);
+            }
+            if (b.bits == null) {
+                return filter(b, a, true);
+            }
+            long[] words = new long[WORDS];
+            for (int w = 0; w < WORDS; w++) {
+                words[w] = a.bits[w] & b.bits[w];
+            }
+            return fromWords(words);
+        }
+
+        static Chunk andNot(Chunk a, Chunk b) {
+            if (a.bits == null) {
+                return filter(a, b, false);
+            }
+            long[] otherWords = b.toWords();
+            long[] words = new long[WORDS];
+            for (int w = 0; w < WORDS; w++) {
+                words[w] = a.bits[w] & ~otherWords[w];
+            }
+            return fromWords(words);
+        }
+
+        static Chunk or(Chunk a, Chunk b) {
+            long[] aWords = a.toWords();
+            long[] bWords = b.toWords();
+            long[] words = new long[WORDS];
+            for (int w = 0; w < WORDS; w++) {
+                words[w] = aWords[w] | bWords[w];
+            }
+            return fromWords(words);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Chunk)) {
+                return false;
+            }
+            Chunk otherChunk = (Chunk) other;
+            return size == otherChunk.size && Arrays.equals(toWords(), otherChunk.toWords());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(toWords());
+        }
+    }
+}
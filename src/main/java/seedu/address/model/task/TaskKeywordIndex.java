@@ -0,0 +1,178 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index of the words of task names: for each word, the set of ids of the tasks whose name contains it.
+ * Words are matched ignoring case, as {@link TaskContainsKeywordsPredicate} does, so finding the tasks with a word
+ * takes one lookup and does not look at any task name.
+ *
+ * The words themselves are indexed by their trigrams, the runs of three characters in the word padded with a
+ * boundary mark on each side. Words within a few typos of a query word share most of its trigrams, so only the
+ * words sharing enough trigrams need their edit distance computed.
+ *
+ * Tasks are told apart by their id, so every task in the index must carry an id unique within the index.
+ */
+public class TaskKeywordIndex {
+
+    private static final char BOUNDARY = '\0';
+    /** The most trigrams a single edit can change. */
+    private static final int TRIGRAMS_PER_EDIT = 3;
+
+    private final Map<String, TaskIdBitmap> postings = new HashMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        for (String word : wordsOf(task)) {
+            postings.computeIfAbsent(normalize(word), this::addWord).add(task.getId());
+        }
+    }
+
+    /**
+     * Removes {@code task}, which must be in the index with the same name and id, from the index.
+     */
+    public void remove(Task task) {
+        requireNonNull(task);
+        for (String word : wordsOf(task)) {
+            String token = normalize(word);
+            TaskIdBitmap posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(task.getId());
+            if (posting.isEmpty()) {
+                postings.remove(token);
+                removeWord(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code tasks}.
+     */
+    public void setTasks(List<Task> tasks) {
+        clear();
+        tasks.forEach(this::add);
+    }
+
+    public void clear() {
+        postings.clear();
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the ids of the tasks whose name contains {@code word}, ignoring case.
+     */
+    public TaskIdBitmap withWord(String word) {
+        TaskIdBitmap posting = postings.get(normalize(word.trim()));
+        return posting == null ? new TaskIdBitmap() : posting.copy();
+    }
+
+    /**
+     * Returns the ids of the tasks whose name contains a word within {@code maxDistance} typos of {@code word},
+     * ignoring case. A typo is a character inserted, deleted or substituted.
+     */
+    public TaskIdBitmap withWordNear(String word, int maxDistance) {
+        String token = normalize(word.trim());
+        TaskIdBitmap matching = new TaskIdBitmap();
+        for (String candidate : candidatesNear(token, maxDistance)) {
+            if (StringUtil.editDistanceWithin(token, candidate, maxDistance) <= maxDistance) {
+                matching = matching.or(postings.get(candidate));
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the indexed words that may be within {@code maxDistance} typos of {@code token}.
+     * {@code maxDistance} typos change at most {@code TRIGRAMS_PER_EDIT * maxDistance} of the trigrams of
+     * {@code token}, so a word within reach shares at least the rest. When that leaves nothing to require,
+     * which happens for short words, every word of a length within reach is a candidate.
+     */
+    private Iterable<String> candidatesNear(String token, int maxDistance) {
+        Set<String> trigrams = trigramsOf(token);
+        int minShared = trigrams.size() - TRIGRAMS_PER_EDIT * maxDistance;
+        List<String> candidates = new ArrayList<>();
+        if (minShared <= 0) {
+            for (String candidate : postings.keySet()) {
+                if (Math.abs(candidate.length() - token.length()) <= maxDistance) {
+                    candidates.add(candidate);
+                }
+            }
+            return candidates;
+        }
+
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String candidate : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                shared.merge(candidate, 1, Integer::sum);
+            }
+        }
+        shared.forEach((candidate, count) -> {
+            if (count >= minShared) {
+                candidates.add(candidate);
+            }
+        });
+        return candidates;
+    }
+
+    /**
+     * Records the trigrams of the newly indexed {@code token}, and returns its empty posting.
+     */
+    private TaskIdBitmap addWord(String token) {
+        for (String trigram : trigramsOf(token)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(token);
+        }
+        return new TaskIdBitmap();
+    }
+
+    private void removeWord(String token) {
+        for (String trigram : trigramsOf(token)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            words.remove(token);
+            if (words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    private static Set<String> trigramsOf(String token) {
+        String padded = BOUNDARY + token + BOUNDARY;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     */
+    public int wordCount() {
+        return postings.size();
+    }
+
+    private static String[] wordsOf(Task task) {
+        return task.getName().fullName.split("\\s+");
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,252 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * A full-text index of task names, descriptions and tags, ranking tasks against a query with BM25.
+ * For each term the index keeps the ids of the tasks containing it with the number of times it occurs in each
+ * field, and for each task the number of terms in each field, so a query only looks at the tasks containing one of
+ * its terms. A match in the name counts more than one in the tags, which counts more than one in the description.
+ *
+ * Tasks are told apart by their id, so every task in the index must carry an id unique within the index.
+ */
+public class TaskTextIndex {
+
+    /**
+     * The fields of a task that are searched, with the weight of a match in each.
+     */
+    enum Field {
+        NAME(3.0), DESCRIPTION(1.0), TAG(2.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final int FIELD_COUNT = Field.values().length;
+    /** How quickly repeating a term in a task stops raising its score. */
+    private static final double K1 = 1.2;
+    /** How much a long field is penalised against a short one. */
+    private static final double B = 0.75;
+
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<Long, int[]> fieldLengths = new HashMap<>();
+    private final long[] totalFieldLengths = new long[FIELD_COUNT];
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        Map<String, int[]> frequencies = new HashMap<>();
+        int[] lengths = new int[FIELD_COUNT];
+        for (Field field : Field.values()) {
+            for (String term : tokenize(textOf(task, field))) {
+                frequencies.computeIfAbsent(term, unused -> new int[FIELD_COUNT])[field.ordinal()]++;
+                lengths[field.ordinal()]++;
+            }
+        }
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, unused -> new Posting()).add(task.getId(), frequency));
+        fieldLengths.put(task.getId(), lengths);
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            totalFieldLengths[f] += lengths[f];
+        }
+    }
+
+    /**
+     * Removes {@code task}, which must be in the index with the same text and id, from the index.
+     */
+    public void remove(Task task) {
+        requireNonNull(task);
+        for (Field field : Field.values()) {
+            for (String term : tokenize(textOf(task, field))) {
+                Posting posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                posting.remove(task.getId());
+                if (posting.size == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+        int[] lengths = fieldLengths.remove(task.getId());
+        if (lengths != null) {
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                totalFieldLengths[f] -= lengths[f];
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code tasks}.
+     */
+    public void setTasks(List<Task> tasks) {
+        clear();
+        tasks.forEach(this::add);
+    }
+
+    public void clear() {
+        postings.clear();
+        fieldLengths.clear();
+        Arrays.fill(totalFieldLengths, 0);
+    }
+
+    /**
+     * Returns the ids of at most {@code limit} tasks containing any of the terms of {@code query},
+     * best match first. Tasks with the same score are ordered by id.
+     */
+    public List<Long> search(String query, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+        double[] averageLengths = new double[FIELD_COUNT];
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            averageLengths[f] = Math.max(1.0, (double) totalFieldLengths[f] / Math.max(1, fieldLengths.size()));
+        }
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            Posting posting = postings.get(term);
+            if (posting != null) {
+                addScores(posting, averageLengths, scores);
+            }
+        }
+        return topScoring(scores, limit);
+    }
+
+    /**
+     * Adds the BM25 score of the term of {@code posting} to the score of each task containing it.
+     * The frequencies of the term in the fields are weighted and normalised by field length before saturating,
+     * so that a term repeated across fields is not counted as several independent terms.
+     */
+    private void addScores(Posting posting, double[] averageLengths, Map<Long, Double> scores) {
+        int taskCount = fieldLengths.size();
+        double idf = Math.log(1 + (taskCount - posting.size + 0.5) / (posting.size + 0.5));
+        for (int i = 0; i < posting.size; i++) {
+            int[] lengths = fieldLengths.get(posting.ids[i]);
+            double frequency = 0;
+            for (Field field : Field.values()) {
+                int f = field.ordinal();
+                int occurrences = posting.frequencies[i * FIELD_COUNT + f];
+                if (occurrences > 0) {
+                    frequency += field.weight * occurrences / (1 - B + B * lengths[f] / averageLengths[f]);
+                }
+            }
+            scores.merge(posting.ids[i], idf * frequency / (K1 + frequency), Double::sum);
+        }
+    }
+
+    /**
+     * Returns the ids of the {@code limit} highest {@code scores}, best first.
+     * Keeps the best so far in a heap of at most {@code limit} entries rather than sorting every score.
+     */
+    private static List<Long> topScoring(Map<Long, Double> scores, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        // the root is the worst of the best so far: lowest score, then highest id
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(Math.min(limit, 64), (a, b) -> {
+            int byScore = Double.compare(a.getValue(), b.getValue());
+            return byScore != 0 ? byScore : Long.compare(b.getKey(), a.getKey());
+        });
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (best.size() < limit) {
+                best.add(entry);
+            } else if (best.comparator().compare(entry, best.peek()) > 0) {
+                best.poll();
+                best.add(entry);
+            }
+        }
+        List<Long> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ids.add(best.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private static String textOf(Task task, Field field) {
+        switch (field) {
+        case NAME:
+            return task.getName().fullName;
+        case DESCRIPTION:
+            return task.getDescription().value;
+        default:
+            StringBuilder tags = new StringBuilder();
+            for (Tag tag : task.getTags()) {
+                tags.append(tag.tagName).append(' ');
+            }
+            return tags.toString();
+        }
+    }
+
+    /**
+     * Returns the terms of {@code text}: its runs of letters and digits, in lower case.
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the number of distinct terms in the index.
+     */
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * The tasks containing one term, by id in increasing order, with the number of times the term occurs in
+     * each of their fields. Tasks are mostly added with increasing ids, so adding usually appends.
+     */
+    private static class Posting {
+        private long[] ids = new long[2];
+        private int[] frequencies = new int[2 * FIELD_COUNT];
+        private int size;
+
+        void add(long id, int[] frequency) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                index = -index - 1;
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    frequencies = Arrays.copyOf(frequencies, size * 2 * FIELD_COUNT);
+                }
+                System.arraycopy(ids, index, ids, index + 1, size - index);
+                System.arraycopy(frequencies, index * FIELD_COUNT, frequencies, (index + 1) * FIELD_COUNT,
+                        (size - index) * FIELD_COUNT);
+                size++;
+            }
+            ids[index] = id;
+            System.arraycopy(frequency, 0, frequencies, index * FIELD_COUNT, FIELD_COUNT);
+        }
+
+        void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(frequencies, (index + 1) * FIELD_COUNT, frequencies, index * FIELD_COUNT,
+                    (size - index - 1) * FIELD_COUNT);
+            size--;
+        }
+    }
+}
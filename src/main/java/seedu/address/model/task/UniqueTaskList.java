@@ -3,11 +3,18 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
@@ -16,25 +23,60 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
  * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
  * A task is considered unique by comparing using {@code Task#isSameTask(Task)}. As such, adding and updating of
  * tasks uses Task#isSameTask(Task) for equality so as to ensure that the task being added or updated is
- * unique in terms of identity in the UniqueTaskList. However, the removal of a task uses Task#equals(Object) so
- * as to ensure that the task with exactly the same fields will be removed.
+ * unique in terms of identity in the UniqueTaskList. The removal of a task also goes by identity: the task removed
+ * is the one in the list with the same identity, found by its position.
  *
  * Supports a minimal set of list operations.
  *
+ * A name-keyed index is kept alongside the backing list so that identity checks do not need to scan the list, along
+ * with the position of each task, so that tasks are found in the list without scanning it either. Inserting or
+ * removing a task shifts the positions after it, which are then recorded again the next time one of them is needed.
+ * Changes made between {@link #beginBatch()} and {@link #endBatch()} are reported to listeners as a single change.
+ *
  * @see Task#isSameTask(Task)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final TaskObservableList internalList = new TaskObservableList();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<Name, Task> nameIndex = new HashMap<>();
+    /** The position of each task in the backing list, up to date for the positions below {@code validPositions}. */
+    private final Map<Name, Integer> positions = new HashMap<>();
+    private int validPositions;
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the task in the list with the same identity as {@code toFind}, if any.
+     */
+    public Optional<Task> get(Task toFind) {
+        requireNonNull(toFind);
+        return Optional.ofNullable(nameIndex.get(toFind.getName()));
+    }
+
+    /**
+     * Returns the position of the equivalent task in the list, or -1 if there is none.
+     */
+    public int indexOf(Task toFind) {
+        requireNonNull(toFind);
+        if (!nameIndex.containsKey(toFind.getName())) {
+            return -1;
+        }
+        Integer position = positions.get(toFind.getName());
+        if (position == null || position >= validPositions) {
+            for (; validPositions < internalList.size(); validPositions++) {
+                positions.put(internalList.get(validPositions).getName(), validPositions);
+            }
+            position = positions.get(toFind.getName());
+        }
+        return position;
     }
 
     /**
@@ -42,11 +84,21 @@ public class UniqueTaskList implements Iterable<Task> {
      * The task must not already exist in the list.
      */
     public void add(Task toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a task into the list at {@code index}.
+     * The task must not already exist in the list.
+     */
+    public void add(int index, Task toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        nameIndex.put(toAdd.getName(), toAdd);
+        validPositions = Math.min(validPositions, index);
     }
 
     /**
@@ -57,16 +109,28 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
+        setTask(index, editedTask);
+    }
 
-        if (!target.isSameTask(editedTask) && contains(editedTask)) {
+    /**
+     * Replaces the task at {@code index} in the list with {@code editedTask}.
+     * The task identity of {@code editedTask} must not be the same as another existing task in the list.
+     */
+    public void setTask(int index, Task editedTask) {
+        requireNonNull(editedTask);
+        if (!internalList.get(index).isSameTask(editedTask) && contains(editedTask)) {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
+        Task replaced = internalList.set(index, editedTask);
+        nameIndex.remove(replaced.getName());
+        nameIndex.put(editedTask.getName(), editedTask);
+        positions.remove(replaced.getName());
+        positions.put(editedTask.getName(), index);
     }
 
     /**
@@ -75,14 +139,56 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+        remove(index);
+    }
+
+    /**
+     * Removes the task at {@code index} from the list.
+     */
+    public void remove(int index) {
+        Task removed = internalList.remove(index);
+        nameIndex.remove(removed.getName());
+        positions.remove(removed.getName());
+        validPositions = Math.min(validPositions, index);
+    }
+
+    /**
+     * Removes the equivalent tasks of {@code toRemove} from the list in a single pass over it, and returns the tasks
+     * removed, in list order. Each run of adjacent tasks removed is reported to listeners as one removal.
+     * Every task must exist in the list; if one does not, the list is left as it was.
+     */
+    public List<Task> removeAll(Collection<Task> toRemove) {
+        requireAllNonNull(toRemove);
+        BitSet marked = new BitSet(internalList.size());
+        for (Task task : toRemove) {
+            int index = indexOf(task);
+            if (index == -1) {
+                throw new TaskNotFoundException();
+            }
+            marked.set(index);
+        }
+        if (marked.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Task> removed = internalList.removeAll(marked);
+        for (Task task : removed) {
+            nameIndex.remove(task.getName());
+            positions.remove(task.getName());
+        }
+        validPositions = Math.min(validPositions, marked.nextSetBit(0));
+        return removed;
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex = new HashMap<>(replacement.nameIndex);
+        forgetPositions();
     }
 
     /**
@@ -91,16 +197,62 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void setTasks(List<Task> tasks) {
         requireAllNonNull(tasks);
-        if (!tasksAreUnique(tasks)) {
+        Map<Name, Task> replacementIndex = indexByName(tasks);
+        if (replacementIndex == null) {
             throw new DuplicateTaskException();
         }
 
         internalList.setAll(tasks);
+        nameIndex = replacementIndex;
+        forgetPositions();
     }
 
+    /**
+     * Sorts the backing list by {@code comparator}.
+     * Only the order of the tasks changes, so the name index stays valid.
+     */
     public void sortByDate(Comparator<Task> comparator) {
         FXCollections.sort(internalList, comparator);
+        validPositions = 0;
     }
+
+    /**
+     * Puts the tasks in the order given by {@code order}: position {@code i} gets the task at position
+     * {@code order[i]}. Only the order of the tasks changes, so the name index stays valid.
+     */
+    public void reorder(int[] order) {
+        requireNonNull(order);
+        List<Task> reordered = new ArrayList<>(order.length);
+        for (int position : order) {
+            reordered.add(internalList.get(position));
+        }
+        internalList.setAll(reordered);
+        validPositions = 0;
+    }
+
+    /**
+     * Forgets the recorded positions, which are recorded again as they are needed.
+     */
+    private void forgetPositions() {
+        positions.clear();
+        validPositions = 0;
+    }
+
+    /**
+     * Starts collecting the changes to the list into a single change, reported by the matching {@link #endBatch()}.
+     * Batches may be nested; only the outermost one reports.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -126,17 +278,109 @@ public class UniqueTaskList implements Iterable<Task> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * The observable backing list, whose changes can be batched.
      */
-    private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
+    private static class TaskObservableList extends ModifiableObservableListBase<Task> {
+        private final List<Task> tasks = new ArrayList<>();
+
+        @Override
+        public Task get(int index) {
+            return tasks.get(index);
+        }
+
+        @Override
+        public int size() {
+            return tasks.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Task task) {
+            tasks.add(index, task);
+        }
+
+        @Override
+        protected Task doSet(int index, Task task) {
+            return tasks.set(index, task);
+        }
+
+        @Override
+        protected Task doRemove(int index) {
+            return tasks.remove(index);
+        }
+
+        /**
+         * Removes the tasks from {@code fromIndex} to {@code toIndex} in one shift of the backing list, reported as a
+         * single removal. {@code clear()} and {@code setAll} remove through here.
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if (fromIndex == toIndex) {
+                return;
+            }
+            List<Task> range = tasks.subList(fromIndex, toIndex);
+            List<Task> removed = new ArrayList<>(range);
+            beginChange();
+            try {
+                range.clear();
+                modCount++;
+                nextRemove(fromIndex, removed);
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Removes the tasks at the positions in {@code marked}, moving each kept task once, and returns the tasks
+         * removed, in list order. The runs of adjacent positions are reported from the last one, so that the position
+         * of each run is still its position in the list before the removal.
+         */
+        List<Task> removeAll(BitSet marked) {
+            List<Task> removed = new ArrayList<>(marked.cardinality());
+            beginChange();
+            try {
+                int last = marked.previousSetBit(tasks.size() - 1);
+                while (last >= 0) {
+                    int first = marked.previousClearBit(last) + 1;
+                    nextRemove(first, new ArrayList<>(tasks.subList(first, last + 1)));
+                    last = marked.previousSetBit(first - 1);
+                }
+                int kept = 0;
+                for (int i = 0; i < tasks.size(); i++) {
+                    if (marked.get(i)) {
+                        removed.add(tasks.get(i));
+                    } else {
+                        tasks.set(kept++, tasks.get(i));
+                    }
                 }
+                tasks.subList(kept, tasks.size()).clear();
+                modCount++;
+            } finally {
+                endChange();
+            }
+            return removed;
+        }
+
+        void beginBatch() {
+            beginChange();
+        }
+
+        void endBatch() {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns a name-keyed index of {@code tasks} built in a single pass,
+     * or null if {@code tasks} contains tasks with the same identity.
+     */
+    private static Map<Name, Task> indexByName(List<Task> tasks) {
+        Map<Name, Task> index = new HashMap<>(Math.max(16, tasks.size() * 4 / 3 + 1));
+        for (Task task : tasks) {
+            if (index.put(task.getName(), task) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
 
@@ -6,13 +6,8 @@ import java.util.stream.Collectors;
 
 import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.TaskBook;
-import seedu.address.model.day.Academic;
-import seedu.address.model.day.Cca;
 import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
-import seedu.address.model.day.Entertainment;
-import seedu.address.model.day.Errand;
-import seedu.address.model.day.Other;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Categories;
 import seedu.address.model.task.Description;
@@ -29,26 +24,23 @@ import seedu.address.model.task.Task;
  */
 public class SampleDataUtil {
 
-    public static final Day SAMPLE_DAYS = new Day(new Date("15-03-19"), new Academic("3.0"),
-            new Entertainment("0.0"), new Cca("0.0"), new Errand("0.0"), new Other("0.0"));
+    public static final Day SAMPLE_DAYS = new Day(new Date("15-03-19"), 180, 0, 0, 0, 0);
 
     public static Task[] getSampleTasks() {
         return new Task[] {
             new Task(new Name("Revise CS2113T"), new StartDate("15-03-19"), new StartTime("14.00"),
-                new EndDate("15-03-19"), new EndTime("17.00"), new Description("Class diagram"), new Categories("a"),
+                new EndDate("15-03-19"), new EndTime("17.00"), new Description("Class diagram"), Categories.of("a"),
                 getTagSet("CS2113T")),
             new Task(new Name("Do CS2101"), new StartDate("17-03-19"), new StartTime("10.00"), new EndDate("17-03-19"),
-                new EndTime("14.00"), new Description("User Guide"), new Categories("a"),
+                new EndTime("14.00"), new Description("User Guide"), Categories.of("a"),
                 getTagSet("CS2101"))
         };
     }
 
     public static Day[] getSampleDays() {
         return new Day[] {
-            new Day(new Date("15-03-19"), new Academic("3.0"), new Entertainment("0.0"),
-                    new Cca("0.0"), new Errand("0.0"), new Other("0.0")),
-            new Day(new Date("17-03-19"), new Academic("2.0"), new Entertainment("0.0"),
-                    new Cca("0.0"), new Errand("0.00"), new Other("0.0"))
+            new Day(new Date("15-03-19"), 180, 0, 0, 0, 0),
+            new Day(new Date("17-03-19"), 120, 0, 0, 0, 0)
         };
     }
 
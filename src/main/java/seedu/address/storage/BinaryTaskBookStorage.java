@@ -0,0 +1,297 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.day.Day;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.EndDate;
+import seedu.address.model.task.EndTime;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.StartDate;
+import seedu.address.model.task.StartTime;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored in a compact binary file on the hard disk.
+ * The file holds the same task data as the json file, so a task book converts between the two formats without loss.
+ *
+ * After a header of {@link #MAGIC} and {@link #VERSION}, the file holds a table of the distinct names, descriptions
+ * and tag names, each written once, followed by the tasks. A task refers to its strings by their index in the table.
+ * Ids, table indexes, dates and times are written as varints, a date packed from its day, month and year fields and
+ * a time as its minute of the day, and the category takes a single byte. The days are not written, as they are
+ * derived from the tasks.
+ */
+public class BinaryTaskBookStorage implements TaskBookStorage {
+
+    /** "TKBK" */
+    public static final int MAGIC = 0x544B424B;
+    public static final byte VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskBookStorage.class);
+
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int MAX_DAYS_PER_MONTH = 31;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private Path filePath;
+    private Path backupPath;
+
+    public BinaryTaskBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.backupPath = Paths.get(filePath.toString() + ".backup");
+    }
+
+    /**
+     * Returns the path of the binary file kept in place of the json file at {@code jsonFilePath}: the same path
+     * with the {@code .json} extension replaced by {@code .bin}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String path = jsonFilePath.toString();
+        return Paths.get((path.endsWith(".json") ? path.substring(0, path.length() - ".json".length()) : path)
+                + ".bin");
+    }
+
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException {
+        return readTaskBook(filePath, null);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(List<Day> days) throws DataConversionException {
+        requireNonNull(days);
+        return readTaskBook(filePath, days);
+    }
+
+    /**
+     * Reads the task book at {@code filePath}, taking {@code days} as its days unless it is null.
+     */
+    private Optional<ReadOnlyTaskBook> readTaskBook(Path filePath, List<Day> days) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(JsonSerializableTaskBook.toTaskBook(readTasks(in), days));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        List<Task> tasks = new ArrayList<>(taskBook.getTaskList());
+        FileUtil.writeToFileAtomically(filePath, out -> writeTasks(tasks, new DataOutputStream(out)));
+    }
+
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, backupPath);
+    }
+
+    private static void writeTasks(List<Task> tasks, DataOutputStream out) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            strings.putIfAbsent(task.getName().fullName, strings.size());
+            strings.putIfAbsent(task.getDescription().value, strings.size());
+            for (Tag tag : task.getTags()) {
+                strings.putIfAbsent(tag.tagName, strings.size());
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        writeVarLong(out, strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+
+        writeVarLong(out, tasks.size());
+        for (Task task : tasks) {
+            writeVarLong(out, task.getId());
+            writeVarLong(out, strings.get(task.getName().fullName));
+            writeVarLong(out, packDate(task.getStartDate().value));
+            writeVarLong(out, task.getStartTime().getMinuteOfDay());
+            writeVarLong(out, packDate(task.getEndDate().value));
+            writeVarLong(out, task.getEndTime().getMinuteOfDay());
+            out.writeByte(task.getCategories().ordinal());
+            writeVarLong(out, strings.get(task.getDescription().value));
+            writeVarLong(out, task.getTags().size());
+            for (Tag tag : task.getTags()) {
+                writeVarLong(out, strings.get(tag.tagName));
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads the tasks of a task book written by {@link #writeTasks}.
+     *
+     * @throws IOException if {@code in} is not a task book in this format.
+     * @throws IllegalArgumentException if there were any data constraints violated in a task.
+     */
+    private static List<Task> readTasks(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary task book file");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary task book version " + version);
+        }
+
+        String[] strings = new String[readCount(in)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(in)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int taskCount = readCount(in);
+        List<Task> tasks = new ArrayList<>(taskCount);
+        Categories[] categories = Categories.values();
+        for (int i = 0; i < taskCount; i++) {
+            long id = readVarLong(in);
+            Name name = new Name(readString(in, strings));
+            StartDate startDate = new StartDate(unpackDate(readVarLong(in)));
+            StartTime startTime = new StartTime(unpackTime(readVarLong(in)));
+            EndDate endDate = new EndDate(unpackDate(readVarLong(in)));
+            EndTime endTime = new EndTime(unpackTime(readVarLong(in)));
+            int category = in.readUnsignedByte();
+            if (category >= categories.length) {
+                throw new IOException("Unknown category " + category);
+            }
+            Description description = new Description(readString(in, strings));
+            int tagCount = readCount(in);
+            Set<Tag> tags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                tags.add(new Tag(readString(in, strings)));
+            }
+            tasks.add(new Task(name, startDate, startTime, endDate, endTime, description, categories[category], tags,
+                    id));
+        }
+        return tasks;
+    }
+
+    private static String readString(DataInputStream in, String[] strings) throws IOException {
+        long index = readVarLong(in);
+        if (index >= strings.length) {
+            throw new IOException("String index " + index + " out of range");
+        }
+        return strings[(int) index];
+    }
+
+    /**
+     * Packs a {@code dd-MM-yy} date into a number from its fields, rather than into its epoch day, so that dates
+     * past the end of their month such as {@code 31-02-19} are kept as written.
+     */
+    private static long packDate(String date) {
+        int day = Integer.parseInt(date.substring(0, 2));
+        int month = Integer.parseInt(date.substring(3, 5));
+        int year = Integer.parseInt(date.substring(6, 8));
+        return ((long) year * MONTHS_PER_YEAR + month - 1) * MAX_DAYS_PER_MONTH + day - 1;
+    }
+
+    private static String unpackDate(long packed) {
+        long day = packed % MAX_DAYS_PER_MONTH + 1;
+        long month = packed / MAX_DAYS_PER_MONTH % MONTHS_PER_YEAR + 1;
+        long year = packed / MAX_DAYS_PER_MONTH / MONTHS_PER_YEAR;
+        return String.format("%02d-%02d-%02d", day, month, year);
+    }
+
+    private static String unpackTime(long minuteOfDay) {
+        return String.format("%02d.%02d", minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
+    }
+
+    /**
+     * Writes the non-negative {@code value} seven bits at a time, lowest first, setting the top bit of every byte
+     * but the last.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Reads the number of items that follow.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        long count = readVarLong(in);
+        if (count > Integer.MAX_VALUE) {
+            throw new IOException("Count " + count + " out of range");
+        }
+        return (int) count;
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.day.Day;
+
+/**
+ * A {@code TaskBookStorage} that keeps the days of the task book of another {@code TaskBookStorage} in a
+ * {@link DerivedStateCache}. While the data is the same as when the cache was written, as told by the fingerprint of
+ * the data kept by the other storage, reading the task book takes its days from the cache instead of computing them
+ * from the tasks.
+ *
+ * The cache is written when a save leaves the data compacted, as such a save has written the whole task book
+ * already, and on {@link #close()}. A save that only records the changes leaves the cache as it is, so that its cost
+ * stays with the change.
+ */
+public class CachedTaskBookStorage implements TaskBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(CachedTaskBookStorage.class);
+
+    private final TaskBookStorage storage;
+    private final DerivedStateCache cache;
+    /** The fingerprint of the data the cache was last read or written for, or null if it is not known. */
+    private String cachedFingerprint;
+    /** The task book last read or saved, if its days are not in the cache yet, or null otherwise. */
+    private ReadOnlyTaskBook uncachedTaskBook;
+
+    public CachedTaskBookStorage(TaskBookStorage storage) {
+        this(storage, new DerivedStateCache(DerivedStateCache.getCachePath(storage.getTaskBookFilePath())));
+    }
+
+    /**
+     * Creates a storage that caches the days of the task book of {@code storage} in {@code cache}.
+     */
+    public CachedTaskBookStorage(TaskBookStorage storage, DerivedStateCache cache) {
+        requireNonNull(storage);
+        requireNonNull(cache);
+        this.storage = storage;
+        this.cache = cache;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return storage.getTaskBookFilePath();
+    }
+
+    @Override
+    public List<Path> getDataFilePaths() {
+        return storage.getDataFilePaths();
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        cachedFingerprint = null;
+        Optional<ReadOnlyTaskBook> taskBook = storage.readTaskBook(this::readCachedDays);
+        if (cachedFingerprint != null) {
+            logger.info("Using the days cached in " + cache.getFilePath());
+            uncachedTaskBook = null;
+        } else {
+            uncachedTaskBook = taskBook.orElse(null);
+        }
+        return taskBook;
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     * The cache is only used for the task book at {@link #getTaskBookFilePath()}.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getTaskBookFilePath())) {
+            return readTaskBook();
+        }
+        return storage.readTaskBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(List<Day> days) throws DataConversionException, IOException {
+        return storage.readTaskBook(days);
+    }
+
+    /**
+     * Saves {@code taskBook} as the inner storage does. {@code taskBook} is kept until its days are cached, so it
+     * must not change after it is saved, as the snapshots saved by a {@code WriteBehindTaskBookStorage} do not.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        storage.saveTaskBook(taskBook);
+        uncachedTaskBook = taskBook;
+        if (storage.isCompacted()) {
+            writeCache();
+        }
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * The cache is only written for the task book at {@link #getTaskBookFilePath()}.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getTaskBookFilePath())) {
+            saveTaskBook(taskBook);
+            return;
+        }
+        storage.saveTaskBook(taskBook, filePath);
+    }
+
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        storage.backupTaskBook(taskBook);
+    }
+
+    /**
+     * Writes the days of the task book last read or saved to the cache, if they are not there yet, and closes the
+     * inner storage.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        writeCache();
+        storage.close();
+    }
+
+    /**
+     * Returns the cached days if they were derived from the data of fingerprint {@code fingerprint}, noting the
+     * fingerprint if they were.
+     */
+    private Optional<List<Day>> readCachedDays(String fingerprint) {
+        Optional<List<Day>> days = cache.readDays(fingerprint);
+        if (days.isPresent()) {
+            cachedFingerprint = fingerprint;
+        }
+        return days;
+    }
+
+    /**
+     * Writes the days of {@code uncachedTaskBook} to the cache, unless there is none or the cache holds the days of
+     * the current data already.
+     */
+    private void writeCache() {
+        if (uncachedTaskBook == null) {
+            return;
+        }
+        try {
+            Optional<String> fingerprint = storage.getDataFingerprint();
+            if (fingerprint.isPresent() && !fingerprint.get().equals(cachedFingerprint)) {
+                cache.saveDays(fingerprint.get(), uncachedTaskBook.getDayList());
+                cachedFingerprint = fingerprint.get();
+            }
+            uncachedTaskBook = null;
+        } catch (IOException e) {
+            logger.warning("Failed to update the cache " + cache.getFilePath() + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.day.Day;
+
+/**
+ * A cache of the state derived from the tasks of a task book, kept in a file beside its data, so that it is not
+ * computed again every time the task book is read. The cache records the fingerprint of the data it was derived
+ * from, as given by {@link TaskBookStorage#getDataFingerprint()}, and is only used while the data has that
+ * fingerprint.
+ *
+ * Only the days are cached. The indexes of a task book are keyed by task id and built from the tasks as they are
+ * read; a cached index would be about as large as the text it indexes, so reading it would cost as much as
+ * building it again.
+ */
+public class DerivedStateCache {
+
+    private static final Logger logger = LogsCenter.getLogger(DerivedStateCache.class);
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path filePath;
+
+    public DerivedStateCache(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the cache kept with the task book at {@code taskBookFilePath}.
+     */
+    public static Path getCachePath(Path taskBookFilePath) {
+        return Paths.get(taskBookFilePath.toString() + ".cache");
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the hash of the contents of {@code dataFilePaths}, in order. A missing file hashes differently from an
+     * empty one.
+     *
+     * @throws IOException if a file cannot be read.
+     */
+    public static String hashOf(List<Path> dataFilePaths) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        for (Path dataFilePath : dataFilePaths) {
+            if (!Files.exists(dataFilePath)) {
+                digest.update((byte) 0);
+                continue;
+            }
+            digest.update((byte) 1);
+            try (InputStream in = Files.newInputStream(dataFilePath)) {
+                int count;
+                while ((count = in.read(buffer)) > 0) {
+                    digest.update(buffer, 0, count);
+                }
+            }
+            // the size ends each file, so that bytes moved from one file to the next change the hash
+            digest.update(Long.toString(Files.size(dataFilePath)).getBytes(StandardCharsets.UTF_8));
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    /**
+     * Returns the cached days if they were derived from the data of fingerprint {@code sourceFingerprint}, or
+     * {@code Optional.empty()} if there is no cache, it was derived from other data, or it cannot be read.
+     */
+    public Optional<List<Day>> readDays(String sourceFingerprint) {
+        requireNonNull(sourceFingerprint);
+
+        try {
+            Optional<JsonDerivedState> state = JsonUtil.readJsonFile(filePath, JsonDerivedState.class);
+            if (!state.isPresent() || !sourceFingerprint.equals(state.get().getSourceFingerprint())) {
+                logger.info("Cache " + filePath + " does not match the data");
+                return Optional.empty();
+            }
+            List<Day> days = new ArrayList<>();
+            for (JsonAdaptedDay day : state.get().getDays()) {
+                days.add(day.toModelType());
+            }
+            return Optional.of(days);
+        } catch (DataConversionException | IllegalValueException e) {
+            logger.warning("Cache " + filePath + " is not in the correct format: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Replaces the cache with {@code days}, derived from the data of fingerprint {@code sourceFingerprint}.
+     *
+     * @throws IOException if the cache cannot be written.
+     */
+    public void saveDays(String sourceFingerprint, List<Day> days) throws IOException {
+        requireNonNull(sourceFingerprint);
+        requireNonNull(days);
+
+        JsonDerivedState state = new JsonDerivedState(sourceFingerprint,
+                days.stream().map(JsonAdaptedDay::new).collect(Collectors.toList()));
+        byte[] json = JsonUtil.toJsonString(state).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(filePath, out -> out.write(json));
+    }
+}
@@ -0,0 +1,466 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.day.Day;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored as a json snapshot plus a journal of the changes saved since the snapshot.
+ * A save appends only the tasks added, edited and removed since the previous save to the journal, so its cost on
+ * the disk grows with the change rather than with the task book. Once the journal holds
+ * {@link #COMPACTION_THRESHOLD} records, or when a change cannot be written as records of single tasks, the task book
+ * is written as a new snapshot and the journal starts over.
+ *
+ * Each record of the journal is prefixed with its length and the CRC32 checksum of its contents. Reading replays the
+ * records on the snapshot up to the first record that is torn or corrupted, so an interrupted save loses at most
+ * the record it was writing. The journal starts with the checksum of the snapshot it applies to, and is ignored
+ * if the snapshot was replaced after it was written.
+ *
+ * The checksum of the snapshot and the number of records in its journal fingerprint the data, as records are only
+ * ever appended to the journal of a snapshot.
+ */
+public class JournaledTaskBookStorage implements TaskBookStorage {
+
+    public static final int COMPACTION_THRESHOLD = 512;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTaskBookStorage.class);
+
+    /** Size of the length and the checksum that prefix every record. */
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private static final byte SNAPSHOT_RECORD = 0;
+    private static final byte INSERT_RECORD = 1;
+    private static final byte REPLACE_RECORD = 2;
+    private static final byte REMOVE_RECORD = 3;
+
+    private Path filePath;
+    private Path journalPath;
+    private Path backupPath;
+    private boolean isPrettyPrinted;
+
+    /** The tasks in the data file as of the last read or save, or null if they are not known. */
+    private List<Task> savedTasks;
+    /** The checksum of the snapshot in the data file as of the last read or save, if {@code savedTasks} is known. */
+    private long snapshotChecksum;
+    private int journalRecordCount;
+
+    public JournaledTaskBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the task book at {@code filePath}, whose snapshots are written indented if
+     * {@code isPrettyPrinted}, or on a single line otherwise.
+     */
+    public JournaledTaskBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.backupPath = Paths.get(filePath.toString() + ".backup");
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Returns the path of the journal kept with the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return Paths.get(filePath.toString() + ".journal");
+    }
+
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<Path> getDataFilePaths() {
+        return Arrays.asList(filePath, journalPath);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     * A torn or corrupted record at the end of the journal is cut off, so that later saves append after the last
+     * intact record.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or an intact record is not in the correct format.
+     */
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException {
+        return readTaskBook(filePath, null);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(List<Day> days) throws DataConversionException {
+        requireNonNull(days);
+        return readTaskBook(filePath, unused -> Optional.of(days));
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Function<String, Optional<List<Day>>> cachedDays)
+            throws DataConversionException {
+        requireNonNull(cachedDays);
+        return readTaskBook(filePath, cachedDays);
+    }
+
+    /**
+     * Reads the task book at {@code filePath}, taking its days from {@code cachedDays} unless it is null or does not
+     * have them.
+     */
+    private Optional<ReadOnlyTaskBook> readTaskBook(Path filePath, Function<String, Optional<List<Day>>> cachedDays)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ReadOnlyTaskBook taskBook;
+        int recordCount;
+        try {
+            List<Task> tasks;
+            CRC32 snapshotChecksum = new CRC32();
+            try (InputStream in = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(filePath)),
+                    snapshotChecksum)) {
+                tasks = JsonSerializableTaskBook.readTasks(in);
+                skipToEnd(in);
+            }
+            recordCount = replayJournal(getJournalPath(filePath), snapshotChecksum.getValue(), tasks);
+            if (recordCount < 0 && filePath.equals(this.filePath)) {
+                startJournal(filePath, snapshotChecksum.getValue());
+                recordCount = 0;
+            }
+            List<Day> days = cachedDays == null || recordCount < 0 ? null
+                    : cachedDays.apply(fingerprintOf(snapshotChecksum.getValue(), recordCount)).orElse(null);
+            taskBook = JsonSerializableTaskBook.toTaskBook(tasks, days);
+            if (filePath.equals(this.filePath)) {
+                this.snapshotChecksum = snapshotChecksum.getValue();
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedTasks = new ArrayList<>(taskBook.getTaskList());
+            journalRecordCount = recordCount;
+        }
+        return Optional.of(taskBook);
+    }
+
+    @Override
+    public Optional<String> getDataFingerprint() {
+        return savedTasks == null ? Optional.empty() : Optional.of(fingerprintOf(snapshotChecksum, journalRecordCount));
+    }
+
+    @Override
+    public boolean isCompacted() {
+        return savedTasks != null && journalRecordCount == 0;
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Only the data file of this storage is journaled; any other location gets a new snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(taskBook, filePath);
+            return;
+        }
+
+        List<Task> tasks = new ArrayList<>(taskBook.getTaskList());
+        List<byte[]> records = savedTasks == null ? null : diff(savedTasks, tasks);
+        try {
+            if (records == null || journalRecordCount + records.size() > COMPACTION_THRESHOLD) {
+                snapshotChecksum = writeSnapshot(taskBook, filePath);
+                journalRecordCount = 0;
+            } else if (!records.isEmpty()) {
+                appendToJournal(records);
+                journalRecordCount += records.size();
+            }
+        } catch (IOException e) {
+            // what the failed save left on the disk is not known, so the next save writes a whole snapshot
+            savedTasks = null;
+            throw e;
+        }
+        savedTasks = tasks;
+    }
+
+    /**
+     * Similar to {@link #backupTaskBook(ReadOnlyTaskBook)}
+     */
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, backupPath);
+    }
+
+    /**
+     * Writes {@code taskBook} as the snapshot at {@code filePath} and starts its journal over.
+     * The snapshot is streamed to the disk as it is converted to json, and replaces the old one atomically, so that
+     * the old snapshot and journal stay intact until the new snapshot is complete. Returns the checksum of the
+     * snapshot.
+     */
+    private long writeSnapshot(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        CRC32 snapshotChecksum = new CRC32();
+        FileUtil.writeToFileAtomically(filePath, out -> JsonSerializableTaskBook.write(taskBook,
+                new CheckedOutputStream(out, snapshotChecksum), isPrettyPrinted));
+        startJournal(filePath, snapshotChecksum.getValue());
+        return snapshotChecksum.getValue();
+    }
+
+    /**
+     * Starts the journal of the snapshot at {@code filePath} over, for the snapshot with the checksum
+     * {@code snapshotChecksum}.
+     */
+    private static void startJournal(Path filePath, long snapshotChecksum) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writeRecord(bytes, snapshotRecord(snapshotChecksum));
+        Files.write(getJournalPath(filePath), bytes.toByteArray());
+    }
+
+    /**
+     * Appends {@code records} to the journal. If they cannot all be written, the journal is cut back to its length
+     * before the append, so that no record of a failed save is replayed.
+     */
+    private void appendToJournal(List<byte[]> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (byte[] record : records) {
+            writeRecord(bytes, record);
+        }
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            long length = journal.size();
+            journal.position(length);
+            try {
+                writeToJournal(journal, ByteBuffer.wrap(bytes.toByteArray()));
+            } catch (IOException e) {
+                journal.truncate(length);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code bytes} at the position of {@code journal} and forces them to the disk.
+     */
+    void writeToJournal(FileChannel journal, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            journal.write(bytes);
+        }
+        journal.force(false);
+    }
+
+    /**
+     * Returns the records that turn {@code before} into {@code after}, or null if the change cannot be written as
+     * records of single tasks. Tasks are matched by id, and a task kept from {@code before} is only written again
+     * if it was edited.
+     */
+    private static List<byte[]> diff(List<Task> before, List<Task> after) throws IOException {
+        Map<Long, Task> afterById = new HashMap<>();
+        for (Task task : after) {
+            if (!task.hasId() || afterById.put(task.getId(), task) != null) {
+                return null;
+            }
+        }
+
+        List<byte[]> records = new ArrayList<>();
+        List<Task> kept = new ArrayList<>();
+        Set<Long> keptIds = new HashSet<>();
+        for (int i = before.size() - 1; i >= 0; i--) {
+            if (afterById.containsKey(before.get(i).getId())) {
+                kept.add(before.get(i));
+                keptIds.add(before.get(i).getId());
+            } else {
+                records.add(indexRecord(REMOVE_RECORD, i));
+            }
+        }
+        Collections.reverse(kept);
+
+        int k = 0;
+        for (int i = 0; i < after.size(); i++) {
+            Task task = after.get(i);
+            if (k < kept.size() && kept.get(k).getId() == task.getId()) {
+                if (kept.get(k) != task && !kept.get(k).isIdenticalTo(task)) {
+                    records.add(taskRecord(REPLACE_RECORD, i, task));
+                }
+                k++;
+            } else if (keptIds.contains(task.getId())) {
+                return null; // the kept tasks were reordered, as when the task book is sorted
+            } else {
+                records.add(taskRecord(INSERT_RECORD, i, task));
+            }
+        }
+
+        return records.size() > after.size() / 2 + 1 ? null : records;
+    }
+
+    /**
+     * Applies the intact records of the journal at {@code journalPath} to {@code tasks}, if the journal was written
+     * for the snapshot with the checksum {@code snapshotChecksum}. Returns the number of records applied, or -1 if
+     * there is no journal for the snapshot.
+     */
+    private static int replayJournal(Path journalPath, long snapshotChecksum, List<Task> tasks)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+
+        ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        ByteBuffer first = nextRecord(journal);
+        if (first == null || first.get() != SNAPSHOT_RECORD || first.getLong() != snapshotChecksum) {
+            logger.info("Ignoring journal " + journalPath + " written for an older snapshot");
+            return -1;
+        }
+
+        int recordCount = 0;
+        int intactLength = journal.position();
+        for (ByteBuffer record = nextRecord(journal); record != null; record = nextRecord(journal)) {
+            apply(record, tasks);
+            recordCount++;
+            intactLength = journal.position();
+        }
+        if (intactLength < journal.limit()) {
+            logger.warning("Discarding torn record at the end of journal " + journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(intactLength);
+            }
+        }
+        return recordCount;
+    }
+
+    /**
+     * Returns the contents of the record at the position of {@code journal} and moves past it, or null if there is
+     * no intact record there.
+     */
+    private static ByteBuffer nextRecord(ByteBuffer journal) {
+        if (journal.remaining() < RECORD_HEADER_SIZE) {
+            return null;
+        }
+        int start = journal.position();
+        int length = journal.getInt(start);
+        int checksum = journal.getInt(start + Integer.BYTES);
+        if (length < 1 || length > journal.remaining() - RECORD_HEADER_SIZE) {
+            return null;
+        }
+        byte[] contents = new byte[length];
+        journal.position(start + RECORD_HEADER_SIZE);
+        journal.get(contents);
+        if ((int) checksumOf(contents) != checksum) {
+            journal.position(start);
+            return null;
+        }
+        return ByteBuffer.wrap(contents);
+    }
+
+    private static void apply(ByteBuffer record, List<Task> tasks) throws IOException, IllegalValueException {
+        byte type = record.get();
+        int index = record.getInt();
+        switch (type) {
+        case REMOVE_RECORD:
+            tasks.remove(index);
+            return;
+        case INSERT_RECORD:
+            tasks.add(index, readTask(record));
+            return;
+        case REPLACE_RECORD:
+            tasks.set(index, readTask(record));
+            return;
+        default:
+            throw new IOException("Unknown journal record type " + type);
+        }
+    }
+
+    private static Task readTask(ByteBuffer record) throws IOException, IllegalValueException {
+        String json = new String(record.array(), record.position(), record.remaining(), StandardCharsets.UTF_8);
+        return JsonUtil.fromJsonString(json, JsonAdaptedTask.class).toModelType();
+    }
+
+    /**
+     * Reads {@code in} to its end, for the bytes after the json to count towards its checksum.
+     */
+    private static void skipToEnd(InputStream in) throws IOException {
+        byte[] buffer = new byte[256];
+        while (in.read(buffer) != -1) {
+            // only the checksum of the bytes is needed
+        }
+    }
+
+    private static String fingerprintOf(long snapshotChecksum, int journalRecordCount) {
+        return snapshotChecksum + "+" + journalRecordCount;
+    }
+
+    private static byte[] snapshotRecord(long snapshotChecksum) {
+        return ByteBuffer.allocate(1 + Long.BYTES).put(SNAPSHOT_RECORD).putLong(snapshotChecksum).array();
+    }
+
+    private static byte[] indexRecord(byte type, int index) {
+        return ByteBuffer.allocate(1 + Integer.BYTES).put(type).putInt(index).array();
+    }
+
+    private static byte[] taskRecord(byte type, int index, Task task) throws IOException {
+        byte[] json = JsonUtil.toJsonString(new JsonAdaptedTask(task)).getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + Integer.BYTES + json.length).put(type).putInt(index).put(json).array();
+    }
+
+    private static void writeRecord(ByteArrayOutputStream bytes, byte[] contents) throws IOException {
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(contents.length);
+        out.writeInt((int) checksumOf(contents));
+        out.write(contents);
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+}
@@ -4,13 +4,9 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.day.Academic;
-import seedu.address.model.day.Cca;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
-import seedu.address.model.day.Entertainment;
-import seedu.address.model.day.Errand;
-import seedu.address.model.day.Other;
 
 /**
  * Jackson-friendly version of {@link Day}.
@@ -18,6 +14,8 @@ import seedu.address.model.day.Other;
 class JsonAdaptedDay {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Date's %s field is missing!";
+    public static final String MESSAGE_TIME_CONSTRAINTS_FORMAT =
+            "%s time should only contain hours & minutes separated by '.', ie: 1.30";
 
     private final String date;
     private final String academic;
@@ -48,11 +46,11 @@ class JsonAdaptedDay {
      */
     public JsonAdaptedDay(Day source) {
         date = source.getDate().value;
-        academic = source.getAcademic().getTime();
-        cca = source.getCca().getTime();
-        entertainment = source.getEntertainment().getTime();
-        errand = source.getErrand().getTime();
-        other = source.getOther().getTime();
+        academic = DateUtil.formatDuration(source.getAcademicMinutes());
+        cca = DateUtil.formatDuration(source.getCcaMinutes());
+        entertainment = DateUtil.formatDuration(source.getEntertainmentMinutes());
+        errand = DateUtil.formatDuration(source.getErrandMinutes());
+        other = DateUtil.formatDuration(source.getOtherMinutes());
     }
 
     /**
@@ -70,52 +68,28 @@ class JsonAdaptedDay {
         }
         final Date modelDate = new Date(date);
 
-        if (academic == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Academic.class.getSimpleName()));
-        }
-        if (!Academic.isValidTime(academic)) {
-            throw new IllegalValueException(Academic.MESSAGE_CONSTRAINTS);
-        }
-        final Academic modelAcademic = new Academic(academic);
-
-        if (cca == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Cca.class.getSimpleName()));
-        }
-        if (!Cca.isValidTime(cca)) {
-            throw new IllegalValueException(Cca.MESSAGE_CONSTRAINTS);
-        }
-        final Cca modelCca = new Cca(cca);
+        final int modelAcademic = toMinutes(academic, "Academic");
+        final int modelCca = toMinutes(cca, "Cca");
+        final int modelEntertainment = toMinutes(entertainment, "Entertainment");
+        final int modelErrand = toMinutes(errand, "Errand");
+        final int modelOther = toMinutes(other, "Other");
 
-        if (entertainment == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Entertainment.class.getSimpleName()));
-        }
-        if (!Entertainment.isValidTime(entertainment)) {
-            throw new IllegalValueException(Entertainment.MESSAGE_CONSTRAINTS);
-        }
-        final Entertainment modelEntertainment = new Entertainment(entertainment);
-
-        if (errand == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Errand.class.getSimpleName()));
-        }
-        if (!Errand.isValidTime(errand)) {
-            throw new IllegalValueException(Errand.MESSAGE_CONSTRAINTS);
-        }
-        final Errand modelErrand = new Errand(errand);
+        return new Day(modelDate, modelAcademic, modelEntertainment, modelCca, modelErrand, modelOther);
+    }
 
-        if (other == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Other.class.getSimpleName()));
+    /**
+     * Returns the minutes in the time spent on {@code category}.
+     *
+     * @throws IllegalValueException if {@code time} is missing or not a valid time.
+     */
+    private static int toMinutes(String time, String category) throws IllegalValueException {
+        if (time == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, category));
         }
-        if (!Other.isValidTime(other)) {
-            throw new IllegalValueException(Other.MESSAGE_CONSTRAINTS);
+        if (!time.matches(DateUtil.DURATION_VALIDATION_REGEX)) {
+            throw new IllegalValueException(String.format(MESSAGE_TIME_CONSTRAINTS_FORMAT, category));
         }
-        final Other modelOther = new Other(other);
-
-        return new Day(modelDate, modelAcademic, modelEntertainment, modelCca, modelErrand, modelOther);
+        return DateUtil.parseDuration(time);
     }
 
 }
@@ -27,6 +27,7 @@ class JsonAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Name's %s field is missing!";
 
+    private final long id;
     private final String name;
     private final String startDate;
     private final String startTime;
@@ -36,15 +37,26 @@ class JsonAdaptedTask {
     private final String categories;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedTask} with the given task details and no id.
+     */
+    public JsonAdaptedTask(String name, String startDate, String startTime, String endDate, String endTime,
+            String description, String categories, List<JsonAdaptedTag> tagged) {
+        this(null, name, startDate, startTime, endDate, endTime, description, categories, tagged);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedTask} with the given task details.
+     * A missing {@code id} is read as unassigned, so files written before ids existed still load.
      */
     @JsonCreator
-    public JsonAdaptedTask(@JsonProperty("name") String name, @JsonProperty("start date") String startDate,
+    public JsonAdaptedTask(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("start date") String startDate,
             @JsonProperty("start time") String startTime, @JsonProperty("end date") String endDate,
             @JsonProperty("end time") String endTime, @JsonProperty("description") String description,
             @JsonProperty("category") String categories, @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
 
+        this.id = id == null ? Task.UNASSIGNED_ID : id;
         this.name = name;
         this.startDate = startDate;
         this.startTime = startTime;
@@ -61,6 +73,7 @@ class JsonAdaptedTask {
      * Converts a given {@code Task} into this class for Jackson use.
      */
     public JsonAdaptedTask(Task source) {
+        id = source.getId();
         name = source.getName().fullName;
         startDate = source.getStartDate().value;
         startTime = source.getStartTime().value;
@@ -144,11 +157,15 @@ class JsonAdaptedTask {
         if (!Categories.isValidCategories(categories)) {
             throw new IllegalValueException(Categories.MESSAGE_CONSTRAINTS);
         }
-        final Categories modelCategories = new Categories(categories);
+        final Categories modelCategories = Categories.of(categories);
+
+        if (id < Task.UNASSIGNED_ID) {
+            throw new IllegalValueException(Task.MESSAGE_ID_CONSTRAINTS);
+        }
 
         final Set<Tag> modelTags = new HashSet<>(taskTags);
         return new Task(modelName, modelStartDate, modelStartTime, modelEndDate, modelEndTime, modelDescription,
-                modelCategories, modelTags);
+                modelCategories, modelTags, id);
     }
 
 }
@@ -0,0 +1,38 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly contents of a {@link DerivedStateCache}: the days of a task book, with the fingerprint of the data
+ * they were derived from.
+ */
+class JsonDerivedState {
+
+    private final String sourceFingerprint;
+    private final List<JsonAdaptedDay> days = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonDerivedState} with the given details.
+     */
+    @JsonCreator
+    public JsonDerivedState(@JsonProperty("sourceFingerprint") String sourceFingerprint,
+                            @JsonProperty("days") List<JsonAdaptedDay> days) {
+        this.sourceFingerprint = sourceFingerprint;
+        if (days != null) {
+            this.days.addAll(days);
+        }
+    }
+
+    public String getSourceFingerprint() {
+        return sourceFingerprint;
+    }
+
+    public List<JsonAdaptedDay> getDays() {
+        return Collections.unmodifiableList(days);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a task book stored by {@link SegmentedTaskBookStorage}.
+ * It names the file holding the tasks of each month. The order of the tasks across the months is kept in the
+ * segment files themselves, so the manifest grows with the number of months alone.
+ */
+class JsonSegmentManifest {
+
+    private final String storeId;
+    private final long generation;
+    private final Map<String, String> segments = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("storeId") String storeId,
+                               @JsonProperty("generation") long generation,
+                               @JsonProperty("segments") Map<String, String> segments) {
+        this.storeId = storeId;
+        this.generation = generation;
+        if (segments != null) {
+            this.segments.putAll(segments);
+        }
+    }
+
+    /**
+     * Returns the random id given to the store when its first manifest was written, or null if the manifest has
+     * none. Generations of every store start at 0, so the id tells the manifests of different stores apart.
+     */
+    public String getStoreId() {
+        return storeId;
+    }
+
+    /**
+     * Returns the number of the save that wrote this manifest. Segment files written by that save carry it in their
+     * names, so that they never replace a file named by the previous manifest.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the name of the segment file of each month.
+     */
+    public Map<String, String> getSegments() {
+        return Collections.unmodifiableMap(segments);
+    }
+
+    /**
+     * Returns true if both manifests name the same segment files.
+     */
+    public boolean hasSameContents(JsonSegmentManifest other) {
+        return other != null && segments.equals(other.segments);
+    }
+}
@@ -1,17 +1,30 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.TaskBook;
+import seedu.address.model.day.Day;
+import seedu.address.model.task.Name;
 import seedu.address.model.task.Task;
 
 /**
@@ -23,6 +36,11 @@ public class JsonSerializableTaskBook {
     public static final String MESSAGE_DUPLICATE_TASK = "Tasks list contains duplicate task(s).";
     public static final String MESSAGE_DUPLICATE_DAY = "Days list contains duplicate day(s).";
 
+    /** The number of tasks below which converting them in parallel costs more than it saves. */
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 1024;
+    /** The number of tasks read from a stream before they are converted. */
+    private static final int CONVERSION_CHUNK_SIZE = 8 * PARALLEL_CONVERSION_THRESHOLD;
+
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
     private final List<JsonAdaptedDay> days = new ArrayList<>();
 
@@ -57,16 +75,187 @@ public class JsonSerializableTaskBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TaskBook toModelType() throws IllegalValueException {
-        TaskBook taskBook = new TaskBook();
-        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
-            if (taskBook.hasTask(task)) {
+        return toTaskBook(toModelTasks(tasks));
+    }
+
+    /**
+     * Converts {@code jsonAdaptedTasks} into the model's {@code Task} objects, in order.
+     * Large lists are validated and converted in parallel on the common pool, as each task converts on its own.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in a task.
+     */
+    static List<Task> toModelTasks(List<JsonAdaptedTask> jsonAdaptedTasks) throws IllegalValueException {
+        Stream<JsonAdaptedTask> stream = jsonAdaptedTasks.size() < PARALLEL_CONVERSION_THRESHOLD
+                ? jsonAdaptedTasks.stream()
+                : jsonAdaptedTasks.parallelStream();
+        try {
+            return stream.map(jsonAdaptedTask -> {
+                try {
+                    return jsonAdaptedTask.toModelType();
+                } catch (IllegalValueException ive) {
+                    throw new IllegalTaskException(ive);
+                }
+            }).collect(Collectors.toList());
+        } catch (IllegalTaskException ite) {
+            throw ite.getCause();
+        }
+    }
+
+    /**
+     * Returns a {@code TaskBook} holding {@code tasks}, in order.
+     * Duplicates are found by hashing, and the task book is filled in a single step, which builds the days in one
+     * pass over the tasks and notifies its listeners once.
+     *
+     * @throws IllegalValueException if {@code tasks} contains duplicate tasks.
+     */
+    static TaskBook toTaskBook(List<Task> tasks) throws IllegalValueException {
+        return toTaskBook(tasks, null);
+    }
+
+    /**
+     * Returns a {@code TaskBook} holding {@code tasks}, in order, as {@link #toTaskBook(List)} does, taking
+     * {@code days} as the days of the tasks instead of building them, unless it is null.
+     *
+     * @throws IllegalValueException if {@code tasks} contains duplicate tasks.
+     */
+    static TaskBook toTaskBook(List<Task> tasks, List<Day> days) throws IllegalValueException {
+        Set<Name> names = new HashSet<>();
+        for (Task task : tasks) {
+            if (!names.add(task.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
             }
-            taskBook.addTask(task);
+        }
+        TaskBook taskBook = new TaskBook();
+        if (days == null) {
+            taskBook.setTasks(tasks);
+        } else {
+            taskBook.setTasks(tasks, days);
         }
         return taskBook;
     }
+
+    /**
+     * Writes {@code source} as json to {@code out} one task and one day at a time, in the same format as this
+     * class, without building the whole document in memory first.
+     *
+     * @param isPrettyPrinted whether the json is indented, instead of written on a single line.
+     */
+    public static void write(ReadOnlyTaskBook source, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("tasks");
+            for (Task task : source.getTaskList()) {
+                generator.writeObject(new JsonAdaptedTask(task));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("days");
+            for (Day day : source.getDayList()) {
+                generator.writeObject(new JsonAdaptedDay(day));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code tasks} as json to {@code out} one task at a time, as a task book without its days.
+     * Its tasks can be read back by {@link #readTasks(InputStream)}.
+     *
+     * @param isPrettyPrinted whether the json is indented, instead of written on a single line.
+     */
+    public static void writeTasks(List<Task> tasks, OutputStream out, boolean isPrettyPrinted) throws IOException {
+        writeTasks(tasks, null, out, isPrettyPrinted);
+    }
+
+    /**
+     * Writes {@code tasks} as {@link #writeTasks(List, OutputStream, boolean)} does, followed by {@code orderKeys},
+     * one for each task, unless it is null. The keys can be read back by {@link #readTasks(InputStream, List)}.
+     */
+    public static void writeTasks(List<Task> tasks, List<Long> orderKeys, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("tasks");
+            for (Task task : tasks) {
+                generator.writeObject(new JsonAdaptedTask(task));
+            }
+            generator.writeEndArray();
+            if (orderKeys != null) {
+                generator.writeArrayFieldStart("order");
+                for (long key : orderKeys) {
+                    generator.writeNumber(key);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads the tasks of a task book written as json from {@code in}, converting each task into the model's
+     * {@code Task} as soon as it is read, so that the document is never held in memory as a whole.
+     * The days are derived from the tasks, so they are skipped.
+     *
+     * @throws IOException if {@code in} is not a task book in json.
+     * @throws IllegalValueException if there were any data constraints violated in a task.
+     */
+    public static List<Task> readTasks(InputStream in) throws IOException, IllegalValueException {
+        return readTasks(in, null);
+    }
+
+    /**
+     * Reads the tasks of a task book written as json from {@code in}, as {@link #readTasks(InputStream)} does, and
+     * adds the order keys written with them to {@code orderKeys}, unless it is null.
+     */
+    public static List<Task> readTasks(InputStream in, List<Long> orderKeys) throws IOException,
+            IllegalValueException {
+        List<Task> modelTasks = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Task book is not a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                boolean isArray = parser.nextToken() == JsonToken.START_ARRAY;
+                if (isArray && fieldName.equals("tasks")) {
+                    readTasks(parser, modelTasks);
+                } else if (isArray && fieldName.equals("order") && orderKeys != null) {
+                    while (parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                        orderKeys.add(parser.getLongValue());
+                    }
+                    if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                        throw new JsonParseException(parser, "Order key is not an integer");
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return modelTasks;
+    }
+
+    /**
+     * Reads the tasks of the array at {@code parser} into {@code modelTasks}. The tasks are converted a chunk at a
+     * time, so that a chunk can be converted in parallel while only the chunk is held as {@code JsonAdaptedTask}s.
+     */
+    private static void readTasks(JsonParser parser, List<Task> modelTasks) throws IOException,
+            IllegalValueException {
+        List<JsonAdaptedTask> chunk = new ArrayList<>();
+        JsonToken token = parser.nextToken();
+        while (token == JsonToken.START_OBJECT) {
+            chunk.add(parser.readValueAs(JsonAdaptedTask.class));
+            if (chunk.size() == CONVERSION_CHUNK_SIZE) {
+                modelTasks.addAll(toModelTasks(chunk));
+                chunk.clear();
+            }
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, "Task is not a json object");
+        }
+        modelTasks.addAll(toModelTasks(chunk));
+    }
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -78,4 +267,18 @@ public class JsonSerializableTaskBook {
         }
         return tasks.equals(((JsonSerializableTaskBook) other).tasks);
     }
+
+    /**
+     * Carries an {@code IllegalValueException} out of a stream of task conversions.
+     */
+    private static class IllegalTaskException extends RuntimeException {
+        IllegalTaskException(IllegalValueException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IllegalValueException getCause() {
+            return (IllegalValueException) super.getCause();
+        }
+    }
 }
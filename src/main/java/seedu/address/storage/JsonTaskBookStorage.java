@@ -2,9 +2,13 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,8 +16,8 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.day.Day;
 
 /**
  * A class to access TaskBook data stored as a json file on the hard disk.
@@ -24,10 +28,20 @@ public class JsonTaskBookStorage implements TaskBookStorage {
 
     private Path filePath;
     private Path backupPath;
+    private boolean isPrettyPrinted;
 
     public JsonTaskBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the task book at {@code filePath}, written indented if {@code isPrettyPrinted}, or on
+     * a single line otherwise.
+     */
+    public JsonTaskBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
         this.backupPath = Paths.get(filePath.toString() + ".backup");
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getTaskBookFilePath() {
@@ -46,16 +60,31 @@ public class JsonTaskBookStorage implements TaskBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException {
+        return readTaskBook(filePath, null);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(List<Day> days) throws DataConversionException {
+        requireNonNull(days);
+        return readTaskBook(filePath, days);
+    }
+
+    /**
+     * Reads the task book at {@code filePath}, taking {@code days} as its days unless it is null.
+     */
+    private Optional<ReadOnlyTaskBook> readTaskBook(Path filePath, List<Day> days) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskBook> jsonTaskBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTaskBook.class);
-        if (!jsonTaskBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonTaskBook.get().toModelType());
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(JsonSerializableTaskBook.toTaskBook(JsonSerializableTaskBook.readTasks(in), days));
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -76,8 +105,8 @@ public class JsonTaskBookStorage implements TaskBookStorage {
         requireNonNull(taskBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(taskBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out ->
+                JsonSerializableTaskBook.write(taskBook, out, isPrettyPrinted));
     }
     /**
      * Similar to {@link #backupTaskBook(ReadOnlyTaskBook)}
@@ -0,0 +1,503 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.day.Day;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored as one json file per month, listed in a manifest.
+ * A task belongs to the month of its start date. A save writes only the months whose tasks changed since the last
+ * read or save, which are found by comparing the tasks of each month with those last written: tasks are immutable,
+ * so an edited task is a different object. Reading loads the months in parallel.
+ *
+ * The order of the tasks across the months is kept as an order key for each task, written in its segment: the keys
+ * increase along the task list, and reading merges the months by key. A save keeps the keys of the tasks that did
+ * not move and fits keys for the others between them, so that adding, removing or editing a task only changes the
+ * keys of its own month.
+ *
+ * A changed month is written to a new file, and the file it replaces is deleted only once the manifest naming the
+ * new file is in place, so an interrupted save leaves the task book as it was before the save. The generation of
+ * the manifest, which every save writing a segment advances, together with the random id of the store fingerprints
+ * the data.
+ */
+public class SegmentedTaskBookStorage implements TaskBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedTaskBookStorage.class);
+
+    /** The distance between the order keys of consecutive tasks given new keys, leaving room for insertions. */
+    private static final long ORDER_KEY_GAP = 1L << 32;
+
+    private Path filePath;
+    private Path backupPath;
+    private boolean isPrettyPrinted;
+
+    /** The manifest of the data file as of the last read or save, or null if it is not known. */
+    private JsonSegmentManifest savedManifest;
+    /** The tasks of each month in the segment files named by {@link #savedManifest}. */
+    private Map<String, List<Task>> savedSegments;
+    /** The order keys of the tasks of each month in {@link #savedSegments}. */
+    private Map<String, List<Long>> savedOrderKeys;
+
+    public SegmentedTaskBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the task book whose manifest is at {@code filePath}, with its segment files in the same
+     * directory. The segments are written indented if {@code isPrettyPrinted}, or on a single line otherwise.
+     */
+    public SegmentedTaskBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        this.backupPath = Paths.get(getSegmentDirectory(filePath).toString() + ".backup", MANIFEST_FILE_NAME);
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Returns the path of the manifest kept in place of the json file at {@code jsonFilePath}: a manifest in a
+     * directory named after the json file without its {@code .json} extension.
+     */
+    public static Path getManifestPath(Path jsonFilePath) {
+        String path = jsonFilePath.toString();
+        return Paths.get(path.endsWith(".json") ? path.substring(0, path.length() - ".json".length()) : path,
+                MANIFEST_FILE_NAME);
+    }
+
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the manifest alone. A changed segment is always written to a file of a new name, so the manifest naming
+     * the segment files decides the data.
+     */
+    @Override
+    public List<Path> getDataFilePaths() {
+        return Collections.singletonList(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or a segment is not in the correct format.
+     */
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException {
+        return readTaskBook(filePath, null);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(List<Day> days) throws DataConversionException {
+        requireNonNull(days);
+        return readTaskBook(filePath, unused -> Optional.of(days));
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Function<String, Optional<List<Day>>> cachedDays)
+            throws DataConversionException {
+        requireNonNull(cachedDays);
+        return readTaskBook(filePath, cachedDays);
+    }
+
+    /**
+     * Reads the task book at {@code filePath}, taking its days from {@code cachedDays} unless it is null or does not
+     * have them.
+     */
+    private Optional<ReadOnlyTaskBook> readTaskBook(Path filePath, Function<String, Optional<List<Day>>> cachedDays)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonSegmentManifest> manifest = JsonUtil.readJsonFile(filePath, JsonSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            Map<String, List<Task>> segments = new HashMap<>();
+            Map<String, List<Long>> orderKeys = new HashMap<>();
+            readSegments(getSegmentDirectory(filePath), manifest.get(), segments, orderKeys);
+            List<Day> days = cachedDays == null ? null : cachedDays.apply(fingerprintOf(manifest.get())).orElse(null);
+            ReadOnlyTaskBook taskBook = JsonSerializableTaskBook.toTaskBook(orderTasks(segments, orderKeys), days);
+            if (filePath.equals(this.filePath)) {
+                savedManifest = manifest.get();
+                savedSegments = segments;
+                savedOrderKeys = orderKeys;
+            }
+            return Optional.of(taskBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public Optional<String> getDataFingerprint() {
+        return savedManifest == null ? Optional.empty() : Optional.of(fingerprintOf(savedManifest));
+    }
+
+    /**
+     * Returns false, as a save only writes the months that changed.
+     */
+    @Override
+    public boolean isCompacted() {
+        return false;
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * All months are written if the task book at {@code filePath} was not read or saved by this storage last.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath) && savedManifest != null;
+        JsonSegmentManifest previousManifest = isOwnFile ? savedManifest : readManifestIfValid(filePath);
+        Map<String, List<Task>> previousSegments = isOwnFile ? savedSegments : Collections.emptyMap();
+        Map<String, List<Long>> previousOrderKeys = isOwnFile ? savedOrderKeys : Collections.emptyMap();
+
+        List<Task> taskList = taskBook.getTaskList();
+        long[] keys = getOrderKeys(taskList, previousSegments, previousOrderKeys);
+        Map<String, List<Task>> segments = new LinkedHashMap<>();
+        Map<String, List<Long>> orderKeys = new HashMap<>();
+        for (int i = 0; i < taskList.size(); i++) {
+            String month = getMonth(taskList.get(i));
+            segments.computeIfAbsent(month, unused -> new ArrayList<>()).add(taskList.get(i));
+            orderKeys.computeIfAbsent(month, unused -> new ArrayList<>()).add(keys[i]);
+        }
+
+        Path directory = getSegmentDirectory(filePath);
+        long generation = previousManifest == null ? 0 : previousManifest.getGeneration() + 1;
+        Map<String, String> segmentFiles = new TreeMap<>();
+        for (Map.Entry<String, List<Task>> segment : segments.entrySet()) {
+            String month = segment.getKey();
+            List<Task> tasks = segment.getValue();
+            List<Long> monthKeys = orderKeys.get(month);
+            String previousFile = previousManifest == null ? null : previousManifest.getSegments().get(month);
+            if (previousFile != null && isSameTasks(previousSegments.get(month), tasks)
+                    && monthKeys.equals(previousOrderKeys.get(month))) {
+                segmentFiles.put(month, previousFile);
+                continue;
+            }
+            String file = month + "." + generation + ".json";
+            FileUtil.writeToFileAtomically(directory.resolve(file), out ->
+                    JsonSerializableTaskBook.writeTasks(tasks, monthKeys, out, isPrettyPrinted));
+            segmentFiles.put(month, file);
+        }
+
+        String storeId = previousManifest == null || previousManifest.getStoreId() == null
+                ? UUID.randomUUID().toString() : previousManifest.getStoreId();
+        JsonSegmentManifest manifest = new JsonSegmentManifest(storeId, generation, segmentFiles);
+        if (!manifest.hasSameContents(previousManifest)) {
+            byte[] json = JsonUtil.toJsonString(manifest).getBytes(StandardCharsets.UTF_8);
+            FileUtil.writeToFileAtomically(filePath, out -> out.write(json));
+            if (previousManifest != null) {
+                deleteUnusedSegments(directory, previousManifest, segmentFiles);
+            }
+        } else {
+            manifest = previousManifest;
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedManifest = manifest;
+            savedSegments = segments;
+            savedOrderKeys = orderKeys;
+        }
+    }
+
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, backupPath);
+    }
+
+    private static String fingerprintOf(JsonSegmentManifest manifest) {
+        return manifest.getStoreId() + "+" + manifest.getGeneration();
+    }
+
+    /**
+     * Returns the month of the segment holding {@code task}, taken from the fields of its start date, so that
+     * dates past the end of their month such as {@code 31-02-19} stay in the month they name.
+     */
+    private static String getMonth(Task task) {
+        return task.getStartDate().value.substring("dd-".length());
+    }
+
+    private static Path getSegmentDirectory(Path manifestPath) {
+        return manifestPath.toAbsolutePath().getParent();
+    }
+
+    /**
+     * Returns an order key for each of {@code tasks}, increasing along the list. The tasks last saved with the keys
+     * {@code previousOrderKeys} keep their keys, except for the fewest needed to keep the keys increasing; the other
+     * tasks get keys spread between those of the tasks around them. Only if there is no room left between two keys
+     * are the tasks given new keys throughout.
+     */
+    private static long[] getOrderKeys(List<Task> tasks, Map<String, List<Task>> previousSegments,
+            Map<String, List<Long>> previousOrderKeys) {
+        Map<Task, Long> previousKeys = new IdentityHashMap<>();
+        previousSegments.forEach((month, monthTasks) -> {
+            List<Long> monthKeys = previousOrderKeys.get(month);
+            for (int i = 0; i < monthTasks.size(); i++) {
+                previousKeys.put(monthTasks.get(i), monthKeys.get(i));
+            }
+        });
+
+        // the tasks keeping their keys are a longest sequence of tasks, along the list, whose keys increase
+        int[] tails = new int[tasks.size()];
+        long[] tailKeys = new long[tasks.size()];
+        int[] predecessors = new int[tasks.size()];
+        int length = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            Long key = previousKeys.get(tasks.get(i));
+            if (key == null) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (tailKeys[middle] < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            predecessors[i] = low == 0 ? -1 : tails[low - 1];
+            tails[low] = i;
+            tailKeys[low] = key;
+            length = Math.max(length, low + 1);
+        }
+
+        long[] keys = new long[tasks.size()];
+        boolean[] isKept = new boolean[tasks.size()];
+        for (int i = length == 0 ? -1 : tails[length - 1]; i >= 0; i = predecessors[i]) {
+            keys[i] = previousKeys.get(tasks.get(i));
+            isKept[i] = true;
+        }
+
+        try {
+            int start = 0;
+            while (start < tasks.size()) {
+                if (isKept[start]) {
+                    start++;
+                    continue;
+                }
+                int end = start;
+                while (end < tasks.size() && !isKept[end]) {
+                    end++;
+                }
+                fillOrderKeys(keys, start, end);
+                start = end;
+            }
+        } catch (ArithmeticException e) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = (i + 1) * ORDER_KEY_GAP;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Gives the tasks from {@code start} to {@code end}, between tasks which keep their keys, keys between those.
+     *
+     * @throws ArithmeticException if there is no room for the keys.
+     */
+    private static void fillOrderKeys(long[] keys, int start, int end) {
+        int count = end - start;
+        if (start == 0 && end == keys.length) {
+            for (int i = start; i < end; i++) {
+                keys[i] = Math.multiplyExact(i + 1, ORDER_KEY_GAP);
+            }
+        } else if (end == keys.length) {
+            for (int i = start; i < end; i++) {
+                keys[i] = Math.addExact(keys[start - 1], Math.multiplyExact(i - start + 1, ORDER_KEY_GAP));
+            }
+        } else if (start == 0) {
+            for (int i = start; i < end; i++) {
+                keys[i] = Math.subtractExact(keys[end], Math.multiplyExact(end - i, ORDER_KEY_GAP));
+            }
+        } else {
+            long step = Math.subtractExact(keys[end], keys[start - 1]) / (count + 1);
+            if (step == 0) {
+                throw new ArithmeticException("No room between order keys");
+            }
+            for (int i = start; i < end; i++) {
+                keys[i] = keys[start - 1] + (i - start + 1) * step;
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code previous} holds the same task objects as {@code current}, in the same order.
+     */
+    private static boolean isSameTasks(List<Task> previous, List<Task> current) {
+        if (previous == null || previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (previous.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the segments named by {@code manifest} in parallel on the common pool, into {@code segments}, with the
+     * order keys of their tasks into {@code orderKeys}.
+     */
+    private static void readSegments(Path directory, JsonSegmentManifest manifest, Map<String, List<Task>> segments,
+            Map<String, List<Long>> orderKeys) throws IOException, IllegalValueException {
+        Map<String, CompletableFuture<List<Task>>> pendingSegments = new HashMap<>();
+        for (Map.Entry<String, String> segment : manifest.getSegments().entrySet()) {
+            Path segmentPath = resolveSegment(directory, segment.getValue());
+            List<Long> segmentKeys = new ArrayList<>();
+            orderKeys.put(segment.getKey(), segmentKeys);
+            pendingSegments.put(segment.getKey(), CompletableFuture.supplyAsync(() -> {
+                try {
+                    return readSegment(segmentPath, segmentKeys);
+                } catch (IOException | IllegalValueException e) {
+                    throw new CompletionException(e);
+                }
+            }));
+        }
+
+        for (Map.Entry<String, CompletableFuture<List<Task>>> segment : pendingSegments.entrySet()) {
+            try {
+                segments.put(segment.getKey(), segment.getValue().join());
+            } catch (CompletionException ce) {
+                if (ce.getCause() instanceof IOException) {
+                    throw (IOException) ce.getCause();
+                } else if (ce.getCause() instanceof IllegalValueException) {
+                    throw (IllegalValueException) ce.getCause();
+                }
+                throw ce;
+            }
+        }
+    }
+
+    /**
+     * Reads the tasks of the segment at {@code segmentPath}, adding their order keys to {@code orderKeys}.
+     *
+     * @throws IOException if the segment does not have one order key for each task.
+     */
+    private static List<Task> readSegment(Path segmentPath, List<Long> orderKeys)
+            throws IOException, IllegalValueException {
+        List<Task> tasks;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(segmentPath))) {
+            tasks = JsonSerializableTaskBook.readTasks(in, orderKeys);
+        }
+        if (tasks.size() != orderKeys.size()) {
+            throw new IOException("Segment " + segmentPath + " does not have an order key for each task");
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the path of the segment file named {@code fileName} in {@code directory}.
+     *
+     * @throws IOException if {@code fileName} names a file outside {@code directory}.
+     */
+    private static Path resolveSegment(Path directory, String fileName) throws IOException {
+        Path segmentPath = directory.resolve(fileName).normalize();
+        if (!directory.equals(segmentPath.getParent())) {
+            throw new IOException("Segment file " + fileName + " is not in " + directory);
+        }
+        return segmentPath;
+    }
+
+    /**
+     * Returns the tasks of {@code segments} in the order of their keys in {@code orderKeys}.
+     *
+     * @throws IOException if two tasks have the same order key.
+     */
+    private static List<Task> orderTasks(Map<String, List<Task>> segments, Map<String, List<Long>> orderKeys)
+            throws IOException {
+        TreeMap<Long, Task> tasksByKey = new TreeMap<>();
+        for (Map.Entry<String, List<Task>> segment : segments.entrySet()) {
+            List<Long> segmentKeys = orderKeys.get(segment.getKey());
+            for (int i = 0; i < segment.getValue().size(); i++) {
+                if (tasksByKey.put(segmentKeys.get(i), segment.getValue().get(i)) != null) {
+                    throw new IOException("Segment " + segment.getKey() + " repeats the order key "
+                            + segmentKeys.get(i));
+                }
+            }
+        }
+        return new ArrayList<>(tasksByKey.values());
+    }
+
+    /**
+     * Returns the manifest at {@code filePath}, or null if there is none or it cannot be read.
+     */
+    private static JsonSegmentManifest readManifestIfValid(Path filePath) {
+        try {
+            return JsonUtil.readJsonFile(filePath, JsonSegmentManifest.class).orElse(null);
+        } catch (DataConversionException e) {
+            logger.warning("Replacing unreadable manifest " + filePath);
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the segment files named by {@code previousManifest} that are no longer among {@code segmentFiles}.
+     * A file that cannot be deleted is left behind, as the manifest no longer names it.
+     */
+    private static void deleteUnusedSegments(Path directory, JsonSegmentManifest previousManifest,
+            Map<String, String> segmentFiles) {
+        for (String previousFile : previousManifest.getSegments().values()) {
+            if (segmentFiles.containsValue(previousFile)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(resolveSegment(directory, previousFile));
+            } catch (IOException e) {
+                logger.warning("Failed to delete unused segment " + previousFile + ": " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.TaskBookArchive;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.EndDate;
+import seedu.address.model.task.EndTime;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.StartDate;
+import seedu.address.model.task.StartTime;
+import seedu.address.model.task.Task;
+
+/**
+ * A read-only archive of past tasks, kept in a file that is memory-mapped instead of read into memory.
+ * The file is a sequence of segments, one for each time tasks were archived. A segment stores its tasks ordered by
+ * start date, after an index of the start date and the position of each task, so the tasks starting in a range of
+ * days are found by a binary search of the index of each segment and only their records are decoded.
+ * An archive never changes: archiving more tasks appends a segment to the file and maps it again, which leaves the
+ * bytes mapped by the old archive as they were.
+ *
+ * A segment starts with a header of {@link #MAGIC}, {@link #VERSION}, its length, the number of its tasks and their
+ * greatest id. It holds one index entry of the start epoch day and the record position, from the start of the
+ * segment, of each task, followed by the records. A segment torn by an interrupted append is ignored, and the next
+ * append is written over it.
+ */
+public class TaskArchive implements TaskBookArchive {
+
+    /** "TKAR" */
+    public static final int MAGIC = 0x544B4152;
+    public static final byte VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(TaskArchive.class);
+
+    private static final int VERSION_OFFSET = Integer.BYTES;
+    private static final int LENGTH_OFFSET = VERSION_OFFSET + Byte.BYTES;
+    private static final int SIZE_OFFSET = LENGTH_OFFSET + Integer.BYTES;
+    private static final int MAX_ID_OFFSET = SIZE_OFFSET + Integer.BYTES;
+    private static final int HEADER_SIZE = MAX_ID_OFFSET + Long.BYTES;
+    private static final int INDEX_ENTRY_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private final Path filePath;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final int size;
+    private final long maxId;
+    /** The length of the intact segments at the start of the file, where the next segment is appended. */
+    private final int length;
+
+    /**
+     * Creates an archive over the contents of the archive file at {@code filePath}, checking the header of each
+     * segment.
+     *
+     * @throws IOException if {@code buffer} does not hold an archive.
+     */
+    private TaskArchive(Path filePath, ByteBuffer buffer) throws IOException {
+        this.filePath = filePath;
+        int position = 0;
+        int taskCount = 0;
+        long greatestId = Task.UNASSIGNED_ID;
+        for (ByteBuffer segment = segmentAt(buffer, position); segment != null;
+                segment = segmentAt(buffer, position)) {
+            segments.add(segment);
+            taskCount += segment.getInt(SIZE_OFFSET);
+            greatestId = Math.max(greatestId, segment.getLong(MAX_ID_OFFSET));
+            position += segment.limit();
+        }
+        if (position < buffer.limit()) {
+            logger.warning("Ignoring torn segment at the end of archive " + filePath);
+        }
+        size = taskCount;
+        maxId = greatestId;
+        length = position;
+    }
+
+    /**
+     * Returns the segment starting at {@code position} of {@code buffer}, or null if there is no intact segment
+     * there.
+     *
+     * @throws IOException if {@code buffer} does not start with a segment of an archive.
+     */
+    private static ByteBuffer segmentAt(ByteBuffer buffer, int position) throws IOException {
+        int remaining = buffer.limit() - position;
+        if (position == 0 && remaining >= Integer.BYTES && buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a task archive file");
+        }
+        if (remaining < HEADER_SIZE || buffer.getInt(position) != MAGIC) {
+            return null; // the end of the file, or what is left of a torn segment
+        }
+        if (buffer.get(position + VERSION_OFFSET) != VERSION) {
+            throw new IOException("Unsupported task archive version " + buffer.get(position + VERSION_OFFSET));
+        }
+        int length = buffer.getInt(position + LENGTH_OFFSET);
+        if (length < HEADER_SIZE || length > remaining) {
+            return null;
+        }
+        int size = buffer.getInt(position + SIZE_OFFSET);
+        if (size < 0 || HEADER_SIZE + (long) size * INDEX_ENTRY_SIZE > length) {
+            throw new IOException("Task archive index out of range");
+        }
+        ByteBuffer segment = buffer.duplicate();
+        segment.position(position).limit(position + length);
+        return segment.slice();
+    }
+
+    /**
+     * Returns the path of the archive kept with the task book at {@code taskBookFilePath}.
+     */
+    public static Path getArchivePath(Path taskBookFilePath) {
+        return Paths.get(taskBookFilePath.toString() + ".archive");
+    }
+
+    /**
+     * Maps the archive file at {@code filePath} into memory, or returns an empty archive if there is no such file.
+     *
+     * @throws IOException if the file cannot be read or is not an archive.
+     */
+    public static TaskArchive open(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Archive file " + filePath + " not found");
+            return new TaskArchive(filePath, ByteBuffer.allocate(0));
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return new TaskArchive(filePath, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of archived tasks.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getMaxId() {
+        return maxId;
+    }
+
+    /**
+     * Returns every archived task, ordered by start date.
+     *
+     * @throws IOException if a record of the file is corrupted.
+     */
+    @Override
+    public List<Task> getTasks() throws IOException {
+        List<Task> tasks = new ArrayList<>(size);
+        for (ByteBuffer segment : segments) {
+            tasks.addAll(decodeTasks(segment, 0, segment.getInt(SIZE_OFFSET)));
+        }
+        return orderedByStartDate(tasks);
+    }
+
+    /**
+     * Returns the archived tasks starting between {@code fromEpochDay} and {@code toEpochDay} inclusive, ordered by
+     * start date. Only the records of these tasks are read from the file.
+     *
+     * @throws IOException if a record of the file is corrupted.
+     */
+    @Override
+    public List<Task> getTasksStartingBetween(int fromEpochDay, int toEpochDay) throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        for (ByteBuffer segment : segments) {
+            int from = firstIndexStartingFrom(segment, fromEpochDay);
+            int to = firstIndexStartingFrom(segment, toEpochDay + 1);
+            tasks.addAll(decodeTasks(segment, from, Math.max(from, to)));
+        }
+        return orderedByStartDate(tasks);
+    }
+
+    /**
+     * Appends a segment holding {@code tasks} to this archive's file, and returns the archive of the file.
+     * Tasks that are already archived are left out. This archive stays readable, as the bytes of its segments are
+     * left as they were.
+     *
+     * @throws IOException if this archive cannot be read or the segment cannot be written.
+     */
+    @Override
+    public TaskArchive withTasks(List<Task> tasks) throws IOException {
+        requireNonNull(tasks);
+
+        List<Task> toArchive = new ArrayList<>();
+        for (Task task : tasks) {
+            if (!isArchived(task)) {
+                toArchive.add(task);
+            }
+        }
+        if (toArchive.isEmpty()) {
+            return this;
+        }
+        ByteBuffer segment = ByteBuffer.wrap(encode(toArchive));
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.position(length);
+            while (segment.hasRemaining()) {
+                channel.write(segment);
+            }
+            channel.force(false);
+        }
+        return open(filePath);
+    }
+
+    /**
+     * Returns true if {@code task} is archived as it is. Only the archived tasks starting on its start date are read.
+     */
+    private boolean isArchived(Task task) throws IOException {
+        int day = task.getStartDate().getEpochDay();
+        return getTasksStartingBetween(day, day).stream()
+                .anyMatch(archived -> archived.getId() == task.getId() && archived.isIdenticalTo(task));
+    }
+
+    /**
+     * Returns the position in the index of {@code segment} of the first task starting on or after {@code epochDay}.
+     */
+    private static int firstIndexStartingFrom(ByteBuffer segment, int epochDay) {
+        int low = 0;
+        int high = segment.getInt(SIZE_OFFSET);
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (segment.getInt(HEADER_SIZE + middle * INDEX_ENTRY_SIZE) < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Decodes the tasks at positions {@code from} inclusive to {@code to} exclusive of the index of {@code segment}.
+     */
+    private List<Task> decodeTasks(ByteBuffer segment, int from, int to) throws IOException {
+        List<Task> tasks = new ArrayList<>(to - from);
+        ByteBuffer records = segment.duplicate();
+        try {
+            for (int i = from; i < to; i++) {
+                records.position(segment.getInt(HEADER_SIZE + i * INDEX_ENTRY_SIZE + Integer.BYTES));
+                tasks.add(decodeTask(records));
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted record in " + filePath, e);
+        }
+        return tasks;
+    }
+
+    /**
+     * Orders {@code tasks}, made of the tasks of each segment in order, by start date, and returns them.
+     */
+    private List<Task> orderedByStartDate(List<Task> tasks) {
+        if (segments.size() > 1) {
+            tasks.sort(Comparator.comparingInt(task -> task.getStartDate().getEpochDay()));
+        }
+        return tasks;
+    }
+
+    /**
+     * Decodes the task written by {@link #encodeTask} at the position of {@code records}.
+     *
+     * @throws IllegalArgumentException if there were any data constraints violated in the task.
+     */
+    private static Task decodeTask(ByteBuffer records) throws IOException {
+        long id = records.getLong();
+        Name name = new Name(decodeString(records));
+        StartDate startDate = new StartDate(decodeString(records));
+        StartTime startTime = new StartTime(decodeString(records));
+        EndDate endDate = new EndDate(decodeString(records));
+        EndTime endTime = new EndTime(decodeString(records));
+        int category = records.get();
+        Categories[] categories = Categories.values();
+        if (category < 0 || category >= categories.length) {
+            throw new IOException("Unknown category " + category);
+        }
+        Description description = new Description(decodeString(records));
+        int tagCount = records.getInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(decodeString(records)));
+        }
+        return new Task(name, startDate, startTime, endDate, endTime, description, categories[category], tags, id);
+    }
+
+    private static String decodeString(ByteBuffer records) {
+        int length = records.getInt();
+        if (length < 0 || length > records.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        records.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the contents of a segment holding {@code tasks}.
+     */
+    private static byte[] encode(List<Task> tasks) throws IOException {
+        List<Task> sorted = new ArrayList<>(tasks);
+        sorted.sort(Comparator.comparingInt(task -> task.getStartDate().getEpochDay()));
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream recordsOut = new DataOutputStream(records);
+        int[] recordPositions = new int[sorted.size()];
+        int recordsStart = HEADER_SIZE + sorted.size() * INDEX_ENTRY_SIZE;
+        long maxId = Task.UNASSIGNED_ID;
+        for (int i = 0; i < sorted.size(); i++) {
+            recordPositions[i] = recordsStart + recordsOut.size();
+            encodeTask(sorted.get(i), recordsOut);
+            maxId = Math.max(maxId, sorted.get(i).getId());
+        }
+
+        ByteArrayOutputStream contents = new ByteArrayOutputStream(recordsStart + records.size());
+        DataOutputStream out = new DataOutputStream(contents);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(recordsStart + records.size());
+        out.writeInt(sorted.size());
+        out.writeLong(maxId);
+        for (int i = 0; i < sorted.size(); i++) {
+            out.writeInt(sorted.get(i).getStartDate().getEpochDay());
+            out.writeInt(recordPositions[i]);
+        }
+        records.writeTo(out);
+        out.flush();
+        return contents.toByteArray();
+    }
+
+    private static void encodeTask(Task task, DataOutputStream out) throws IOException {
+        out.writeLong(task.getId());
+        encodeString(task.getName().fullName, out);
+        encodeString(task.getStartDate().value, out);
+        encodeString(task.getStartTime().value, out);
+        encodeString(task.getEndDate().value, out);
+        encodeString(task.getEndTime().value, out);
+        out.writeByte(task.getCategories().ordinal());
+        encodeString(task.getDescription().value, out);
+        out.writeInt(task.getTags().size());
+        for (Tag tag : task.getTags()) {
+            encodeString(tag.tagName, out);
+        }
+    }
+
+    private static void encodeString(String string, DataOutputStream out) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
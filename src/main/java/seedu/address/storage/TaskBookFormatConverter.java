@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+
+/**
+ * Keeps the task book in the format chosen by the user up to date with the task books kept in the other formats.
+ * When the user switches formats, the task book last saved in any format is the one to carry on with, so a task book
+ * saved in another format after the chosen one was last saved is converted into the chosen format. Switching back and
+ * forth between formats thus keeps every change.
+ */
+public class TaskBookFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(TaskBookFormatConverter.class);
+
+    /**
+     * Converts the most recently saved task book of {@code otherStorages} into {@code chosenStorage}, if it was saved
+     * after the task book of {@code chosenStorage}, or if {@code chosenStorage} has none.
+     * A task book that cannot be converted is logged and left as it is.
+     */
+    public static void convertIfNewer(TaskBookStorage chosenStorage, List<TaskBookStorage> otherStorages) {
+        requireNonNull(chosenStorage);
+        requireNonNull(otherStorages);
+
+        Optional<FileTime> chosenTime = getLastModifiedTime(chosenStorage);
+        TaskBookStorage newestStorage = null;
+        FileTime newestTime = null;
+        for (TaskBookStorage otherStorage : otherStorages) {
+            Optional<FileTime> otherTime = getLastModifiedTime(otherStorage);
+            if (otherTime.isPresent() && (newestTime == null || otherTime.get().compareTo(newestTime) > 0)) {
+                newestStorage = otherStorage;
+                newestTime = otherTime.get();
+            }
+        }
+        if (newestStorage == null || (chosenTime.isPresent() && newestTime.compareTo(chosenTime.get()) <= 0)) {
+            return;
+        }
+
+        logger.info("Converting " + newestStorage.getTaskBookFilePath() + " to "
+                + chosenStorage.getTaskBookFilePath());
+        try {
+            Optional<ReadOnlyTaskBook> taskBook = newestStorage.readTaskBook();
+            if (taskBook.isPresent()) {
+                chosenStorage.saveTaskBook(taskBook.get());
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert the data file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the time the data files of {@code storage} were last modified, or {@code Optional.empty()} if it has
+     * no task book.
+     */
+    private static Optional<FileTime> getLastModifiedTime(TaskBookStorage storage) {
+        if (!Files.exists(storage.getTaskBookFilePath())) {
+            return Optional.empty();
+        }
+        FileTime lastModified = null;
+        for (Path dataFilePath : storage.getDataFilePaths()) {
+            try {
+                FileTime time = Files.getLastModifiedTime(dataFilePath);
+                if (lastModified == null || time.compareTo(lastModified) > 0) {
+                    lastModified = time;
+                }
+            } catch (IOException e) {
+                // a data file that is missing or cannot be read does not date the task book
+            }
+        }
+        return Optional.ofNullable(lastModified);
+    }
+}
@@ -2,10 +2,14 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.day.Day;
 
 /**
  * Represents a storage for {@link seedu.address.model.TaskBook}.
@@ -17,6 +21,14 @@ public interface TaskBookStorage {
      */
     Path getTaskBookFilePath();
 
+    /**
+     * Returns the files holding the data of this storage. The task book read from the storage depends on the
+     * contents of these files alone.
+     */
+    default List<Path> getDataFilePaths() {
+        return Collections.singletonList(getTaskBookFilePath());
+    }
+
     /**
      * Returns TaskBook data as a {@link ReadOnlyTaskBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -30,6 +42,46 @@ public interface TaskBookStorage {
      */
     Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns TaskBook data as {@link #readTaskBook()} does, taking {@code days} as the days of the tasks read
+     * instead of computing them, where the storage supports it. {@code days} must be the days of the data currently
+     * in the files of this storage.
+     */
+    default Optional<ReadOnlyTaskBook> readTaskBook(List<Day> days) throws DataConversionException, IOException {
+        return readTaskBook();
+    }
+
+    /**
+     * Returns TaskBook data as {@link #readTaskBook()} does, taking the days of the tasks read from
+     * {@code cachedDays} where it has them: {@code cachedDays} is given the fingerprint of the data read, as
+     * {@link #getDataFingerprint()} returns it after the read, and returns the days of that data if it knows them.
+     */
+    default Optional<ReadOnlyTaskBook> readTaskBook(Function<String, Optional<List<Day>>> cachedDays)
+            throws DataConversionException, IOException {
+        Optional<List<Day>> days = getDataFingerprint().flatMap(cachedDays);
+        return days.isPresent() ? readTaskBook(days.get()) : readTaskBook();
+    }
+
+    /**
+     * Returns a fingerprint of the data in the files of this storage, which differs for different data, or
+     * {@code Optional.empty()} if it is not known. By default it is the hash of the data files, which takes reading
+     * them; a storage that keeps track of what it wrote returns the fingerprint of the data as of its last read or
+     * save without reading the files.
+     *
+     * @throws IOException if the data files cannot be read.
+     */
+    default Optional<String> getDataFingerprint() throws IOException {
+        return Optional.of(DerivedStateCache.hashOf(getDataFilePaths()));
+    }
+
+    /**
+     * Returns true if the data files hold the task book written whole, with no change recorded after it, as they do
+     * after every save of a storage that always writes the task book whole.
+     */
+    default boolean isCompacted() {
+        return true;
+    }
+
     /**
      * Saves the given {@link ReadOnlyTaskBook} to the storage.
      * @param taskBook cannot be null.
@@ -49,5 +101,13 @@ public interface TaskBookStorage {
      */
     void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException;
 
+    /**
+     * Writes out any state kept in memory by this storage. Called once the task book is no longer saved, before the
+     * app exits.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void close() throws IOException {
+    }
 
 }
@@ -0,0 +1,247 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.day.Day;
+import seedu.address.model.task.Task;
+
+/**
+ * A {@code TaskBookStorage} that saves the task book to another {@code TaskBookStorage} on a background thread.
+ * Saving only takes a snapshot of the task book and returns, so the caller does not wait for the disk. The snapshot
+ * is written after a debounce delay, and a save made while an earlier one is still waiting replaces it, so a burst
+ * of saves is written once. A save that fails is reported by raising a {@link DataSavingExceptionEvent}.
+ *
+ * Reading the task book first writes any snapshot still waiting, and {@link #close()} must be called before the app
+ * exits so that the last save is not lost.
+ */
+public class WriteBehindTaskBookStorage implements TaskBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindTaskBookStorage.class);
+
+    private final TaskBookStorage storage;
+    private final long debounceMillis;
+    private final EventsCenter eventsCenter;
+
+    /** The snapshot waiting to be written, or null if there is none. */
+    private ReadOnlyTaskBook pending;
+    private long pendingDueMillis;
+    private boolean isWriting;
+    private boolean isFlushing;
+    private Thread thread;
+
+    public WriteBehindTaskBookStorage(TaskBookStorage storage, long debounceMillis) {
+        this(storage, debounceMillis, EventsCenter.getInstance());
+    }
+
+    /**
+     * Creates a storage that writes to {@code storage} {@code debounceMillis} after a save, and raises failures
+     * in {@code eventsCenter}.
+     */
+    public WriteBehindTaskBookStorage(TaskBookStorage storage, long debounceMillis, EventsCenter eventsCenter) {
+        requireNonNull(storage);
+        requireNonNull(eventsCenter);
+        this.storage = storage;
+        this.debounceMillis = Math.max(debounceMillis, 0);
+        this.eventsCenter = eventsCenter;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return storage.getTaskBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(getTaskBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        synchronized (storage) {
+            return storage.readTaskBook(filePath);
+        }
+    }
+
+    /**
+     * Takes a snapshot of {@code taskBook} to be written on the background thread, and returns without waiting
+     * for it to be written.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook) {
+        requireNonNull(taskBook);
+        if (pending == null) {
+            pendingDueMillis = System.currentTimeMillis() + debounceMillis;
+        }
+        pending = new Snapshot(taskBook);
+        if (thread == null) {
+            thread = new Thread(this::run, "storage-writer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * A task book saved to any location other than {@link #getTaskBookFilePath()} is written before returning.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getTaskBookFilePath())) {
+            saveTaskBook(taskBook);
+            return;
+        }
+        synchronized (storage) {
+            storage.saveTaskBook(taskBook, filePath);
+        }
+    }
+
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        synchronized (storage) {
+            storage.backupTaskBook(taskBook);
+        }
+    }
+
+    /**
+     * Writes the snapshot waiting to be written, if any, without waiting for its debounce delay, and returns once
+     * it is written.
+     */
+    public synchronized void flush() {
+        isFlushing = true;
+        notifyAll();
+        try {
+            while (pending != null || isWriting) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            isFlushing = false;
+        }
+    }
+
+    /**
+     * Writes the snapshot waiting to be written, if any, stops the background thread and closes the storage written
+     * to. A failure to close it is logged, as the task book itself is written by then.
+     */
+    @Override
+    public void close() {
+        flush();
+        synchronized (this) {
+            if (thread != null) {
+                thread.interrupt();
+                thread = null;
+            }
+        }
+        try {
+            synchronized (storage) {
+                storage.close();
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to close the storage: " + e);
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                ReadOnlyTaskBook toWrite;
+                synchronized (this) {
+                    long millisToWait = millisUntilDue();
+                    while (millisToWait > 0) {
+                        wait(millisToWait == Long.MAX_VALUE ? 0 : millisToWait);
+                        millisToWait = millisUntilDue();
+                    }
+                    toWrite = pending;
+                    pending = null;
+                    isWriting = true;
+                }
+                write(toWrite);
+            }
+        } catch (InterruptedException e) {
+            logger.fine("Storage writer stopped");
+        }
+    }
+
+    private void write(ReadOnlyTaskBook taskBook) {
+        try {
+            synchronized (storage) {
+                storage.saveTaskBook(taskBook);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save task book: " + e);
+            eventsCenter.post(new DataSavingExceptionEvent(e));
+        } finally {
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the milliseconds until the waiting snapshot is due to be written, or {@code Long.MAX_VALUE} if there
+     * is none.
+     */
+    private long millisUntilDue() {
+        if (pending == null) {
+            return Long.MAX_VALUE;
+        }
+        return isFlushing ? 0 : pendingDueMillis - System.currentTimeMillis();
+    }
+
+    /**
+     * An unmodifiable copy of a task book, which can be written while the task book goes on changing.
+     * The tasks are immutable and shared with the task book; the days are copied.
+     */
+    private static class Snapshot implements ReadOnlyTaskBook {
+        private final ObservableList<Task> tasks;
+        private final ObservableList<Day> days;
+
+        Snapshot(ReadOnlyTaskBook taskBook) {
+            tasks = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(new ArrayList<>(taskBook.getTaskList())));
+            List<Day> dayCopies = taskBook.getDayList().stream().map(Day::new).collect(Collectors.toList());
+            days = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(dayCopies));
+        }
+
+        @Override
+        public ObservableList<Task> getTaskList() {
+            return tasks;
+        }
+
+        @Override
+        public ObservableList<Day> getDayList() {
+            return days;
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            // a snapshot never changes
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            // a snapshot never changes
+        }
+    }
+}
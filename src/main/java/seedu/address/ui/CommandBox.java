@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import static seedu.address.logic.commands.CommandFormatString.ADDACCOUNT_COMMAND_FORMATSTRING;
 import static seedu.address.logic.commands.CommandFormatString.ADD_COMMAND_FORMATSTRING;
+import static seedu.address.logic.commands.CommandFormatString.ARCHIVE_COMMAND_FORMATSTRING;
 import static seedu.address.logic.commands.CommandFormatString.CLEAR_COMMAND_FORMATSTRING;
 import static seedu.address.logic.commands.CommandFormatString.DELETEACCOUNT_COMMAND_FORMATSTRING;
 import static seedu.address.logic.commands.CommandFormatString.DELETE_COMMAND_FORMATSTRING;
@@ -16,6 +17,7 @@ import static seedu.address.logic.commands.CommandFormatString.LOGIN_COMMAND_FOR
 import static seedu.address.logic.commands.CommandFormatString.MONTH_COMMAND_FORMATSTRING;
 import static seedu.address.logic.commands.CommandFormatString.REMIND_COMMAND_CATEGORY_FORMATSTRING;
 import static seedu.address.logic.commands.CommandFormatString.REMIND_COMMAND_FORMATSTRING;
+import static seedu.address.logic.commands.CommandFormatString.SEARCH_COMMAND_FORMATSTRING;
 import static seedu.address.logic.commands.CommandFormatString.TIMELINE_COMMAND_FORMATSTRING;
 
 import java.io.IOException;
@@ -31,6 +33,7 @@ import javafx.scene.layout.Region;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.AddAccountCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 
 import seedu.address.logic.commands.CommandResult;
@@ -42,6 +45,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindAccountCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ImportCommand;
@@ -53,6 +57,7 @@ import seedu.address.logic.commands.LogoutCommand;
 import seedu.address.logic.commands.MonthCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemindCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.ShowTimeCommand;
 import seedu.address.logic.commands.TimelineCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -75,6 +80,7 @@ public class CommandBox extends UiPart<Region> {
         CommandList = new String[] {
             AddCommand.COMMAND_WORD,
             AddAccountCommand.COMMAND_WORD,
+            ArchiveCommand.COMMAND_WORD,
             ClearCommand.COMMAND_WORD,
             DeleteCommand.COMMAND_WORD,
             DeleteAccountCommand.COMMAND_WORD,
@@ -84,6 +90,7 @@ public class CommandBox extends UiPart<Region> {
             ExportCommand.COMMAND_WORD,
             FindCommand.COMMAND_WORD,
             FindAccountCommand.COMMAND_WORD,
+            FuzzyFindCommand.COMMAND_WORD,
             HelpCommand.COMMAND_WORD,
             HistoryCommand.COMMAND_WORD,
             ImportCommand.COMMAND_WORD,
@@ -95,6 +102,7 @@ public class CommandBox extends UiPart<Region> {
             MonthCommand.COMMAND_WORD,
             RemindCommand.COMMAND_WORD,
             RedoCommand.COMMAND_WORD,
+            SearchCommand.COMMAND_WORD,
             ShowTimeCommand.COMMAND_WORD,
             TimelineCommand.COMMAND_WORD,
             UndoCommand.COMMAND_WORD,
@@ -164,6 +172,10 @@ public class CommandBox extends UiPart<Region> {
             completedtext = text + " " + ADDACCOUNT_COMMAND_FORMATSTRING;
             replaceText(completedtext);
             break;
+        case "archive":
+            completedtext = text + " " + ARCHIVE_COMMAND_FORMATSTRING;
+            replaceText(completedtext);
+            break;
         case "clear":
             completedtext = text + " " + CLEAR_COMMAND_FORMATSTRING;
             replaceText(completedtext);
@@ -192,6 +204,10 @@ public class CommandBox extends UiPart<Region> {
             completedtext = text + " " + FIND_COMMAND_FORMATSTRING;
             replaceText(completedtext);
             break;
+        case "fuzzyfind":
+            completedtext = text + " " + FIND_COMMAND_FORMATSTRING;
+            replaceText(completedtext);
+            break;
         case "findAccount":
             completedtext = text + " " + FINDACCOUNT_COMMAND_FORMATSTRING;
             replaceText(completedtext);
@@ -216,6 +232,10 @@ public class CommandBox extends UiPart<Region> {
             completedtext = text + " " + REMIND_COMMAND_FORMATSTRING;
             replaceText(completedtext);
             break;
+        case "search":
+            completedtext = text + " " + SEARCH_COMMAND_FORMATSTRING;
+            replaceText(completedtext);
+            break;
         case "timeline":
             completedtext = text + " " + TIMELINE_COMMAND_FORMATSTRING;
             replaceText(completedtext);
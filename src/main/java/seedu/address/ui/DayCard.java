@@ -4,6 +4,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.model.day.Day;
 
 /**
@@ -55,11 +56,11 @@ public class DayCard extends UiPart<Region> {
         this.day = day;
         id.setText(displayedIndex + ". ");
         date.setText(day.getDate().value);
-        academic.setText(day.getAcademic().getTime());
-        cca.setText(day.getCca().getTime());
-        entertainment.setText(day.getEntertainment().getTime());
-        errand.setText(day.getErrand().getTime());
-        other.setText(day.getOther().getTime());
+        academic.setText(DateUtil.formatDuration(day.getAcademicMinutes()));
+        cca.setText(DateUtil.formatDuration(day.getCcaMinutes()));
+        entertainment.setText(DateUtil.formatDuration(day.getEntertainmentMinutes()));
+        errand.setText(DateUtil.formatDuration(day.getErrandMinutes()));
+        other.setText(DateUtil.formatDuration(day.getOtherMinutes()));
         aName.setText("Academic: ");
         cName.setText("Cca: ");
         entName.setText("Entertainment: ");
@@ -2,7 +2,9 @@ package seedu.address.ui;
 
 import java.text.SimpleDateFormat;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 
@@ -13,7 +15,9 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
 
 import javafx.scene.layout.StackPane;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.Logic;
+import seedu.address.model.task.StartDate;
 import seedu.address.model.task.Task;
 import seedu.address.ui.calendar.Calendar;
 import seedu.address.ui.reminder.ReminderPane;
@@ -62,7 +66,7 @@ public class DefaultPage extends UiPart<Region> {
 
         //Show the calendar
         calendarAnchorPane.getChildren().add(new Calendar(YearMonth.now(), taskList).getView());
-        timelineAnchorPane.getChildren().add(new TimePane(taskList, day).getView());
+        timelineAnchorPane.getChildren().add(new TimePane(getTasksOn(day)).getView());
         reminderAnchorPane.getChildren().add(new ReminderPane(logic, logic.getRemindTaskList()).getView());
         dayListPane.getChildren().add(dayListPanel.getRoot());
 
@@ -116,10 +120,21 @@ public class DefaultPage extends UiPart<Region> {
         }
         //System.out.println(day);
         timelineAnchorPane.getChildren().clear();
-        timelineAnchorPane.getChildren().add(new TimePane(all, day).getView());
+        timelineAnchorPane.getChildren().add(new TimePane(getTasksOn(day)).getView());
         //System.out.println(day);
     }
 
+    /**
+     * Returns the shown tasks starting on {@code date}.
+     */
+    private List<Task> getTasksOn(String date) {
+        if (!StartDate.isValidStartDate(date)) {
+            return new ArrayList<>();
+        }
+        int epochDay = DateUtil.toEpochDay(date);
+        return logic.getFilteredTasksStartingBetween(epochDay, epochDay);
+    }
+
     /**
      * This returns the current date.
      * To be updated.
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -19,6 +21,7 @@ import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.task.ReminderScheduler.Reminder;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -191,6 +194,14 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows the {@code reminders} that have just come due in the result display.
+     */
+    void showReminders(List<Reminder> reminders) {
+        resultDisplay.setFeedbackToUser(reminders.stream().map(Reminder::toString)
+                .collect(Collectors.joining("\n")));
+    }
+
     /**
      * Choose which page to show.
      */
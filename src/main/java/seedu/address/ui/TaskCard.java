@@ -31,6 +31,8 @@ public class TaskCard extends UiPart<Region> {
     @FXML
     private Label id;
     @FXML
+    private Label taskId;
+    @FXML
     private Label startDate;
     @FXML
     private Label startTime;
@@ -50,6 +52,7 @@ public class TaskCard extends UiPart<Region> {
         this.task = task;
         id.setText(displayedIndex + ". ");
         name.setText(task.getName().fullName);
+        taskId.setText(task.hasId() ? "#" + task.getId() : "");
         startDate.setText(task.getStartDate().value);
         startTime.setText(task.getStartTime().value);
         endDate.setText(task.getEndDate().value);
@@ -1,13 +1,28 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.stage.Stage;
+import seedu.address.model.task.ReminderScheduler.Reminder;
 
 /**
  * API of UI component
  */
 public interface Ui {
 
+    /**
+     * Loads the resources of the UI that do not need the JavaFX application thread, so that this can be done while
+     * the data is being read. It is called before {@link #start(Stage)}, from any thread.
+     */
+    void prepare();
+
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows the user the {@code reminders} that have just come due. */
+    void showReminders(List<Reminder> reminders);
+
+    /** Shows the user that saving the data failed with {@code exception}. */
+    void showSaveFailure(Exception exception);
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -11,6 +12,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.model.task.ReminderScheduler.Reminder;
 
 /**
  * The manager of the UI component.
@@ -21,21 +23,32 @@ public class UiManager implements Ui {
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/Tasketch.png";
+    private static final String FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE = "Could not save data";
+    private static final String FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE = "Could not save data to file";
 
     private Logic logic;
     private MainWindow mainWindow;
+    private Image applicationIcon;
 
     public UiManager(Logic logic) {
         super();
         this.logic = logic;
     }
 
+    @Override
+    public void prepare() {
+        applicationIcon = getImage(ICON_APPLICATION);
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
 
         //Set the application icon.
-        primaryStage.getIcons().add(getImage(ICON_APPLICATION));
+        if (applicationIcon == null) {
+            prepare();
+        }
+        primaryStage.getIcons().add(applicationIcon);
 
         try {
             mainWindow = new MainWindow(primaryStage, logic);
@@ -49,6 +62,21 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showReminders(List<Reminder> reminders) {
+        if (mainWindow != null) {
+            mainWindow.showReminders(reminders);
+        }
+    }
+
+    @Override
+    public void showSaveFailure(Exception exception) {
+        if (mainWindow != null) {
+            showAlertDialogAndWait(AlertType.ERROR, "File Op Error", FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE,
+                    FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE + ":\n" + exception.toString());
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
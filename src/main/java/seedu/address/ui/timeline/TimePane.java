@@ -1,6 +1,6 @@
 package seedu.address.ui.timeline;
 
-import javafx.collections.ObservableList;
+import java.util.List;
 
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.GridPane;
@@ -37,16 +37,15 @@ public class TimePane extends AnchorPane {
                                  CATEGORY_ERRANDS,
                                  CATEGORY_OTHER};
 
-    public TimePane(ObservableList<Task> taskList, String d) {
-        showTimeline(taskList, d);
+    public TimePane(List<Task> tasksOnDay) {
+        showTimeline(tasksOnDay);
     }
 
     /**
      * This update the timeline.
-     * @param taskList
-     * @param d
+     * @param tasksOnDay the tasks starting on the day shown
      */
-    public void showTimeline(ObservableList<Task> taskList, String d) {
+    public void showTimeline(List<Task> tasksOnDay) {
         vbox.setSpacing(0);
         //=========Set up time points==========
         Text[] timePoints = { new Text(" "), new Text("6:00"),
@@ -97,7 +96,7 @@ public class TimePane extends AnchorPane {
                          CATEGORY_ENTERTAINMENT,
                          CATEGORY_ERRANDS,
                          CATEGORY_OTHER};
-        PreTask[] filteredDate = filterDate(taskList, d);
+        PreTask[] filteredDate = toPreTasks(tasksOnDay);
         for (int i = 0; i < 5; i++) {
             PreTask[] filteredCate = filterCate(filteredDate, category[i]);
             Timeline t = new Timeline(filteredCate, cate[i]);
@@ -107,29 +106,22 @@ public class TimePane extends AnchorPane {
     }
 
     /**
-     * This function filters the tasks to desired date.
-     * @param taskList
-     * @param day
+     * This function converts the tasks of the day for the timelines.
+     * The returned array ends with a null, which is how the timelines find its end.
+     * @param tasksOnDay
      * @return
      */
-    private PreTask[] filterDate(ObservableList<Task> taskList, String day) {
-        PreTask[] filteredDate = new PreTask[1000];
+    private PreTask[] toPreTasks(List<Task> tasksOnDay) {
+        PreTask[] preTasks = new PreTask[tasksOnDay.size() + 1];
         int count = 0;
-        for (Task t : taskList) {
-            try {
-                t.getCategories();
-            } catch (NullPointerException ep) {
-                break;
-            }
-            if (t.getStartDate().toString().equals(day)) {
-                filteredDate[count] = new PreTask(t.getName().toString(),
-                        t.getCategories().toString(),
-                        parse(t.getStartTime().toString()),
-                        parse(t.getEndTime().toString()));
-                count++;
-            }
+        for (Task t : tasksOnDay) {
+            preTasks[count] = new PreTask(t.getName().toString(),
+                    t.getCategories().toString(),
+                    parse(t.getStartTime().toString()),
+                    parse(t.getEndTime().toString()));
+            count++;
         }
-        return filteredDate;
+        return preTasks;
     }
 
     /**
@@ -140,7 +132,7 @@ public class TimePane extends AnchorPane {
      * @return
      */
     private PreTask[] filterCate(PreTask[] taskList, String cate) {
-        PreTask[] filtered = new PreTask[1000];
+        PreTask[] filtered = new PreTask[taskList.length];
         int count = 0;
         for (PreTask t : taskList) {
             try {
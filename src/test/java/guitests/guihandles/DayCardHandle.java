@@ -2,6 +2,7 @@ package guitests.guihandles;
 
 import javafx.scene.Node;
 import javafx.scene.control.Label;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.model.day.Day;
 
 /**
@@ -79,10 +80,10 @@ public class DayCardHandle extends NodeHandle<Node> {
      */
     public boolean equals(Day day) {
         return getDate().equals(day.getDate().value)
-                && getAcademic().equals(day.getAcademic().getTime())
-                && getCca().equals(day.getCca().getTime())
-                && getEntertainment().equals(day.getEntertainment().getTime())
-                && getErrand().equals(day.getErrand().getTime())
-                && getOther().equals(day.getOther().getTime());
+                && getAcademic().equals(DateUtil.formatDuration(day.getAcademicMinutes()))
+                && getCca().equals(DateUtil.formatDuration(day.getCcaMinutes()))
+                && getEntertainment().equals(DateUtil.formatDuration(day.getEntertainmentMinutes()))
+                && getErrand().equals(DateUtil.formatDuration(day.getErrandMinutes()))
+                && getOther().equals(DateUtil.formatDuration(day.getOtherMinutes()));
     }
 }
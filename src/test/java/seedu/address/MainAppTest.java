@@ -0,0 +1,43 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.storage.TaskArchive;
+
+public class MainAppTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void openTaskArchive_archiveWritten_archivedTasksRead() throws Exception {
+        Path taskBookFilePath = testFolder.getRoot().toPath().resolve("taskbook.json");
+        TaskArchive.open(TaskArchive.getArchivePath(taskBookFilePath)).withTasks(getTypicalTasks());
+
+        assertEquals(getTypicalTasks().size(), MainApp.openTaskArchive(taskBookFilePath).get().getTasks().size());
+    }
+
+    @Test
+    public void openTaskArchive_noArchive_emptyArchive() throws Exception {
+        Path taskBookFilePath = testFolder.getRoot().toPath().resolve("taskbook.json");
+
+        assertEquals(0, MainApp.openTaskArchive(taskBookFilePath).get().getTasks().size());
+    }
+
+    @Test
+    public void openTaskArchive_notArchiveFile_noArchive() throws Exception {
+        Path taskBookFilePath = testFolder.getRoot().toPath().resolve("taskbook.json");
+        Files.write(TaskArchive.getArchivePath(taskBookFilePath), "{ \"tasks\" : [ ] }".getBytes());
+
+        assertFalse(MainApp.openTaskArchive(taskBookFilePath).isPresent());
+    }
+}
@@ -101,6 +101,8 @@ public class TestApp extends MainApp {
     @Override
     public void start(Stage primaryStage) {
         ui.start(primaryStage);
+        // the data is loaded before the tests run, instead of whenever it has been read
+        loadData(taskBookLoad.join(), accountListLoad.join());
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+public class DateUtilTest {
+
+    @Test
+    public void toEpochDay_validDate_matchesLocalDate() {
+        assertEquals(LocalDate.of(2019, 3, 15).toEpochDay(), DateUtil.toEpochDay("15-03-19"));
+        assertEquals(LocalDate.of(2000, 1, 1).toEpochDay(), DateUtil.toEpochDay("01-01-00"));
+        assertEquals(LocalDate.of(2099, 12, 31).toEpochDay(), DateUtil.toEpochDay("31-12-99"));
+    }
+
+    @Test
+    public void toEpochDay_dayPastEndOfMonth_rollsOver() {
+        assertEquals(LocalDate.of(2019, 3, 3).toEpochDay(), DateUtil.toEpochDay("31-02-19"));
+    }
+
+    @Test
+    public void toEpochDay_ordersAcrossMonthsAndYears() {
+        assertTrue(DateUtil.toEpochDay("31-01-19") < DateUtil.toEpochDay("01-02-19"));
+        assertTrue(DateUtil.toEpochDay("31-12-18") < DateUtil.toEpochDay("01-01-19"));
+    }
+
+    @Test
+    public void toLocalDate_roundTrip() {
+        assertEquals(LocalDate.of(2019, 3, 15), DateUtil.toLocalDate(DateUtil.toEpochDay("15-03-19")));
+    }
+
+    @Test
+    public void toEpochMonth_dateAndMonthAgree() {
+        assertEquals(DateUtil.toEpochMonth("03-19"), DateUtil.toEpochMonth(DateUtil.toEpochDay("01-03-19")));
+        assertEquals(DateUtil.toEpochMonth("03-19"), DateUtil.toEpochMonth(DateUtil.toEpochDay("31-03-19")));
+        assertEquals(DateUtil.toEpochMonth("03-19"), DateUtil.toEpochMonth(DateUtil.toEpochDay("31-02-19")));
+        assertEquals(DateUtil.toEpochMonth("12-18") + 1, DateUtil.toEpochMonth("01-19"));
+    }
+
+    @Test
+    public void toMinuteOfDay_validTime_minutesSinceMidnight() {
+        assertEquals(0, DateUtil.toMinuteOfDay("00.00"));
+        assertEquals(13 * 60 + 5, DateUtil.toMinuteOfDay("13.05"));
+        assertEquals(23 * 60 + 59, DateUtil.toMinuteOfDay("23.59"));
+    }
+
+    @Test
+    public void formatDuration_hoursAndTwoDigitMinutes() {
+        assertEquals("0.00", DateUtil.formatDuration(0));
+        assertEquals("1.05", DateUtil.formatDuration(65));
+        assertEquals("26.40", DateUtil.formatDuration(26 * 60 + 40));
+    }
+
+    @Test
+    public void parseDuration_roundTripsFormatDuration() {
+        assertEquals(65, DateUtil.parseDuration(DateUtil.formatDuration(65)));
+        assertEquals(26 * 60 + 40, DateUtil.parseDuration("26.40"));
+    }
+
+    @Test
+    public void parseDuration_legacyTotals_read() {
+        assertEquals(180, DateUtil.parseDuration("3.0"));
+        // drift and minutes of 60 or more, as summed by older versions
+        assertEquals(130, DateUtil.parseDuration("2.0999999999999996"));
+        assertEquals(190, DateUtil.parseDuration("2.7"));
+    }
+}
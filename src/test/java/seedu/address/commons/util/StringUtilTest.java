@@ -2,11 +2,13 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
 import java.util.Optional;
+import java.util.Random;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -137,6 +139,87 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistanceWithin --------------------------------------
+
+    @Test
+    public void editDistanceWithin_withinBound_exactDistance() {
+        assertEquals(0, StringUtil.editDistanceWithin("lecture", "lecture", 2));
+        assertEquals(2, StringUtil.editDistanceWithin("lecture", "lectrue", 2)); // a swap is two edits
+        assertEquals(1, StringUtil.editDistanceWithin("lecture", "lectures", 2));
+        assertEquals(1, StringUtil.editDistanceWithin("lecture", "lecure", 2));
+        assertEquals(3, StringUtil.editDistanceWithin("", "abc", 5));
+        assertEquals(3, StringUtil.editDistanceWithin("kitten", "sitting", 3));
+    }
+
+    @Test
+    public void editDistanceWithin_beyondBound_boundPlusOne() {
+        assertEquals(2, StringUtil.editDistanceWithin("kitten", "sitting", 1));
+        assertEquals(3, StringUtil.editDistanceWithin("a", "abcdef", 2));
+    }
+
+    @Test
+    public void editDistanceWithin_randomStrings_matchesFullMatrix() {
+        Random random = new Random(2113);
+        for (int i = 0; i < 2000; i++) {
+            // lengths past 64 take the banded path
+            String first = randomString(random, random.nextInt(i % 10 == 0 ? 80 : 12));
+            String second = randomString(random, random.nextInt(i % 10 == 0 ? 80 : 12));
+            int maxDistance = random.nextInt(6);
+            int expected = Math.min(fullEditDistance(first, second), maxDistance + 1);
+            assertEquals(expected, StringUtil.editDistanceWithin(first, second, maxDistance));
+        }
+    }
+
+    @Test
+    public void editDistanceWithin_longNearlyEqualStrings_matchesFullMatrix() {
+        Random random = new Random(2101);
+        for (int i = 0; i < 500; i++) {
+            // past 64 characters, with a few edits, so that the banded path finds distances within the bound
+            String first = randomString(random, 65 + random.nextInt(40));
+            StringBuilder second = new StringBuilder(first);
+            for (int edits = random.nextInt(5); edits > 0; edits--) {
+                int position = random.nextInt(second.length());
+                switch (random.nextInt(3)) {
+                case 0:
+                    second.deleteCharAt(position);
+                    break;
+                case 1:
+                    second.insert(position, 'b');
+                    break;
+                default:
+                    second.setCharAt(position, 'c');
+                }
+            }
+            int maxDistance = random.nextInt(5);
+            int expected = Math.min(fullEditDistance(first, second.toString()), maxDistance + 1);
+            assertEquals(expected, StringUtil.editDistanceWithin(first, second.toString(), maxDistance));
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            // a small alphabet, with a non-ASCII letter, so that strings often nearly match
+            builder.append("abc\u00e9".charAt(random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+
+    private static int fullEditDistance(String first, String second) {
+        int[][] distance = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distance[i][j] = i + j;
+                } else {
+                    int substitution = distance[i - 1][j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                    distance[i][j] = Math.min(substitution, Math.min(distance[i - 1][j], distance[i][j - 1]) + 1);
+                }
+            }
+        }
+        return distance[first.length()][second.length()];
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.NEVERSTART;
+import static seedu.address.testutil.TypicalTasks.NEVERSTART2;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AccountList;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.account.Username;
+import seedu.address.model.day.Date;
+import seedu.address.model.task.TaskContainsKeywordsPredicate;
+import seedu.address.storage.TaskArchive;
+
+public class ArchiveCommandTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path archivePath;
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() throws Exception {
+        archivePath = testFolder.getRoot().toPath().resolve("taskbook.json.archive");
+        model = new ModelManager(getTypicalTaskBook(), new UserPrefs(), new AccountList());
+        model.setLoggedInUser(new Username("admin"));
+        model.setTaskArchive(TaskArchive.open(archivePath));
+    }
+
+    @Test
+    public void execute_tasksEndedBeforeDate_movedToArchive() throws Exception {
+        CommandResult result = new ArchiveCommand(new Date("01-01-12")).execute(model, commandHistory);
+
+        assertEquals(String.format(ArchiveCommand.MESSAGE_SUCCESS, 3, "01-01-12"), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(NEVERSTART, NEVERSTART2), model.getTaskBook().getTaskList());
+        assertEquals(3, model.getArchivedTasks().getTaskList().size());
+        assertEquals(3, TaskArchive.open(archivePath).size());
+    }
+
+    @Test
+    public void execute_noArchive_throwsCommandException() throws Exception {
+        Model modelWithoutArchive = new ModelManager(getTypicalTaskBook(), new UserPrefs(), new AccountList());
+        modelWithoutArchive.setLoggedInUser(new Username("admin"));
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(ArchiveCommand.MESSAGE_FAILURE);
+        new ArchiveCommand(new Date("01-01-12")).execute(modelWithoutArchive, commandHistory);
+    }
+
+    @Test
+    public void execute_listAndFindWithArchive_archivedTasksIncluded() throws Exception {
+        new ArchiveCommand(new Date("01-01-12")).execute(model, commandHistory);
+
+        CommandResult result = new ListCommand(new String[] {"a"}, true).execute(model, commandHistory);
+        assertEquals(String.format(ListCommand.MESSAGE_SUCCESS4, "academic")
+                + ArchiveCommand.describeArchivedTasks(Collections.singletonList(CS2110)), result.getFeedbackToUser());
+
+        result = new ListCommand(new String[] {"03-03"}, true).execute(model, commandHistory);
+        assertEquals(String.format(ListCommand.MESSAGE_SUCCESS3, "03-03")
+                + ArchiveCommand.describeArchivedTasks(Collections.singletonList(CS2100)), result.getFeedbackToUser());
+
+        result = new FindCommand(new TaskContainsKeywordsPredicate(Collections.singletonList("cs2100")), true)
+                .execute(model, commandHistory);
+        assertEquals(String.format(Messages.MESSAGE_TASK_LISTED_OVERVIEW, 0)
+                + ArchiveCommand.describeArchivedTasks(Collections.singletonList(CS2100)), result.getFeedbackToUser());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
 
@@ -11,13 +12,16 @@ import org.junit.Before;
 import org.junit.Test;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AccountList;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.TaskBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.account.Username;
+import seedu.address.model.task.Task;
 import seedu.address.model.task.TaskContainsKeywordsPredicate;
+import seedu.address.testutil.TaskBuilder;
 
 public class FindCommandTest {
     private Model model;
@@ -65,6 +69,22 @@ public class FindCommandTest {
         assertFalse(findFirstCommand.equals(findSecondCommand));
     }
 
+    @Test
+    public void execute_tasksEditedAfterFind_shownListFollowsKeywords() throws CommandException {
+        Task lecture = new TaskBuilder().withName("Lecture").build();
+        Task tutorial = new TaskBuilder().withName("Tutorial").build();
+        emptyModel.addTask(lecture);
+        emptyModel.addTask(tutorial);
+        new FindCommand(preparePredicate("lecture")).execute(emptyModel, commandHistory);
+        assertEquals(Collections.singletonList(lecture), emptyModel.getFilteredTaskList());
+
+        Task renamedLecture = new TaskBuilder(lecture).withName("Seminar").build();
+        Task renamedTutorial = new TaskBuilder(tutorial).withName("Tutorial lecture").build();
+        emptyModel.setTask(lecture, renamedLecture);
+        emptyModel.setTask(tutorial, renamedTutorial);
+        assertEquals(Collections.singletonList(renamedTutorial), emptyModel.getFilteredTaskList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_TASK_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.NEVERSTART;
+import static seedu.address.testutil.TypicalTasks.NEVERSTART2;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AccountList;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.account.Username;
+import seedu.address.model.task.Task;
+
+public class FuzzyFindCommandTest {
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(getTypicalTaskBook(), new UserPrefs(), new AccountList());
+        model.setLoggedInUser(new Username("admin"));
+    }
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand findFirstCommand = new FuzzyFindCommand(Collections.singletonList("first"));
+        FuzzyFindCommand findSecondCommand = new FuzzyFindCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FuzzyFindCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_longKeywordWithinTwoTypos_tasksFound() throws CommandException {
+        // two letters swapped, two typos from neverStart2 and three from neverStart
+        assertTasksFound(Collections.singletonList(NEVERSTART2), "neverStrat2");
+
+        // one letter missing, one typo from neverStart and two from neverStart2
+        assertTasksFound(Arrays.asList(NEVERSTART, NEVERSTART2), "nevrStart");
+    }
+
+    @Test
+    public void execute_longKeywordBeyondTwoTypos_noTaskFound() throws CommandException {
+        // one letter missing and two letters swapped, three typos from neverStart2
+        assertTasksFound(Collections.emptyList(), "nevrStrat2");
+    }
+
+    @Test
+    public void execute_shortKeywordWithinOneTypo_taskFound() throws CommandException {
+        // one letter missing from CS2110, but two typos from cs2100
+        assertTasksFound(Collections.singletonList(CS2110), "cs211");
+    }
+
+    @Test
+    public void execute_shortKeywordBeyondOneTypo_noTaskFound() throws CommandException {
+        // two letters missing from both CS2110 and cs2100
+        assertTasksFound(Collections.emptyList(), "cs21");
+    }
+
+    @Test
+    public void execute_multipleKeywords_tasksMatchingAnyFound() throws CommandException {
+        assertTasksFound(Arrays.asList(CS2110, NEVERSTART2), "cs211", "neverStrat2");
+    }
+
+    /**
+     * Executes a {@code FuzzyFindCommand} with {@code keywords}, and asserts that the filtered task list shows
+     * exactly {@code expectedTasks} and that the result reports their number.
+     */
+    private void assertTasksFound(List<Task> expectedTasks, String... keywords) throws CommandException {
+        CommandResult result = new FuzzyFindCommand(Arrays.asList(keywords)).execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_TASK_LISTED_OVERVIEW, expectedTasks.size()), result.getFeedbackToUser());
+        assertEquals(expectedTasks, model.getFilteredTaskList());
+    }
+}
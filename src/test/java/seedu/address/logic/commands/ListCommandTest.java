@@ -3,22 +3,30 @@ package seedu.address.logic.commands;
 //import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 //import static seedu.address.logic.commands.CommandTestUtil.showTaskAtIndex;
 //import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TASK;
+import static org.junit.Assert.assertEquals;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
 
 //import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Before;
-//import org.junit.Test;
+import org.junit.Test;
 
 //import seedu.address.commons.exceptions.DataConversionException;
 //import seedu.address.commons.exceptions.IllegalValueException;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AccountList;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAccountList;
+import seedu.address.model.TaskBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.account.Username;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -41,7 +49,97 @@ public class ListCommandTest {
     }
 
     private ReadOnlyAccountList getTypicalAccountList() {
-        return null;
+        return new AccountList();
+    }
+
+    @Test
+    public void execute_month_listsTasksWrittenInMonth() throws CommandException {
+        // 30-02-19 falls on the 2nd of March, but is written in February
+        Task writtenInFebruary = new TaskBuilder().withName("Past end of month").withCategory("a")
+                .withStartDate("30-02-19").withEndDate("30-02-19").build();
+        Task inMarch = new TaskBuilder().withName("Same day").withCategory("a")
+                .withStartDate("02-03-19").withEndDate("02-03-19").build();
+        TaskBook taskBook = new TaskBook();
+        taskBook.addTask(writtenInFebruary);
+        taskBook.addTask(inMarch);
+        model = new ModelManager(taskBook, new UserPrefs(), new AccountList());
+        model.setLoggedInUser(new Username("admin"));
+
+        new ListCommand(new String[] {"02-19"}).execute(model, commandHistory);
+        assertEquals(Collections.singletonList(writtenInFebruary), model.getFilteredTaskList());
+
+        new ListCommand(new String[] {"03-19"}).execute(model, commandHistory);
+        assertEquals(Collections.singletonList(inMarch), model.getFilteredTaskList());
+
+        new ListCommand(new String[] {"02-19", "a"}).execute(model, commandHistory);
+        assertEquals(Collections.singletonList(writtenInFebruary), model.getFilteredTaskList());
+
+        new ListCommand(new String[] {"01-03-19..02-03-19"}).execute(model, commandHistory);
+        assertEquals(Arrays.asList(writtenInFebruary, inMarch), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_range_listsTasksTakingPlaceInRange() throws CommandException {
+        Task endingInRange = new TaskBuilder().withName("Ending in range")
+                .withStartDate("27-02-19").withEndDate("01-03-19").build();
+        Task inRange = new TaskBuilder().withName("In range")
+                .withStartDate("05-03-19").withEndDate("05-03-19").build();
+        Task spanningRange = new TaskBuilder().withName("Spanning range")
+                .withStartDate("28-02-19").withEndDate("20-03-19").build();
+        Task afterRange = new TaskBuilder().withName("After range")
+                .withStartDate("11-03-19").withEndDate("11-03-19").build();
+        setUpModelWith(endingInRange, inRange, spanningRange, afterRange);
+
+        new ListCommand(new String[] {"01-03-19..10-03-19"}).execute(model, commandHistory);
+        assertEquals(Arrays.asList(endingInRange, inRange, spanningRange), model.getFilteredTaskList());
+
+        // range of a single day
+        new ListCommand(new String[] {"11-03-19..11-03-19"}).execute(model, commandHistory);
+        assertEquals(Arrays.asList(spanningRange, afterRange), model.getFilteredTaskList());
+
+        // range with no task
+        new ListCommand(new String[] {"21-03-19..31-03-19"}).execute(model, commandHistory);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_combinedCriteria_listsTasksMatchingAllKinds() throws CommandException {
+        Task examInFebruary = new TaskBuilder().withName("Exam in February").withCategory("a")
+                .withStartDate("28-02-19").withEndDate("02-03-19").withTags("exam").build();
+        Task examInMarch = new TaskBuilder().withName("Exam in March").withCategory("a")
+                .withStartDate("10-03-19").withEndDate("10-03-19").withTags("exam").build();
+        Task ccaExam = new TaskBuilder().withName("CCA exam").withCategory("c")
+                .withStartDate("12-03-19").withEndDate("12-03-19").withTags("exam").build();
+        Task labInMarch = new TaskBuilder().withName("Lab in March").withCategory("a")
+                .withStartDate("15-03-19").withEndDate("15-03-19").withTags("lab").build();
+        setUpModelWith(examInFebruary, examInMarch, ccaExam, labInMarch);
+
+        new ListCommand(new String[] {"a", "03-19", "t/exam"}).execute(model, commandHistory);
+        assertEquals(Collections.singletonList(examInMarch), model.getFilteredTaskList());
+
+        // criteria of the same kind match any of them
+        new ListCommand(new String[] {"a", "c", "03-19", "t/exam"}).execute(model, commandHistory);
+        assertEquals(Arrays.asList(examInMarch, ccaExam), model.getFilteredTaskList());
+
+        // range combined with other criteria
+        new ListCommand(new String[] {"a", "01-03-19..12-03-19", "t/exam"}).execute(model, commandHistory);
+        assertEquals(Arrays.asList(examInFebruary, examInMarch), model.getFilteredTaskList());
+
+        // negated criterion
+        new ListCommand(new String[] {"a", "03-19", "!t/exam"}).execute(model, commandHistory);
+        assertEquals(Collections.singletonList(labInMarch), model.getFilteredTaskList());
+    }
+
+    /**
+     * Replaces {@code model} with a model holding only {@code tasks}, with a logged in user.
+     */
+    private void setUpModelWith(Task... tasks) {
+        TaskBook taskBook = new TaskBook();
+        for (Task task : tasks) {
+            taskBook.addTask(task);
+        }
+        model = new ModelManager(taskBook, new UserPrefs(), new AccountList());
+        model.setLoggedInUser(new Username("admin"));
     }
 
     /*@Test
@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AccountList;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.account.Username;
+import seedu.address.testutil.TaskBuilder;
+
+public class ShowTimeCommandTest {
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        // 30-02-19 falls on the 2nd of March, but is written in February
+        TaskBook taskBook = new TaskBook();
+        taskBook.addTask(new TaskBuilder().withName("Past end of month")
+                .withStartDate("30-02-19").withEndDate("30-02-19").build());
+        taskBook.addTask(new TaskBuilder().withName("Same day")
+                .withStartDate("02-03-19").withEndDate("02-03-19").build());
+        taskBook.addTask(new TaskBuilder().withName("Next month")
+                .withStartDate("01-04-19").withEndDate("01-04-19").build());
+        model = new ModelManager(taskBook, new UserPrefs(), new AccountList());
+        model.setLoggedInUser(new Username("admin"));
+    }
+
+    @Test
+    public void execute_month_showsDaysWrittenInMonth() throws CommandException {
+        new ShowTimeCommand(new String[] {"02-19"}).execute(model, commandHistory);
+        assertEquals(Collections.singletonList("30-02-19"), getShownDates());
+
+        new ShowTimeCommand(new String[] {"03-19"}).execute(model, commandHistory);
+        assertEquals(Collections.singletonList("02-03-19"), getShownDates());
+    }
+
+    @Test
+    public void execute_range_showsDaysInRange() throws CommandException {
+        new ShowTimeCommand(new String[] {"01-03-19..02-03-19"}).execute(model, commandHistory);
+        assertEquals(Arrays.asList("02-03-19", "30-02-19"), getShownDates());
+
+        new ShowTimeCommand(new String[] {"02-03-19..01-04-19"}).execute(model, commandHistory);
+        assertEquals(Arrays.asList("02-03-19", "30-02-19", "01-04-19"), getShownDates());
+
+        // range of a single day with no task
+        new ShowTimeCommand(new String[] {"03-03-19..03-03-19"}).execute(model, commandHistory);
+        assertEquals(Collections.emptyList(), getShownDates());
+    }
+
+    @Test
+    public void isValidDays() {
+        // ranges
+        assertTrue(ShowTimeCommand.isValidDays("01-03-19..15-03-19"));
+        assertTrue(ShowTimeCommand.isValidDays("01-03-19..01-03-19"));
+        assertTrue(ShowTimeCommand.isValidDays("25-12-18..05-01-19"));
+
+        // reversed range
+        assertFalse(ShowTimeCommand.isValidDays("15-03-19..01-03-19"));
+        assertFalse(ShowTimeCommand.isValidDays("05-01-19..25-12-18"));
+
+        // invalid ranges
+        assertFalse(ShowTimeCommand.isValidDays("01-03-19.."));
+        assertFalse(ShowTimeCommand.isValidDays("..15-03-19"));
+        assertFalse(ShowTimeCommand.isValidDays("01-03-19..03-19"));
+        assertFalse(ShowTimeCommand.isValidDays("01-03-19..32-03-19"));
+        assertFalse(ShowTimeCommand.isValidDays("01-03-19..10-03-19..15-03-19"));
+        assertFalse(ShowTimeCommand.isValidDays("01-03-19-15-03-19"));
+    }
+
+    private List<String> getShownDates() {
+        return model.getFilteredDayList().stream().map(day -> day.getDate().value).collect(Collectors.toList());
+    }
+}
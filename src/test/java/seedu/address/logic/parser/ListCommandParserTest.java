@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ListCommand;
+
+public class ListCommandParserTest {
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_range_returnsListCommand() {
+        assertParseSuccess(parser, "01-03-19..15-03-19", new ListCommand(new String[] {"01-03-19..15-03-19"}));
+
+        // range of a single day
+        assertParseSuccess(parser, "01-03-19..01-03-19", new ListCommand(new String[] {"01-03-19..01-03-19"}));
+
+        // range across years
+        assertParseSuccess(parser, "25-12-18..05-01-19 --all",
+                new ListCommand(new String[] {"25-12-18..05-01-19"}, true));
+    }
+
+    @Test
+    public void parse_combinedCriteria_returnsListCommand() {
+        assertParseSuccess(parser, "a 03-19 t/exam", new ListCommand(new String[] {"a", "03-19", "t/exam"}));
+
+        assertParseSuccess(parser, "a c 01-03-19..15-03-19 !t/exam",
+                new ListCommand(new String[] {"a", "c", "01-03-19..15-03-19", "!t/exam"}));
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        // reversed range
+        assertParseFailure(parser, "15-03-19..01-03-19",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+
+        // missing bound
+        assertParseFailure(parser, "01-03-19..",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "..15-03-19",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+
+        // bound that is not a DATE
+        assertParseFailure(parser, "01-03-19..03-19",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "01-03-19..32-03-19",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+
+        // more than two bounds
+        assertParseFailure(parser, "01-03-19..10-03-19..15-03-19",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "01-03-19...15-03-19",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidCombinedCriteria_throwsParseException() {
+        // reversed range among other criteria
+        assertParseFailure(parser, "a 15-03-19..01-03-19 t/exam",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+
+        // tag without a name
+        assertParseFailure(parser, "a 03-19 t/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+
+        // unknown criterion
+        assertParseFailure(parser, "a 03-19 exam",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+    }
+
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_TASK_ID;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TASK;
 
 import java.util.Arrays;
@@ -15,6 +16,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.logic.commands.TaskTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Name;
@@ -58,6 +60,23 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_TASK, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseTaskTarget_invalidTaskId_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_INVALID_TASK_ID);
+        ParserUtil.parseTaskTarget("#0");
+    }
+
+    @Test
+    public void parseTaskTarget_validInput_success() throws Exception {
+        // Index
+        assertEquals(TaskTarget.byIndex(INDEX_FIRST_TASK), ParserUtil.parseTaskTarget("  1  "));
+
+        // Task ID
+        assertEquals(TaskTarget.byId(12), ParserUtil.parseTaskTarget("#12"));
+        assertEquals(TaskTarget.byId(12), ParserUtil.parseTaskTarget("  #12  "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -19,10 +19,12 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.suggestions.WrongCommandSuggestion;
@@ -118,6 +120,22 @@ public class TaskBookParserTest {
         assertEquals(new FindCommand(new TaskContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_fuzzyFind() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar");
+        FuzzyFindCommand command = (FuzzyFindCommand) parser.parseCommand(
+                FuzzyFindCommand.COMMAND_ALIAS + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FuzzyFindCommand(keywords), command);
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + "  foo bar ");
+        assertEquals(new SearchCommand("foo bar"), command);
+        command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_ALIAS + " foo");
+        assertEquals(new SearchCommand("foo"), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
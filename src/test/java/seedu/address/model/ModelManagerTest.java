@@ -18,6 +18,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.task.Categories;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.TaskContainsKeywordsPredicate;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
@@ -84,6 +85,15 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getTaskBookFilePath());
     }
 
+    @Test
+    public void loadData_emptyModel_dataReplacedWithoutUndo() {
+        TaskBook taskBook = new TaskBookBuilder().withTask(CS2110).withTask(CS2100).build();
+        modelManager.loadData(taskBook, new AccountList());
+        assertEquals(taskBook, new TaskBook(modelManager.getTaskBook()));
+        assertEquals(Arrays.asList(CS2110, CS2100), modelManager.getFilteredTaskList());
+        assertFalse(modelManager.canUndoTaskBook());
+    }
+
     @Test
     public void hasTask_nullTask_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -128,6 +138,39 @@ public class ModelManagerTest {
         assertEquals(updatedCS2110, modelManager.getSelectedTask());
     }
 
+    @Test
+    public void updateFilteredTaskListToQuery_taskBookChanged_queryRunAgain() {
+        Task lecture = new TaskBuilder().withName("Lecture").withCategory("a").build();
+        Task rehearsal = new TaskBuilder().withName("Rehearsal").withCategory("c").build();
+        modelManager.addTask(lecture);
+        modelManager.addTask(rehearsal);
+        modelManager.updateFilteredTaskListToQuery(taskBook -> taskBook.getTaskIdsWithCategory(Categories.ACADEMIC));
+        assertEquals(Collections.singletonList(lecture), modelManager.getFilteredTaskList());
+
+        // a task edited to match is shown
+        Task academicRehearsal = new TaskBuilder(rehearsal).withCategory("a").build();
+        modelManager.setTask(rehearsal, academicRehearsal);
+        assertEquals(Arrays.asList(lecture, academicRehearsal), modelManager.getFilteredTaskList());
+
+        // a task edited not to match any more is hidden
+        Task ccaLecture = new TaskBuilder(lecture).withCategory("c").build();
+        modelManager.setTask(lecture, ccaLecture);
+        assertEquals(Collections.singletonList(academicRehearsal), modelManager.getFilteredTaskList());
+
+        // a matching task coming back on undo is shown
+        modelManager.commitTaskBook();
+        modelManager.deleteTask(academicRehearsal);
+        modelManager.commitTaskBook();
+        assertEquals(Collections.emptyList(), modelManager.getFilteredTaskList());
+        modelManager.undoTaskBook();
+        assertEquals(Collections.singletonList(academicRehearsal), modelManager.getFilteredTaskList());
+
+        // a plain predicate replaces the query
+        modelManager.updateFilteredTaskList(task -> task.getCategories() == Categories.CCA);
+        modelManager.setTask(academicRehearsal, rehearsal);
+        assertEquals(Arrays.asList(ccaLecture, rehearsal), modelManager.getFilteredTaskList());
+    }
+
     @Test
     public void getFilteredTaskList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -4,10 +4,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ENDDATE_CS2101;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_CS2101;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CS2101;
+import static seedu.address.testutil.TypicalTasks.CS2100;
 import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.HOME;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,10 +25,13 @@ import org.junit.rules.ExpectedException;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.model.day.Day;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
+import seedu.address.model.task.exceptions.TaskNotFoundException;
 import seedu.address.testutil.TaskBuilder;
 
 public class TaskBookTest {
@@ -88,6 +96,139 @@ public class TaskBookTest {
         assertTrue(taskBook.hasTask(editedCS2110));
     }
 
+    @Test
+    public void hasTask_taskRemovedFromTaskBook_returnsFalse() {
+        taskBook.addTask(CS2110);
+        taskBook.removeTask(CS2110);
+        assertFalse(taskBook.hasTask(CS2110));
+    }
+
+    @Test
+    public void hasTask_afterResetData_reflectsNewData() {
+        taskBook.addTask(CS2110);
+        taskBook.resetData(new TaskBook());
+        assertFalse(taskBook.hasTask(CS2110));
+        taskBook.resetData(getTypicalTaskBook());
+        assertTrue(taskBook.hasTask(CS2110));
+    }
+
+    @Test
+    public void addTask_taskWithoutId_assignsUniqueIds() {
+        taskBook.addTask(CS2110);
+        taskBook.addTask(CS2100);
+        long firstId = taskBook.getTaskList().get(0).getId();
+        long secondId = taskBook.getTaskList().get(1).getId();
+        assertTrue(firstId != Task.UNASSIGNED_ID);
+        assertTrue(secondId > firstId);
+        assertEquals(CS2100, taskBook.getTaskById(secondId).get());
+    }
+
+    @Test
+    public void addTask_taskWithTakenId_assignsNewId() {
+        taskBook.addTask(CS2110.withId(1));
+        taskBook.addTask(CS2100.withId(1));
+        assertEquals(CS2110, taskBook.getTaskById(1).get());
+        assertEquals(CS2100, taskBook.getTaskById(2).get());
+    }
+
+    @Test
+    public void addTaskAndResetData_taskWithReservedId_assignsNewId() {
+        taskBook.addTask(CS2110.withId(2));
+        taskBook.reserveTaskIdsBelow(5);
+        taskBook.removeTask(CS2110);
+
+        taskBook.addTask(CS2100.withId(3));
+        taskBook.addTask(CS2110.withId(2));
+        assertEquals(CS2100, taskBook.getTaskById(5).get());
+        assertEquals(CS2110, taskBook.getTaskById(2).get());
+
+        TaskBook imported = new TaskBook();
+        imported.addTask(HOME.withId(4));
+        taskBook.resetData(imported);
+        assertFalse(taskBook.getTaskById(4).isPresent());
+        assertTrue(taskBook.getTaskById(6).isPresent());
+    }
+
+    @Test
+    public void setTask_editedTask_keepsId() {
+        taskBook.addTask(CS2110);
+        long id = taskBook.getTaskList().get(0).getId();
+        Task editedCS2110 = new TaskBuilder(CS2110).withName(VALID_NAME_CS2101).build();
+        taskBook.setTask(CS2110, editedCS2110);
+        assertEquals(editedCS2110, taskBook.getTaskById(id).get());
+    }
+
+    @Test
+    public void removeTask_taskInTaskBook_idNoLongerFound() {
+        taskBook.addTask(CS2110);
+        long id = taskBook.getTaskList().get(0).getId();
+        taskBook.removeTask(CS2110);
+        assertFalse(taskBook.getTaskById(id).isPresent());
+    }
+
+    @Test
+    public void setTaskAndRemoveTask_afterTasksShifted_changeTheRightTasks() {
+        TaskBook typicalTaskBook = getTypicalTaskBook();
+        List<Task> expected = new ArrayList<>(typicalTaskBook.getTaskList());
+        Task last = expected.get(expected.size() - 1);
+        Task editedLast = new TaskBuilder(last).withDescription("Edited").build();
+
+        typicalTaskBook.removeTask(expected.remove(0));
+        typicalTaskBook.setTask(last, editedLast);
+        typicalTaskBook.addTask(HOME);
+        expected.add(HOME);
+        typicalTaskBook.removeTask(expected.remove(1));
+
+        assertEquals(expected, typicalTaskBook.getTaskList());
+        assertEquals(editedLast.getDescription(), typicalTaskBook.getTaskList().get(expected.size() - 2)
+                .getDescription());
+    }
+
+    @Test
+    public void getTaskIdsStartingInMonth_dayPastEndOfMonth_foundInMonthAsWritten() {
+        Task lastOfFebruary = new TaskBuilder().withName("Rollover").withStartDate("31-02-19").withEndDate("31-02-19")
+                .build();
+        taskBook.addTask(lastOfFebruary);
+        long id = taskBook.getTaskList().get(0).getId();
+
+        assertTrue(taskBook.getTaskIdsStartingInMonth(DateUtil.toEpochMonth("02-19")).contains(id));
+        assertFalse(taskBook.getTaskIdsStartingInMonth(DateUtil.toEpochMonth("03-19")).contains(id));
+    }
+
+    @Test
+    public void resetData_copyOfTaskBook_preservesIds() {
+        TaskBook typicalTaskBook = getTypicalTaskBook();
+        taskBook.resetData(new TaskBook(typicalTaskBook));
+        for (Task task : typicalTaskBook.getTaskList()) {
+            assertEquals(task.getId(), taskBook.getTaskById(task.getId()).get().getId());
+        }
+    }
+
+    @Test
+    public void addTask_singleDayTasks_daysInDateOrder() {
+        Task march = new TaskBuilder().withName("March").withStartDate("15-03-19").withEndDate("15-03-19").build();
+        Task january = new TaskBuilder().withName("January").withStartDate("02-01-19").withEndDate("02-01-19")
+                .build();
+        taskBook.addTask(march);
+        taskBook.addTask(january);
+        assertEquals("02-01-19", taskBook.getDayList().get(0).getDate().value);
+        assertEquals("15-03-19", taskBook.getDayList().get(1).getDate().value);
+    }
+
+    @Test
+    public void removeTask_lastTaskOfDay_dayRemoved() {
+        Task first = new TaskBuilder().withName("First").withStartDate("15-03-19").withEndDate("15-03-19").build();
+        Task second = new TaskBuilder().withName("Second").withStartDate("15-03-19").withEndDate("15-03-19").build();
+        taskBook.addTask(first);
+        taskBook.addTask(second);
+        assertEquals(1, taskBook.getDayList().size());
+
+        taskBook.removeTask(first);
+        assertEquals(1, taskBook.getDayList().size());
+        taskBook.removeTask(second);
+        assertTrue(taskBook.getDayList().isEmpty());
+    }
+
     @Test
     public void getTaskList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -113,6 +254,163 @@ public class TaskBookTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void setTasksWithDays_daysOfOtherTasks_daysComputedFromTasks() {
+        Task task = new TaskBuilder().withName("Cached").withStartDate("15-03-19").withEndDate("15-03-19").build();
+        TaskBook stale = new TaskBook();
+        stale.addTask(new TaskBuilder(task).withStartDate("16-03-19").withEndDate("16-03-19").build());
+
+        taskBook.setTasks(Collections.singletonList(task), stale.getDayList());
+        assertEquals(1, taskBook.getDayList().size());
+        assertEquals("15-03-19", taskBook.getDayList().get(0).getDate().value);
+    }
+
+    @Test
+    public void applyTransaction_taskAddedAndMovedToAnotherDay_noEmptyDayListed() {
+        Task task = new TaskBuilder().withName("Moved").withStartDate("15-03-19").withEndDate("15-03-19").build();
+        Task moved = new TaskBuilder(task).withStartDate("16-03-19").withEndDate("16-03-19").build();
+        taskBook.applyTransaction(new TaskBookTransaction().addTask(task).setTask(task, moved));
+
+        assertEquals(1, taskBook.getDayList().size());
+        assertEquals("16-03-19", taskBook.getDayList().get(0).getDate().value);
+    }
+
+    @Test
+    public void applyTransaction_manyChanges_notifiedOnceAndDaysUpdated() {
+        Task first = new TaskBuilder().withName("First").withStartDate("15-03-19").withEndDate("15-03-19").build();
+        Task second = new TaskBuilder().withName("Second").withStartDate("15-03-19").withEndDate("15-03-19").build();
+        Task other = new TaskBuilder().withName("Other").withStartDate("16-03-19").withEndDate("16-03-19").build();
+        taskBook.addTask(first);
+        taskBook.addTask(other);
+
+        SimpleIntegerProperty bookChanges = new SimpleIntegerProperty();
+        SimpleIntegerProperty taskListChanges = new SimpleIntegerProperty();
+        SimpleIntegerProperty dayListChanges = new SimpleIntegerProperty();
+        taskBook.addListener(observable -> bookChanges.set(bookChanges.get() + 1));
+        taskBook.getTaskList().addListener((ListChangeListener<Task>) change ->
+                taskListChanges.set(taskListChanges.get() + 1));
+        taskBook.getDayList().addListener((ListChangeListener<Day>) change ->
+                dayListChanges.set(dayListChanges.get() + 1));
+
+        Task editedFirst = new TaskBuilder(first).withDescription("edited").build();
+        taskBook.applyTransaction(new TaskBookTransaction().addTask(second).setTask(first, editedFirst)
+                .removeTask(other));
+        assertEquals(1, bookChanges.get());
+        assertEquals(1, taskListChanges.get());
+        assertEquals(1, dayListChanges.get());
+        assertEquals(Arrays.asList(editedFirst, second), taskBook.getTaskList());
+        assertEquals(new TaskBook(taskBook).getDayList(), taskBook.getDayList());
+    }
+
+    @Test
+    public void removeTasks_scatteredTasks_removedInOneChangeWithARemovalPerRun() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tasks.add(new TaskBuilder().withName("Task " + (char) ('A' + i)).withStartDate("1" + i + "-03-19")
+                    .withEndDate("1" + i + "-03-19").build());
+            taskBook.addTask(tasks.get(i));
+        }
+        List<Integer> removalsPerChange = new ArrayList<>();
+        taskBook.getTaskList().addListener((ListChangeListener<Task>) change -> {
+            int removals = 0;
+            while (change.next()) {
+                removals += change.wasRemoved() ? 1 : 0;
+            }
+            removalsPerChange.add(removals);
+        });
+
+        taskBook.removeTasks(Arrays.asList(tasks.get(4), tasks.get(0), tasks.get(1), tasks.get(5)));
+        assertEquals(Collections.singletonList(2), removalsPerChange);
+        assertEquals(Arrays.asList(tasks.get(2), tasks.get(3)), taskBook.getTaskList());
+        assertEquals(new TaskBook(taskBook).getDayList(), taskBook.getDayList());
+
+        // positions are found again after the removal
+        taskBook.removeTask(tasks.get(3));
+        assertEquals(Collections.singletonList(tasks.get(2)), taskBook.getTaskList());
+    }
+
+    @Test
+    public void removeTasks_taskNotInTaskBook_nothingRemoved() {
+        taskBook.addTask(CS2110);
+        thrown.expect(TaskNotFoundException.class);
+        try {
+            taskBook.removeTasks(Arrays.asList(CS2110, CS2100));
+        } finally {
+            assertEquals(Collections.singletonList(CS2110), taskBook.getTaskList());
+        }
+    }
+
+    @Test
+    public void resetData_oneTaskEdited_onlyThatTaskReplaced() {
+        Task first = new TaskBuilder().withName("First").withStartDate("15-03-19").withEndDate("15-03-19").build();
+        Task second = new TaskBuilder().withName("Second").withStartDate("16-03-19").withEndDate("16-03-19").build();
+        Task third = new TaskBuilder().withName("Third").withStartDate("17-03-19").withEndDate("17-03-19").build();
+        taskBook.resetData(new TaskBookStub(Arrays.asList(first, second, third)));
+        TaskBook target = new TaskBook(taskBook);
+        Task editedSecond = new TaskBuilder(target.getTaskList().get(1)).withDescription("edited").build();
+        target.setTask(target.getTaskList().get(1), editedSecond);
+
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        List<Integer> changedIndexes = new ArrayList<>();
+        taskBook.getTaskList().addListener((ListChangeListener<Task>) change -> {
+            changes.add(change);
+            while (change.next()) {
+                changedIndexes.add(change.getFrom());
+            }
+        });
+        taskBook.resetData(target);
+        assertEquals(1, changes.size());
+        assertEquals(Collections.singletonList(1), changedIndexes);
+        assertEquals("edited", taskBook.getTaskList().get(1).getDescription().value);
+        assertEquals(target.getTaskList().get(1).getId(), taskBook.getTaskList().get(1).getId());
+    }
+
+    @Test
+    public void resetData_mostTasksDiffer_replacedAsWhole() {
+        TaskBook typicalTaskBook = getTypicalTaskBook();
+        List<Integer> removedSizes = new ArrayList<>();
+        typicalTaskBook.getTaskList().addListener((ListChangeListener<Task>) change -> {
+            while (change.next()) {
+                removedSizes.add(change.getRemovedSize());
+            }
+        });
+
+        typicalTaskBook.resetData(new TaskBook());
+        assertEquals(Collections.singletonList(getTypicalTasks().size()), removedSizes);
+        assertEquals(Collections.emptyList(), typicalTaskBook.getDayList());
+    }
+
+    @Test
+    public void resetData_tasksAddedRemovedAndReordered_matchesNewData() {
+        Task first = new TaskBuilder().withName("First").withStartDate("15-03-19").withEndDate("15-03-19").build();
+        Task second = new TaskBuilder().withName("Second").withStartDate("15-03-19").withEndDate("15-03-19").build();
+        Task third = new TaskBuilder().withName("Third").withStartDate("17-03-19").withEndDate("17-03-19").build();
+        Task fourth = new TaskBuilder().withName("Fourth").withStartDate("18-03-19").withEndDate("18-03-19").build();
+        taskBook.resetData(new TaskBookStub(Arrays.asList(first, second, third)));
+
+        for (List<Task> newTasks : Arrays.asList(Arrays.asList(fourth, first, third), Arrays.asList(third, first),
+                Arrays.asList(second, fourth, first, third), Collections.<Task>emptyList())) {
+            taskBook.resetData(new TaskBookStub(newTasks));
+            TaskBook expected = new TaskBook();
+            newTasks.forEach(expected::addTask);
+            assertEquals(newTasks, taskBook.getTaskList());
+            assertEquals(expected.getDayList(), taskBook.getDayList());
+            for (Task t : newTasks) {
+                assertTrue(taskBook.getTaskIdsWithNameWord(t.getName().fullName).contains(
+                        taskBook.getTaskList().get(taskBook.getTaskList().indexOf(t)).getId()));
+            }
+        }
+    }
+
+    @Test
+    public void searchTasks_readOnlyTaskBook_sameTasksAsTaskBook() {
+        TaskBook typicalTaskBook = getTypicalTaskBook();
+        TaskBookStub readOnlyTaskBook = new TaskBookStub(typicalTaskBook.getTaskList());
+        List<Task> found = typicalTaskBook.searchTasks("sequence diagram", 5);
+        assertFalse(found.isEmpty());
+        assertEquals(found, readOnlyTaskBook.searchTasks("sequence diagram", 5));
+    }
+
     /**
      * A stub ReadOnlyTaskBook whose tasks list can violate interface constraints.
      */
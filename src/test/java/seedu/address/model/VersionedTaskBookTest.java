@@ -8,13 +8,17 @@ import static seedu.address.testutil.TypicalTasks.CS2100;
 import static seedu.address.testutil.TypicalTasks.CS2110;
 import static seedu.address.testutil.TypicalTasks.CS2113;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.task.Task;
 import seedu.address.testutil.TaskBookBuilder;
+import seedu.address.testutil.TaskBuilder;
 
 public class VersionedTaskBookTest {
 
@@ -207,6 +211,101 @@ public class VersionedTaskBookTest {
         assertThrows(VersionedTaskBook.NoRedoableStateException.class, versionedTaskBook::redo);
     }
 
+    @Test
+    public void undoRedo_taskChanges_restoredInPlaceWithIds() {
+        VersionedTaskBook versionedTaskBook = new VersionedTaskBook(
+                new TaskBookBuilder().withTask(CS2110).withTask(CS2100).build());
+        List<Task> initialTasks = new ArrayList<>(versionedTaskBook.getTaskList());
+
+        versionedTaskBook.removeTask(initialTasks.get(0));
+        versionedTaskBook.addTask(CS2113);
+        versionedTaskBook.setTask(initialTasks.get(1), new TaskBuilder(CS2100).withDescription("edited").build());
+        versionedTaskBook.commit();
+        List<Task> changedTasks = new ArrayList<>(versionedTaskBook.getTaskList());
+
+        versionedTaskBook.undo();
+        assertEquals(initialTasks, versionedTaskBook.getTaskList());
+        assertEquals(initialTasks.get(0).getId(), versionedTaskBook.getTaskList().get(0).getId());
+
+        versionedTaskBook.redo();
+        assertEquals(changedTasks, versionedTaskBook.getTaskList());
+        assertEquals(changedTasks.get(1).getId(), versionedTaskBook.getTaskList().get(1).getId());
+    }
+
+    @Test
+    public void undoRedo_tasksRemovedTogether_restoredInPlace() {
+        VersionedTaskBook versionedTaskBook = new VersionedTaskBook(
+                new TaskBookBuilder().withTask(CS2110).withTask(CS2100).withTask(CS2113).build());
+        List<Task> initialTasks = new ArrayList<>(versionedTaskBook.getTaskList());
+
+        versionedTaskBook.removeTasks(Arrays.asList(initialTasks.get(2), initialTasks.get(0)));
+        versionedTaskBook.commit();
+        assertEquals(Collections.singletonList(initialTasks.get(1)), versionedTaskBook.getTaskList());
+
+        versionedTaskBook.undo();
+        assertEquals(initialTasks, versionedTaskBook.getTaskList());
+        assertEquals(initialTasks.get(2).getId(), versionedTaskBook.getTaskList().get(2).getId());
+
+        versionedTaskBook.redo();
+        assertEquals(Collections.singletonList(initialTasks.get(1)), versionedTaskBook.getTaskList());
+    }
+
+    @Test
+    public void undoRedo_tasksSorted_orderRestored() {
+        VersionedTaskBook versionedTaskBook = new VersionedTaskBook(
+                new TaskBookBuilder().withTask(CS2100).withTask(CS2113).withTask(CS2110).build());
+        List<Task> initialTasks = new ArrayList<>(versionedTaskBook.getTaskList());
+
+        versionedTaskBook.sortTaskByDate(Comparator.comparing((Task task) -> task.getName().fullName));
+        versionedTaskBook.commit();
+        List<Task> sortedTasks = Arrays.asList(initialTasks.get(2), initialTasks.get(1), initialTasks.get(0));
+        assertEquals(sortedTasks, versionedTaskBook.getTaskList());
+
+        versionedTaskBook.undo();
+        assertEquals(initialTasks, versionedTaskBook.getTaskList());
+        versionedTaskBook.redo();
+        assertEquals(sortedTasks, versionedTaskBook.getTaskList());
+    }
+
+    @Test
+    public void undoRedo_tasksReplaced_restoredInPlace() {
+        VersionedTaskBook versionedTaskBook = new VersionedTaskBook(
+                new TaskBookBuilder().withTask(CS2110).withTask(CS2100).withTask(CS2113).build());
+        List<Task> initialTasks = new ArrayList<>(versionedTaskBook.getTaskList());
+        Task edited = new TaskBuilder(initialTasks.get(2)).withDescription("edited").build();
+        Task added = new TaskBuilder().withName("CS2040").build();
+
+        // first task removed, last task edited, and a task added between the two kept
+        versionedTaskBook.setTasks(Arrays.asList(initialTasks.get(1), added, edited));
+        versionedTaskBook.commit();
+        List<Task> replacedTasks = new ArrayList<>(versionedTaskBook.getTaskList());
+
+        versionedTaskBook.undo();
+        assertEquals(initialTasks, versionedTaskBook.getTaskList());
+        assertEquals(initialTasks.get(0).getId(), versionedTaskBook.getTaskList().get(0).getId());
+        versionedTaskBook.redo();
+        assertEquals(replacedTasks, versionedTaskBook.getTaskList());
+
+        // the tasks kept put in a different order
+        versionedTaskBook.setTasks(Arrays.asList(replacedTasks.get(2), replacedTasks.get(0)));
+        versionedTaskBook.commit();
+        versionedTaskBook.undo();
+        assertEquals(replacedTasks, versionedTaskBook.getTaskList());
+        versionedTaskBook.undo();
+        assertEquals(initialTasks, versionedTaskBook.getTaskList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discarded() {
+        VersionedTaskBook versionedTaskBook = prepareTaskBookList(emptyTaskBook, taskBookWithCS2110);
+        versionedTaskBook.addTask(CS2113);
+
+        versionedTaskBook.undo();
+        assertEquals(emptyTaskBook, new TaskBook(versionedTaskBook));
+        versionedTaskBook.redo();
+        assertEquals(taskBookWithCS2110, new TaskBook(versionedTaskBook));
+    }
+
     @Test
     public void equals() {
         VersionedTaskBook versionedTaskBook = prepareTaskBookList(taskBookWithCS2110, taskBookWithCS2100);
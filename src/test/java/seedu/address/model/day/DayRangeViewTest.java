@@ -0,0 +1,97 @@
+package seedu.address.model.day;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class DayRangeViewTest {
+
+    private static final Day JAN_02 = new Day(new Date("02-01-19"));
+    private static final Day FEB_10 = new Day(new Date("10-02-19"));
+    private static final Day MAR_15 = new Day(new Date("15-03-19"));
+    private static final Day MAR_20 = new Day(new Date("20-03-19"));
+    private static final Day APR_01 = new Day(new Date("01-04-19"));
+
+    private final UniqueDayList days = new UniqueDayList();
+    private final DayRangeView view = new DayRangeView(days.asUnmodifiableObservableList());
+
+    @Test
+    public void constructor_noRange_showsAllDaysInDateOrder() {
+        days.setDays(Arrays.asList(MAR_15, JAN_02, FEB_10));
+        assertEquals(Arrays.asList(JAN_02, FEB_10, MAR_15), view);
+    }
+
+    @Test
+    public void setRange_boundsInclusive_showsDaysInRange() {
+        days.setDays(Arrays.asList(JAN_02, FEB_10, MAR_15, MAR_20, APR_01));
+
+        view.setRange(new Date("10-02-19"), new Date("20-03-19"));
+        assertEquals(Arrays.asList(FEB_10, MAR_15, MAR_20), view);
+
+        // open start
+        view.setRange(null, new Date("01-03-19"));
+        assertEquals(Arrays.asList(JAN_02, FEB_10), view);
+
+        // no day in range
+        view.setRange(new Date("01-05-19"), new Date("31-05-19"));
+        assertEquals(new ArrayList<Day>(), view);
+    }
+
+    @Test
+    public void setRange_datePastEndOfMonth_inRangeOfDayItFallsOn() {
+        // 30-02-19 falls on the 2nd of March, and is ordered after 02-03-19
+        Day mar02 = new Day(new Date("02-03-19"));
+        Day feb30 = new Day(new Date("30-02-19"));
+        days.setDays(Arrays.asList(FEB_10, mar02, feb30, MAR_15));
+
+        view.setRange(new Date("01-03-19"), new Date("02-03-19"));
+        assertEquals(Arrays.asList(mar02, feb30), view);
+
+        view.setRange(new Date("03-03-19"), null);
+        assertEquals(Arrays.asList(MAR_15), view);
+
+        days.remove(feb30);
+        view.setRange(new Date("02-03-19"), new Date("02-03-19"));
+        days.add(feb30);
+        assertEquals(Arrays.asList(mar02, feb30), view);
+    }
+
+    @Test
+    public void sourceChanged_daysAddedAndRemoved_viewFollowsRange() {
+        days.setDays(Arrays.asList(JAN_02, MAR_20));
+        view.setRange(new Date("01-03-19"), new Date("31-03-19"));
+
+        days.add(FEB_10);
+        days.add(MAR_15);
+        days.add(APR_01);
+        assertEquals(Arrays.asList(MAR_15, MAR_20), view);
+
+        days.remove(JAN_02);
+        days.remove(MAR_20);
+        assertEquals(Arrays.asList(MAR_15), view);
+    }
+
+    @Test
+    public void sourceChanged_dayUpdated_singleUpdateInView() {
+        days.setDays(Arrays.asList(JAN_02, MAR_15, MAR_20));
+        view.setRange(new Date("01-03-19"), null);
+        List<Integer> updatedIndexes = new ArrayList<>();
+        view.addListener((ListChangeListener<Day>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updatedIndexes.add(change.getFrom());
+                }
+            }
+        });
+
+        days.markUpdated(MAR_20);
+        days.markUpdated(JAN_02);
+        assertEquals(Arrays.asList(1), updatedIndexes);
+    }
+}
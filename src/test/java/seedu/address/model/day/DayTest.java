@@ -0,0 +1,55 @@
+package seedu.address.model.day;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class DayTest {
+
+    private static final Task ACADEMIC_TASK = new TaskBuilder().withName("Lecture").withCategory("a")
+            .withStartDate("15-03-19").withStartTime("09.00").withEndDate("15-03-19").withEndTime("10.05").build();
+    private static final Task ERRAND_TASK = new TaskBuilder().withName("Groceries").withCategory("r")
+            .withStartDate("15-03-19").withStartTime("17.30").withEndDate("15-03-19").withEndTime("18.00").build();
+
+    @Test
+    public void addCategory_minutesAddedToCategory() {
+        Day day = new Day(new Date("15-03-19"));
+        assertTrue(day.isDayEmpty());
+
+        day.addCategory(ACADEMIC_TASK);
+        day.addCategory(ACADEMIC_TASK);
+        day.addCategory(ERRAND_TASK);
+        assertEquals(130, day.getAcademicMinutes());
+        assertEquals(30, day.getErrandMinutes());
+        assertEquals(0, day.getCcaMinutes());
+        assertFalse(day.isDayEmpty());
+    }
+
+    @Test
+    public void removeCategory_manyAddsAndRemoves_backToExactlyEmpty() {
+        Day day = new Day(new Date("15-03-19"));
+        for (int i = 0; i < 10000; i++) {
+            day.addCategory(ACADEMIC_TASK);
+        }
+        for (int i = 0; i < 10000; i++) {
+            day.removeCategory(ACADEMIC_TASK);
+        }
+        assertTrue(day.isDayEmpty());
+    }
+
+    @Test
+    public void editCategory_categoryChanged_minutesMoved() {
+        Day day = new Day(new Date("15-03-19"));
+        day.addCategory(ACADEMIC_TASK);
+
+        Task editedTask = new TaskBuilder(ACADEMIC_TASK).withCategory("c").withEndTime("11.00").build();
+        day.editCategory(ACADEMIC_TASK, editedTask);
+        assertEquals(0, day.getAcademicMinutes());
+        assertEquals(120, day.getCcaMinutes());
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.task.ReminderScheduler.Reminder;
+import seedu.address.testutil.TaskBuilder;
+
+public class ReminderSchedulerTest {
+
+    /** 05-03-19 10.00 */
+    private static final Clock NOW = Clock.fixed(LocalDateTime.of(2019, 3, 5, 10, 0).toInstant(ZoneOffset.UTC),
+            ZoneOffset.UTC);
+
+    private static final Task PAST = task(1, "Breakfast", "05-03-19", "07.00", "05-03-19", "08.00");
+    private static final Task ONGOING = task(2, "Lecture", "05-03-19", "09.00", "05-03-19", "11.00");
+    private static final Task FUTURE = task(3, "Movie", "05-03-19", "10.30", "05-03-19", "12.00");
+
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList();
+    private final List<List<Reminder>> fired = Collections.synchronizedList(new ArrayList<>());
+    private ReminderScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        tasks.setAll(PAST, ONGOING, FUTURE);
+    }
+
+    @After
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    public void pollDue_pastInstantsSkipped_restInOrderOfTime() {
+        scheduler = new ReminderScheduler(tasks, NOW, fired::add);
+        assertEquals(Arrays.asList(new Reminder(FUTURE, ReminderView.SortKey.START),
+                new Reminder(ONGOING, ReminderView.SortKey.DEADLINE)), scheduler.pollDue(minute("05-03-19", "11.00")));
+        assertEquals(Arrays.asList(new Reminder(FUTURE, ReminderView.SortKey.DEADLINE)),
+                scheduler.pollDue(minute("06-03-19", "00.00")));
+        assertFalse(scheduler.getNextReminder().isPresent());
+    }
+
+    @Test
+    public void taskListChanges_rescheduled() {
+        scheduler = new ReminderScheduler(tasks, NOW, fired::add);
+        Task soon = task(4, "Call", "05-03-19", "10.05", "05-03-19", "10.10");
+        tasks.add(soon);
+        assertEquals(new Reminder(soon, ReminderView.SortKey.START), scheduler.getNextReminder().get());
+
+        tasks.remove(soon);
+        tasks.set(tasks.indexOf(FUTURE), task(3, "Movie", "05-03-19", "20.00", "05-03-19", "22.00"));
+        assertEquals(Arrays.asList(new Reminder(ONGOING, ReminderView.SortKey.DEADLINE)),
+                scheduler.pollDue(minute("05-03-19", "19.59")));
+    }
+
+    @Test
+    public void pollDue_afterPoll_pastInstantsOfNewTasksSkipped() {
+        scheduler = new ReminderScheduler(tasks, NOW, fired::add);
+        scheduler.pollDue(minute("05-03-19", "11.30"));
+        tasks.add(task(4, "Call", "05-03-19", "11.00", "05-03-19", "11.45"));
+        assertEquals(ReminderView.SortKey.DEADLINE, scheduler.getNextReminder().get().getInstant());
+        assertEquals(minute("05-03-19", "11.45"), scheduler.getNextReminder().get().getEpochMinute());
+    }
+
+    @Test
+    public void schedule_clockAdvancedWithoutPoll_instantsJustPastSkipped() {
+        MutableClock clock = new MutableClock(NOW.instant());
+        scheduler = new ReminderScheduler(tasks, clock, fired::add);
+        clock.setTime(LocalDateTime.of(2019, 3, 5, 10, 20));
+
+        Task call = task(4, "Call", "05-03-19", "10.10", "05-03-19", "10.50");
+        tasks.add(call);
+        assertEquals(Arrays.asList(new Reminder(FUTURE, ReminderView.SortKey.START),
+                new Reminder(call, ReminderView.SortKey.DEADLINE)), scheduler.pollDue(minute("05-03-19", "10.50")));
+    }
+
+    @Test
+    public void start_dueInstant_firesOnBackgroundThread() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        tasks.add(task(4, "Call", "05-03-19", "10.00", "05-03-19", "23.00"));
+        scheduler = new ReminderScheduler(tasks, NOW, reminders -> {
+            fired.add(reminders);
+            latch.countDown();
+        });
+        scheduler.start();
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("Starting now: Call", fired.get(0).get(0).toString());
+    }
+
+    /**
+     * A clock in UTC whose time is set by the test.
+     */
+    private static class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void setTime(LocalDateTime time) {
+            instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private static long minute(String date, String time) {
+        return DateUtil.toEpochMinute(DateUtil.toEpochDay(date), DateUtil.toMinuteOfDay(time));
+    }
+
+    private static Task task(long id, String name, String startDate, String startTime, String endDate,
+                             String endTime) {
+        return new TaskBuilder().withName(name).withStartDate(startDate).withStartTime(startTime)
+                .withEndDate(endDate).withEndTime(endTime).build().withId(id);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.testutil.TaskBuilder;
+
+public class ReminderViewTest {
+
+    private static final Task EARLY_START_LATE_END = task("Project", "a", "01-03-19", "09.00", "30-03-19", "18.00");
+    private static final Task MIDDLE = task("Lecture", "a", "05-03-19", "10.00", "05-03-19", "12.00");
+    private static final Task LATE_START_EARLY_END = task("Movie", "e", "06-03-19", "08.00", "06-03-19", "10.00");
+
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList();
+    private ReminderView view;
+
+    @Before
+    public void setUp() {
+        tasks.setAll(LATE_START_EARLY_END, EARLY_START_LATE_END, MIDDLE);
+        view = new ReminderView(tasks);
+    }
+
+    @Test
+    public void setSortKey_ordersByKeyAndBackToTaskListOrder() {
+        view.setSortKey(ReminderView.SortKey.START);
+        assertEquals(Arrays.asList(EARLY_START_LATE_END, MIDDLE, LATE_START_EARLY_END),
+                view.asUnmodifiableObservableList());
+        view.setSortKey(ReminderView.SortKey.DEADLINE);
+        assertEquals(Arrays.asList(MIDDLE, LATE_START_EARLY_END, EARLY_START_LATE_END),
+                view.asUnmodifiableObservableList());
+        view.setSortKey(null);
+        assertEquals(tasks, view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void taskListChanges_keptInOrder() {
+        view.setSortKey(ReminderView.SortKey.START);
+        Task first = task("Breakfast", "o", "01-03-19", "07.00", "01-03-19", "08.00");
+        tasks.add(first);
+        tasks.remove(MIDDLE);
+        Task edited = task("Lecture", "a", "31-03-19", "10.00", "31-03-19", "12.00");
+        tasks.set(tasks.indexOf(LATE_START_EARLY_END), edited);
+        assertEquals(Arrays.asList(first, EARLY_START_LATE_END, edited), view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setCategory_replacesEarlierCategory() {
+        view.setSortKey(ReminderView.SortKey.START);
+        view.setCategory(Categories.ENTERTAINMENT);
+        assertEquals(Arrays.asList(LATE_START_EARLY_END), view.asUnmodifiableObservableList());
+        view.setCategory(Categories.ACADEMIC);
+        assertEquals(Arrays.asList(EARLY_START_LATE_END, MIDDLE), view.asUnmodifiableObservableList());
+        view.reset();
+        assertEquals(tasks, view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getUpcoming_startsAtFirstTaskNotPast() {
+        view.setSortKey(ReminderView.SortKey.START);
+        long now = DateUtil.toEpochMinute(DateUtil.toEpochDay("05-03-19"), DateUtil.toMinuteOfDay("10.00"));
+        assertEquals(Arrays.asList(MIDDLE, LATE_START_EARLY_END), view.getUpcoming(5, now));
+        assertEquals(Arrays.asList(MIDDLE), view.getUpcoming(1, now));
+        assertEquals(Arrays.asList(), view.getUpcoming(5, now + 24 * 60));
+
+        view.setSortKey(null);
+        assertEquals(Arrays.asList(LATE_START_EARLY_END, EARLY_START_LATE_END), view.getUpcoming(2, now));
+    }
+
+    private static Task task(String name, String category, String startDate, String startTime, String endDate,
+                             String endTime) {
+        return new TaskBuilder().withName(name).withCategory(category).withStartDate(startDate)
+                .withStartTime(startTime).withEndDate(endDate).withEndTime(endTime).build();
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.task.exceptions.TaskNotFoundException;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskDateIndexTest {
+
+    private static final Task MARCH_01 = task(1, "01-03-19", "01-03-19");
+    private static final Task MARCH_01_TO_10 = task(2, "01-03-19", "10-03-19");
+    private static final Task MARCH_05 = task(3, "05-03-19", "05-03-19");
+    private static final Task FEBRUARY_TO_APRIL = task(4, "20-02-19", "02-04-19");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TaskDateIndex index = new TaskDateIndex();
+
+    @Test
+    public void startingBetween_returnsTasksStartingInRangeByStartDate() {
+        index.setTasks(Arrays.asList(MARCH_05, FEBRUARY_TO_APRIL, MARCH_01_TO_10, MARCH_01));
+        assertEquals(Arrays.asList(MARCH_01, MARCH_01_TO_10, MARCH_05),
+                index.startingBetween(day("01-03-19"), day("31-03-19")));
+        assertEquals(Arrays.asList(MARCH_05), index.startingBetween(day("05-03-19"), day("05-03-19")));
+    }
+
+    @Test
+    public void overlapping_returnsTasksSpanningAnyDayOfRange() {
+        index.setTasks(Arrays.asList(MARCH_05, FEBRUARY_TO_APRIL, MARCH_01_TO_10, MARCH_01));
+        assertEquals(Arrays.asList(FEBRUARY_TO_APRIL, MARCH_01_TO_10, MARCH_05),
+                index.overlapping(day("03-03-19"), day("06-03-19")));
+        assertEquals(Arrays.asList(FEBRUARY_TO_APRIL), index.overlapping(day("11-03-19"), day("30-03-19")));
+    }
+
+    @Test
+    public void endingBefore_returnsTasksEndingBeforeDayByEndDate() {
+        index.setTasks(Arrays.asList(MARCH_05, FEBRUARY_TO_APRIL, MARCH_01_TO_10, MARCH_01));
+        assertEquals(Arrays.asList(MARCH_01, MARCH_05), index.endingBefore(day("10-03-19")));
+    }
+
+    @Test
+    public void remove_taskNotInIndex_throwsTaskNotFoundException() {
+        index.add(MARCH_01);
+        thrown.expect(TaskNotFoundException.class);
+        index.remove(MARCH_05);
+    }
+
+    @Test
+    public void queries_afterRandomAddsAndRemoves_matchFullScan() {
+        Random random = new Random(2113);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            int start = day("01-01-19") + random.nextInt(365);
+            Task t = task(i, date(start), date(start + random.nextInt(30)));
+            tasks.add(t);
+            index.add(t);
+        }
+        for (int i = 0; i < 200; i++) {
+            index.remove(tasks.remove(random.nextInt(tasks.size())));
+        }
+        assertEquals(tasks.size(), index.size());
+
+        for (int i = 0; i < 50; i++) {
+            int from = day("01-01-19") + random.nextInt(400);
+            int to = from + random.nextInt(40);
+            assertEquals(sortedById(tasks.stream().filter(t -> start(t) <= to && end(t) >= from)),
+                    sortedById(index.overlapping(from, to).stream()));
+            assertEquals(sortedById(tasks.stream().filter(t -> start(t) >= from && start(t) <= to)),
+                    sortedById(index.startingBetween(from, to).stream()));
+            assertEquals(sortedById(tasks.stream().filter(t -> end(t) < from)),
+                    sortedById(index.endingBefore(from).stream()));
+        }
+    }
+
+    private static Task task(long id, String startDate, String endDate) {
+        return new TaskBuilder().withName("Task " + id).withStartDate(startDate).withEndDate(endDate).build()
+                .withId(id);
+    }
+
+    private static int day(String date) {
+        return DateUtil.toEpochDay(date);
+    }
+
+    private static String date(int epochDay) {
+        return DateUtil.toLocalDate(epochDay).format(DateTimeFormatter.ofPattern("dd-MM-yy"));
+    }
+
+    private static int start(Task t) {
+        return t.getStartDate().getEpochDay();
+    }
+
+    private static int end(Task t) {
+        return t.getEndDate().getEpochDay();
+    }
+
+    private static List<Long> sortedById(Stream<Task> tasks) {
+        return tasks.map(Task::getId).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TaskIdBitmapTest {
+
+    @Test
+    public void addRemove_sparseAndDense_tracksIds() {
+        TaskIdBitmap bitmap = new TaskIdBitmap();
+        for (long id = 1; id <= 10000; id++) {
+            bitmap.add(id);
+        }
+        bitmap.add(1L << 20);
+        assertEquals(10001, bitmap.cardinality());
+        assertTrue(bitmap.contains(5000));
+        assertTrue(bitmap.contains(1L << 20));
+        assertFalse(bitmap.contains(10001));
+
+        for (long id = 1; id <= 10000; id += 2) {
+            bitmap.remove(id);
+        }
+        bitmap.remove(1L << 20);
+        assertEquals(5000, bitmap.cardinality());
+        assertFalse(bitmap.contains(4999));
+        assertTrue(bitmap.contains(5000));
+    }
+
+    @Test
+    public void remove_lastId_isEmpty() {
+        TaskIdBitmap bitmap = new TaskIdBitmap();
+        bitmap.add(3);
+        bitmap.remove(3);
+        bitmap.remove(4);
+        assertTrue(bitmap.isEmpty());
+        assertEquals(new TaskIdBitmap(), bitmap);
+    }
+
+    @Test
+    public void andOrAndNot_doNotChangeOperands() {
+        TaskIdBitmap odd = new TaskIdBitmap();
+        TaskIdBitmap small = new TaskIdBitmap();
+        for (long id = 1; id < 20; id += 2) {
+            odd.add(id);
+        }
+        for (long id = 1; id <= 5; id++) {
+            small.add(id);
+        }
+
+        assertEquals(3, odd.and(small).cardinality());
+        assertEquals(12, odd.or(small).cardinality());
+        assertEquals(7, odd.andNot(small).cardinality());
+        assertEquals(2, small.andNot(odd).cardinality());
+        assertEquals(10, odd.cardinality());
+        assertEquals(5, small.cardinality());
+    }
+
+    @Test
+    public void andOrAndNot_randomSets_matchHashSets() {
+        Random random = new Random(8);
+        for (int round = 0; round < 20; round++) {
+            // vary the density so that both array and bit chunks, and mixes of them, are combined
+            int bound = round % 2 == 0 ? 1 << 17 : 12000;
+            Set<Long> expectedA = new HashSet<>();
+            Set<Long> expectedB = new HashSet<>();
+            TaskIdBitmap a = randomBitmap(random, bound, expectedA);
+            TaskIdBitmap b = randomBitmap(random, bound, expectedB);
+
+            Set<Long> expectedAnd = new HashSet<>(expectedA);
+            expectedAnd.retainAll(expectedB);
+            Set<Long> expectedOr = new HashSet<>(expectedA);
+            expectedOr.addAll(expectedB);
+            Set<Long> expectedAndNot = new HashSet<>(expectedA);
+            expectedAndNot.removeAll(expectedB);
+
+            assertSameIds(expectedAnd, a.and(b), bound);
+            assertSameIds(expectedOr, a.or(b), bound);
+            assertSameIds(expectedAndNot, a.andNot(b), bound);
+            assertEquals(a.and(b), b.and(a));
+            assertEquals(a.or(b), b.or(a));
+        }
+    }
+
+    private static TaskIdBitmap randomBitmap(Random random, int bound, Set<Long> expected) {
+        TaskIdBitmap bitmap = new TaskIdBitmap();
+        int count = random.nextInt(10000);
+        for (int i = 0; i < count; i++) {
+            long id = random.nextInt(bound);
+            bitmap.add(id);
+            expected.add(id);
+        }
+        return bitmap;
+    }
+
+    private static void assertSameIds(Set<Long> expected, TaskIdBitmap actual, int bound) {
+        assertEquals(expected.size(), actual.cardinality());
+        for (long id = 0; id < bound; id++) {
+            assertEquals(expected.contains(id), actual.contains(id));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskKeywordIndexTest {
+
+    private static final Task CS2113T_LECTURE = task(1, "CS2113T Lecture");
+    private static final Task CS2101_LECTURE = task(2, "cs2101 lecture notes");
+    private static final Task MARATHON = task(3, "Marathon");
+
+    private final TaskKeywordIndex index = new TaskKeywordIndex();
+
+    @Test
+    public void withWord_ignoresCase() {
+        index.setTasks(Arrays.asList(CS2113T_LECTURE, CS2101_LECTURE, MARATHON));
+        TaskIdBitmap lecture = index.withWord("LECTURE");
+        assertEquals(2, lecture.cardinality());
+        assertTrue(lecture.contains(1));
+        assertTrue(lecture.contains(2));
+        assertTrue(index.withWord("cs2113t").contains(1));
+    }
+
+    @Test
+    public void withWord_partialWord_noMatch() {
+        index.setTasks(Arrays.asList(CS2113T_LECTURE, CS2101_LECTURE, MARATHON));
+        assertTrue(index.withWord("Lect").isEmpty());
+        assertTrue(index.withWord("cs").isEmpty());
+    }
+
+    @Test
+    public void remove_dropsTaskAndEmptyWords() {
+        index.setTasks(Arrays.asList(CS2113T_LECTURE, CS2101_LECTURE, MARATHON));
+        index.remove(CS2101_LECTURE);
+        assertFalse(index.withWord("lecture").contains(2));
+        assertTrue(index.withWord("notes").isEmpty());
+        assertEquals(3, index.wordCount());
+    }
+
+    @Test
+    public void withWord_agreesWithPredicate() {
+        index.setTasks(Arrays.asList(CS2113T_LECTURE, CS2101_LECTURE, MARATHON));
+        for (String keyword : Arrays.asList("lecture", "NOTES", "marathon", "cs2101", "run")) {
+            TaskContainsKeywordsPredicate predicate = new TaskContainsKeywordsPredicate(Arrays.asList(keyword));
+            for (Task task : Arrays.asList(CS2113T_LECTURE, CS2101_LECTURE, MARATHON)) {
+                assertEquals(predicate.test(task), index.withWord(keyword).contains(task.getId()));
+            }
+        }
+    }
+
+    @Test
+    public void withWordNear_typos_matchWithinDistance() {
+        index.setTasks(Arrays.asList(CS2113T_LECTURE, CS2101_LECTURE, MARATHON));
+        assertEquals(2, index.withWordNear("Lectrue", 2).cardinality());
+        assertTrue(index.withWordNear("lectrue", 1).isEmpty());
+        assertTrue(index.withWordNear("maraton", 1).contains(3));
+        assertTrue(index.withWordNear("nots", 1).contains(2));
+        assertTrue(index.withWordNear("xyz", 1).isEmpty());
+    }
+
+    @Test
+    public void withWordNear_afterRemove_wordNoLongerNear() {
+        index.setTasks(Arrays.asList(CS2113T_LECTURE, CS2101_LECTURE, MARATHON));
+        index.remove(MARATHON);
+        assertTrue(index.withWordNear("maraton", 1).isEmpty());
+    }
+
+    @Test
+    public void withWordNear_agreesWithScanningEveryWord() {
+        List<Task> tasks = Arrays.asList(CS2113T_LECTURE, CS2101_LECTURE, MARATHON, task(4, "Lecturer meeting"),
+                task(5, "Run a marathn"), task(6, "go"));
+        index.setTasks(tasks);
+        for (String keyword : Arrays.asList("lecture", "lectur", "marathon", "a", "og", "cs2102", "meting", "x")) {
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                for (Task task : tasks) {
+                    boolean isNear = false;
+                    for (String word : task.getName().fullName.toLowerCase().split("\\s+")) {
+                        isNear |= StringUtil.editDistanceWithin(keyword, word, maxDistance) <= maxDistance;
+                    }
+                    assertEquals(isNear, index.withWordNear(keyword, maxDistance).contains(task.getId()));
+                }
+            }
+        }
+    }
+
+    private static Task task(long id, String name) {
+        return new TaskBuilder().withName(name).build().withId(id);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskTextIndexTest {
+
+    private static final Task NOTES_IN_NAME = task(1, "Revise notes", "For the midterm", "exam");
+    private static final Task NOTES_IN_DESCRIPTION = task(2, "CS2113T lecture", "Bring notes", "school");
+    private static final Task NOTES_IN_TAG = task(3, "Library", "Return books", "notes");
+    private static final Task UNRELATED = task(4, "Marathon", "Run 42km", "sports");
+
+    private final TaskTextIndex index = new TaskTextIndex();
+
+    @Test
+    public void search_nameOutranksTagOutranksDescription() {
+        index.setTasks(Arrays.asList(NOTES_IN_DESCRIPTION, UNRELATED, NOTES_IN_TAG, NOTES_IN_NAME));
+        assertEquals(Arrays.asList(1L, 3L, 2L), index.search("NOTES", 10));
+    }
+
+    @Test
+    public void search_moreMatchingTermsRankHigher() {
+        index.setTasks(Arrays.asList(NOTES_IN_NAME, NOTES_IN_DESCRIPTION, NOTES_IN_TAG, UNRELATED));
+        assertEquals(2L, (long) index.search("lecture notes", 10).get(0));
+    }
+
+    @Test
+    public void search_limit_keepsBestMatches() {
+        index.setTasks(Arrays.asList(NOTES_IN_DESCRIPTION, NOTES_IN_TAG, NOTES_IN_NAME));
+        assertEquals(Arrays.asList(1L, 3L), index.search("notes", 2));
+        assertTrue(index.search("notes", 0).isEmpty());
+    }
+
+    @Test
+    public void search_noMatchingTerm_empty() {
+        index.setTasks(Arrays.asList(NOTES_IN_NAME, UNRELATED));
+        assertTrue(index.search("swimming", 10).isEmpty());
+        assertTrue(index.search("--", 10).isEmpty());
+    }
+
+    @Test
+    public void remove_taskNoLongerFoundAndTermsDropped() {
+        index.setTasks(Arrays.asList(NOTES_IN_NAME, UNRELATED));
+        int termCount = index.termCount();
+        index.remove(UNRELATED);
+        assertTrue(index.search("marathon", 10).isEmpty());
+        assertEquals(termCount - 4, index.termCount());
+        assertEquals(Arrays.asList(1L), index.search("marathon notes", 10));
+    }
+
+    @Test
+    public void search_sameScore_orderedById() {
+        List<Task> tasks = new ArrayList<>();
+        for (long id = 20; id >= 1; id--) {
+            tasks.add(task(id, "Task " + id, "same", "tag"));
+        }
+        index.setTasks(tasks);
+        assertEquals(Arrays.asList(1L, 2L, 3L), index.search("same", 3));
+    }
+
+    private static Task task(long id, String name, String description, String tag) {
+        return new TaskBuilder().withName(name).withDescription(description).withTags(tag).build().withId(id);
+    }
+}
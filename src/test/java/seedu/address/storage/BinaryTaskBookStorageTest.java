@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.testutil.TaskBuilder;
+
+public class BinaryTaskBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryTaskBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempTaskBook.bin");
+        storage = new BinaryTaskBookStorage(filePath);
+    }
+
+    @Test
+    public void readTaskBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readTaskBook_notBinaryTaskBook_throwDataConversionException() throws Exception {
+        Files.write(filePath, "{ \"tasks\" : [] }".getBytes());
+        thrown.expect(DataConversionException.class);
+        storage.readTaskBook();
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        storage.saveTaskBook(original);
+        assertIdentical(original, storage.readTaskBook().get());
+
+        original.addTask(HOME);
+        original.addTask(new TaskBuilder().withName("Rollover").withStartDate("31-02-19").withEndDate("31-02-19")
+                .withStartTime("23.00").withEndTime("23.59").build());
+        storage.saveTaskBook(original);
+        assertIdentical(original, storage.readTaskBook().get());
+    }
+
+    @Test
+    public void saveTaskBook_convertedFromJson_losslessAndSmaller() throws Exception {
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("TempTaskBook.json");
+        TaskBook original = getTypicalTaskBook();
+        new JsonTaskBookStorage(jsonFilePath).saveTaskBook(original);
+
+        storage.saveTaskBook(new JsonTaskBookStorage(jsonFilePath).readTaskBook().get());
+        JsonTaskBookStorage convertedBack = new JsonTaskBookStorage(
+                testFolder.getRoot().toPath().resolve("Converted.json"));
+        convertedBack.saveTaskBook(storage.readTaskBook().get());
+
+        assertIdentical(original, convertedBack.readTaskBook().get());
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "taskbook.bin"),
+                BinaryTaskBookStorage.getBinaryFilePath(Paths.get("data", "taskbook.json")));
+        assertEquals(Paths.get("data", "taskbook.bin"),
+                BinaryTaskBookStorage.getBinaryFilePath(Paths.get("data", "taskbook")));
+    }
+
+    /**
+     * Asserts that {@code actual} holds tasks identical to those of {@code expected}, in the same order.
+     */
+    private void assertIdentical(ReadOnlyTaskBook expected, ReadOnlyTaskBook actual) {
+        assertEquals(expected.getTaskList(), actual.getTaskList());
+        for (int i = 0; i < expected.getTaskList().size(); i++) {
+            assertTrue(expected.getTaskList().get(i).isIdenticalTo(actual.getTaskList().get(i)));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
+import seedu.address.testutil.TaskBuilder;
+
+public class CachedTaskBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private JsonTaskBookStorage jsonStorage;
+    private DerivedStateCache cache;
+    private CachedTaskBookStorage storage;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = testFolder.getRoot().toPath().resolve("TempTaskBook.json");
+        jsonStorage = new JsonTaskBookStorage(filePath);
+        cache = new DerivedStateCache(DerivedStateCache.getCachePath(filePath));
+        storage = new CachedTaskBookStorage(jsonStorage, cache);
+    }
+
+    @Test
+    public void saveTaskBook_cacheWrittenForSavedData() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        storage.saveTaskBook(original);
+
+        List<Day> days = cache.readDays(DerivedStateCache.hashOf(jsonStorage.getDataFilePaths())).get();
+        assertEquals(describe(original.getDayList()), describe(days));
+    }
+
+    @Test
+    public void readTaskBook_cacheMatches_cachedDaysUsed() throws Exception {
+        storage.saveTaskBook(getTaskBookWithDay());
+        // the minutes differ from those of the tasks, to tell the cached day from a computed one
+        List<Day> cachedDays = Collections.singletonList(new Day(new Date("01-01-19"), 60, 0, 0, 0, 0));
+        cache.saveDays(DerivedStateCache.hashOf(jsonStorage.getDataFilePaths()), cachedDays);
+
+        ReadOnlyTaskBook taskBook = storage.readTaskBook(filePath).get();
+        assertEquals(getTaskBookWithDay().getTaskList(), taskBook.getTaskList());
+        assertEquals(describe(cachedDays), describe(taskBook.getDayList()));
+    }
+
+    @Test
+    public void readTaskBook_cachedDaysOnOtherDates_daysComputed() throws Exception {
+        storage.saveTaskBook(getTaskBookWithDay());
+        List<Day> cachedDays = Collections.singletonList(new Day(new Date("02-01-19"), 60, 0, 0, 0, 0));
+        cache.saveDays(DerivedStateCache.hashOf(jsonStorage.getDataFilePaths()), cachedDays);
+
+        ReadOnlyTaskBook taskBook = storage.readTaskBook(filePath).get();
+        assertEquals(describe(getTaskBookWithDay().getDayList()), describe(taskBook.getDayList()));
+    }
+
+    @Test
+    public void readTaskBook_dataChangedSinceCached_daysComputed() throws Exception {
+        storage.saveTaskBook(getTypicalTaskBook());
+        TaskBook changed = getTypicalTaskBook();
+        changed.addTask(HOME);
+        jsonStorage.saveTaskBook(changed);
+
+        ReadOnlyTaskBook taskBook = storage.readTaskBook().get();
+        assertEquals(changed.getTaskList(), taskBook.getTaskList());
+        assertEquals(describe(changed.getDayList()), describe(taskBook.getDayList()));
+    }
+
+    @Test
+    public void saveTaskBook_changeJournaled_cacheWrittenOnClose() throws Exception {
+        JournaledTaskBookStorage journaledStorage = new JournaledTaskBookStorage(filePath);
+        storage = new CachedTaskBookStorage(journaledStorage, cache);
+        storage.saveTaskBook(getTypicalTaskBook());
+        String compactedFingerprint = journaledStorage.getDataFingerprint().get();
+        assertTrue(cache.readDays(compactedFingerprint).isPresent());
+
+        TaskBook changed = getTypicalTaskBook();
+        changed.addTask(HOME);
+        storage.saveTaskBook(changed);
+        String journaledFingerprint = journaledStorage.getDataFingerprint().get();
+        assertFalse(journaledFingerprint.equals(compactedFingerprint));
+        assertFalse(cache.readDays(journaledFingerprint).isPresent());
+
+        storage.close();
+        assertEquals(describe(changed.getDayList()), describe(cache.readDays(journaledFingerprint).get()));
+    }
+
+    @Test
+    public void readTaskBook_journaledDataUnchanged_cachedDaysUsed() throws Exception {
+        JournaledTaskBookStorage journaledStorage = new JournaledTaskBookStorage(filePath);
+        journaledStorage.saveTaskBook(getTaskBookWithDay());
+        TaskBook changed = getTaskBookWithDay();
+        changed.addTask(HOME);
+        journaledStorage.saveTaskBook(changed);
+        List<Day> cachedDays = Collections.singletonList(new Day(new Date("01-01-19"), 60, 0, 0, 0, 0));
+        cache.saveDays(journaledStorage.getDataFingerprint().get(), cachedDays);
+
+        storage = new CachedTaskBookStorage(new JournaledTaskBookStorage(filePath), cache);
+        ReadOnlyTaskBook taskBook = storage.readTaskBook().get();
+        assertEquals(changed.getTaskList(), taskBook.getTaskList());
+        assertEquals(describe(cachedDays), describe(taskBook.getDayList()));
+    }
+
+    @Test
+    public void readDays_corruptCache_emptyResult() throws Exception {
+        storage.saveTaskBook(getTypicalTaskBook());
+        Files.write(cache.getFilePath(), "{ \"days\": [ ".getBytes());
+        assertFalse(cache.readDays(DerivedStateCache.hashOf(jsonStorage.getDataFilePaths())).isPresent());
+    }
+
+    @Test
+    public void hashOf_missingAndEmptyFile_differ() throws Exception {
+        Path emptyFile = Files.createFile(testFolder.getRoot().toPath().resolve("empty.json"));
+        Path missingFile = testFolder.getRoot().toPath().resolve("missing.json");
+        assertFalse(DerivedStateCache.hashOf(Collections.singletonList(emptyFile))
+                .equals(DerivedStateCache.hashOf(Collections.singletonList(missingFile))));
+        assertTrue(DerivedStateCache.hashOf(Collections.singletonList(emptyFile))
+                .equals(DerivedStateCache.hashOf(Collections.singletonList(emptyFile))));
+    }
+
+    /**
+     * Returns the typical task book with a task on 01-01-19 alone, which gives it a day.
+     */
+    private static TaskBook getTaskBookWithDay() {
+        TaskBook taskBook = getTypicalTaskBook();
+        taskBook.addTask(new TaskBuilder().withName("One day").withStartDate("01-01-19").withEndDate("01-01-19")
+                .build());
+        return taskBook;
+    }
+
+    /**
+     * Returns the dates and minutes of {@code days}, in order of date, as days are only compared by their dates.
+     */
+    private static List<String> describe(List<Day> days) {
+        return days.stream().map(Day::toString).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.ENT;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class JournaledTaskBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalPath;
+    private TaskBook original;
+    private JournaledTaskBookStorage storage;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = testFolder.getRoot().toPath().resolve("TempTaskBook.json");
+        journalPath = JournaledTaskBookStorage.getJournalPath(filePath);
+        original = getTypicalTaskBook();
+        storage = new JournaledTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+    }
+
+    @Test
+    public void saveTaskBook_changedTasks_appendedToJournal() throws Exception {
+        byte[] snapshot = Files.readAllBytes(filePath);
+        long journalSize = Files.size(journalPath);
+
+        original.addTask(HOME);
+        original.removeTask(CS2110);
+        original.setTask(CS2100, new TaskBuilder(CS2100).withDescription("Revise").build());
+        storage.saveTaskBook(original);
+
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertTrue(Files.size(journalPath) > journalSize);
+        assertIdentical(original, new JournaledTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void readTaskBook_tornLastRecord_onlyLastSaveLost() throws Exception {
+        original.addTask(HOME);
+        storage.saveTaskBook(original);
+        TaskBook withHome = new TaskBook(original);
+        original.addTask(ENT);
+        storage.saveTaskBook(original);
+
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            journal.truncate(journal.size() - 3);
+        }
+        JournaledTaskBookStorage reopened = new JournaledTaskBookStorage(filePath);
+        assertIdentical(withHome, reopened.readTaskBook().get());
+
+        // later saves are appended after the last intact record
+        reopened.saveTaskBook(original);
+        assertIdentical(original, new JournaledTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void saveTaskBook_appendFailsAfterWriting_recordsOfFailedSaveNotReplayed() throws Exception {
+        JournaledTaskBookStorage failingStorage = new JournaledTaskBookStorage(filePath) {
+            private boolean isFailing = true;
+
+            @Override
+            void writeToJournal(FileChannel journal, ByteBuffer bytes) throws IOException {
+                super.writeToJournal(journal, bytes);
+                if (isFailing) {
+                    isFailing = false;
+                    throw new IOException("Disk full");
+                }
+            }
+        };
+        failingStorage.readTaskBook();
+
+        original.addTask(HOME);
+        try {
+            failingStorage.saveTaskBook(original);
+            throw new AssertionError("The expected IOException was not thrown.");
+        } catch (IOException e) {
+            // the records were written, but the save failed as a whole
+        }
+        original.addTask(ENT);
+        failingStorage.saveTaskBook(original);
+
+        assertIdentical(original, new JournaledTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void saveTaskBook_reorderedTasks_journalCompactedIntoSnapshot() throws Exception {
+        original.addTask(HOME);
+        storage.saveTaskBook(original);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        original.sortTaskByDate(Comparator.comparing((Task task) -> task.getName().fullName).reversed());
+        storage.saveTaskBook(original);
+        assertFalse(Arrays.equals(journal, Files.readAllBytes(journalPath)));
+
+        // a journal written for an older snapshot is not replayed on the new one
+        Files.write(journalPath, journal);
+        assertIdentical(original, new JournaledTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void readTaskBook_snapshotWithoutJournal_journalStarted() throws Exception {
+        Files.delete(journalPath);
+        JournaledTaskBookStorage reopened = new JournaledTaskBookStorage(filePath);
+        assertIdentical(original, reopened.readTaskBook().get());
+        assertTrue(Files.exists(journalPath));
+
+        original.addTask(HOME);
+        reopened.saveTaskBook(original);
+        assertIdentical(original, new JournaledTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    /**
+     * Asserts that {@code actual} holds tasks identical to those of {@code expected}, in the same order.
+     */
+    private void assertIdentical(ReadOnlyTaskBook expected, ReadOnlyTaskBook actual) {
+        assertEquals(expected.getTaskList(), actual.getTaskList());
+        for (int i = 0; i < expected.getTaskList().size(); i++) {
+            assertTrue(expected.getTaskList().get(i).isIdenticalTo(actual.getTaskList().get(i)));
+        }
+    }
+}
@@ -1,7 +1,18 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -9,6 +20,9 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
 
 public class JsonSerializableAddressBookTest {
 
@@ -38,4 +52,59 @@ public class JsonSerializableAddressBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_manyTasks_convertedInParallelInOrder() throws Exception {
+        List<Task> tasks = manyTasks();
+        TaskBook source = new TaskBook();
+        source.setTasks(tasks);
+        TaskBook taskBook = new JsonSerializableTaskBook(source).toModelType();
+        assertEquals(tasks, taskBook.getTaskList());
+        assertEquals(1, taskBook.getDayList().size());
+    }
+
+    @Test
+    public void toModelType_manyTasksWithDuplicate_throwsIllegalValueException() throws Exception {
+        List<Task> tasks = manyTasks();
+        tasks.add(tasks.get(0));
+        List<JsonAdaptedTask> jsonAdaptedTasks = new ArrayList<>();
+        tasks.forEach(task -> jsonAdaptedTasks.add(new JsonAdaptedTask(task)));
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK);
+        JsonSerializableTaskBook.toTaskBook(JsonSerializableTaskBook.toModelTasks(jsonAdaptedTasks));
+    }
+
+    private static List<Task> manyTasks() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            tasks.add(new TaskBuilder().withName("Task " + i).withStartDate("01-01-19").withStartTime("10.00")
+                    .withEndDate("01-01-19").withEndTime("11.00").build());
+        }
+        return tasks;
+    }
+
+    @Test
+    public void readTasks_invalidTaskFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_TASK_FILE)) {
+            thrown.expect(IllegalValueException.class);
+            JsonSerializableTaskBook.readTasks(in);
+        }
+    }
+
+    @Test
+    public void writeAndReadTasks_prettyPrintedOrNot_sameTasks() throws Exception {
+        TaskBook taskBook = getTypicalTaskBook();
+
+        ByteArrayOutputStream compact = new ByteArrayOutputStream();
+        JsonSerializableTaskBook.write(taskBook, compact, false);
+        assertFalse(compact.toString("UTF-8").contains("\n"));
+        assertEquals(taskBook.getTaskList(),
+                JsonSerializableTaskBook.readTasks(new ByteArrayInputStream(compact.toByteArray())));
+
+        ByteArrayOutputStream pretty = new ByteArrayOutputStream();
+        JsonSerializableTaskBook.write(taskBook, pretty, true);
+        assertTrue(pretty.toString("UTF-8").contains("\n"));
+        assertEquals(taskBook.getTaskList(),
+                JsonSerializableTaskBook.readTasks(new ByteArrayInputStream(pretty.toByteArray())));
+    }
+
 }
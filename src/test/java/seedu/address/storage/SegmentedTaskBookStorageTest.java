@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class SegmentedTaskBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private TaskBook original;
+    private SegmentedTaskBookStorage storage;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = testFolder.getRoot().toPath().resolve("TempTaskBook").resolve("manifest.json");
+        original = getTypicalTaskBook();
+        storage = new SegmentedTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+    }
+
+    @Test
+    public void readTaskBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new SegmentedTaskBookStorage(testFolder.getRoot().toPath().resolve("manifest.json"))
+                .readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readTaskBook_missingSegment_throwDataConversionException() throws Exception {
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            Files.delete(files.filter(file -> file.getFileName().toString().startsWith("03-03")).findFirst().get());
+        }
+        thrown.expect(DataConversionException.class);
+        new SegmentedTaskBookStorage(filePath).readTaskBook();
+    }
+
+    @Test
+    public void readSave_tasksInterleavedAcrossMonths_orderKept() throws Exception {
+        assertIdentical(original, new SegmentedTaskBookStorage(filePath).readTaskBook().get());
+
+        original.addTask(HOME);
+        original.addTask(new TaskBuilder().withName("Rollover").withStartDate("31-01-11").withEndDate("31-02-11")
+                .build());
+        storage.saveTaskBook(original);
+        assertIdentical(original, new SegmentedTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void saveTaskBook_oneMonthChanged_onlyItsSegmentWritten() throws Exception {
+        Set<String> files = listSegmentFiles();
+        byte[] segment = Files.readAllBytes(filePath.resolveSibling("01-11.0.json"));
+
+        original.setTask(CS2100, new TaskBuilder(CS2100).withDescription("Revise").build());
+        storage.saveTaskBook(original);
+
+        files.remove("03-03.0.json");
+        files.add("03-03.1.json");
+        assertEquals(files, listSegmentFiles());
+        assertTrue(Arrays.equals(segment, Files.readAllBytes(filePath.resolveSibling("01-11.0.json"))));
+        assertIdentical(original, new SegmentedTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void saveTaskBook_taskInsertedAmongOtherMonths_onlyItsSegmentWritten() throws Exception {
+        Set<String> files = listSegmentFiles();
+        List<Task> tasks = new ArrayList<>(original.getTaskList());
+        tasks.add(2, new TaskBuilder().withName("Inserted").withStartDate("05-05-19").withEndDate("05-05-19").build());
+        TaskBook changed = new TaskBook();
+        changed.setTasks(tasks);
+        storage.saveTaskBook(changed);
+
+        files.add("05-19.1.json");
+        assertEquals(files, listSegmentFiles());
+        assertIdentical(changed, new SegmentedTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void readSave_tasksReordered_orderKept() throws Exception {
+        List<Task> tasks = new ArrayList<>(original.getTaskList());
+        Collections.reverse(tasks);
+        Collections.swap(tasks, 0, 2);
+        TaskBook reordered = new TaskBook();
+        reordered.setTasks(tasks);
+        storage.saveTaskBook(reordered);
+        assertIdentical(reordered, new SegmentedTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void saveTaskBook_monthEmptied_segmentDeleted() throws Exception {
+        original.removeTask(CS2100);
+        storage.saveTaskBook(original);
+        assertFalse(listSegmentFiles().stream().anyMatch(file -> file.startsWith("03-03")));
+
+        original.removeTask(CS2110);
+        storage.saveTaskBook(original);
+        assertIdentical(original, new SegmentedTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void saveTaskBook_unchanged_nothingWritten() throws Exception {
+        byte[] manifest = Files.readAllBytes(filePath);
+        Set<String> files = listSegmentFiles();
+        storage.saveTaskBook(new TaskBook(original));
+        assertTrue(Arrays.equals(manifest, Files.readAllBytes(filePath)));
+        assertEquals(files, listSegmentFiles());
+    }
+
+    @Test
+    public void getDataFingerprint_storeDeletedAndSavedAgain_fingerprintChanged() throws Exception {
+        String fingerprint = storage.getDataFingerprint().get();
+        for (String file : listSegmentFiles()) {
+            Files.delete(filePath.resolveSibling(file));
+        }
+        Files.delete(filePath);
+
+        // the generation of the new manifest starts at 0 again
+        TaskBook other = new TaskBook();
+        other.addTask(HOME);
+        SegmentedTaskBookStorage recreated = new SegmentedTaskBookStorage(filePath);
+        recreated.saveTaskBook(other);
+        assertNotEquals(fingerprint, recreated.getDataFingerprint().get());
+    }
+
+    @Test
+    public void getManifestPath() {
+        assertEquals(Paths.get("data", "taskbook", "manifest.json"),
+                SegmentedTaskBookStorage.getManifestPath(Paths.get("data", "taskbook.json")));
+    }
+
+    private Set<String> listSegmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(file -> !file.equals(SegmentedTaskBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Asserts that {@code actual} holds tasks identical to those of {@code expected}, in the same order.
+     */
+    private void assertIdentical(ReadOnlyTaskBook expected, ReadOnlyTaskBook actual) {
+        assertEquals(expected.getTaskList(), actual.getTaskList());
+        for (int i = 0; i < expected.getTaskList().size(); i++) {
+            assertTrue(expected.getTaskList().get(i).isIdenticalTo(actual.getTaskList().get(i)));
+        }
+    }
+}
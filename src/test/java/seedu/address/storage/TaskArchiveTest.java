@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.SAMESTARTDATEWITHCS2110;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.task.Task;
+
+public class TaskArchiveTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private List<Task> tasks;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("taskbook.json.archive");
+        tasks = getTypicalTaskBook().getTaskList();
+    }
+
+    @Test
+    public void open_missingFile_emptyArchive() throws Exception {
+        TaskArchive archive = TaskArchive.open(filePath);
+        assertEquals(0, archive.size());
+        assertEquals(Task.UNASSIGNED_ID, archive.getMaxId());
+        assertTrue(archive.getTasks().isEmpty());
+    }
+
+    @Test
+    public void open_notArchiveFile_throwsIOException() throws Exception {
+        Files.write(filePath, "{ \"tasks\" : [ ] }".getBytes());
+        thrown.expect(IOException.class);
+        TaskArchive.open(filePath);
+    }
+
+    @Test
+    public void withTasks_typicalTasks_readBackOrderedByStartDate() throws Exception {
+        TaskArchive archive = TaskArchive.open(filePath).withTasks(tasks);
+        assertEquals(tasks.size(), archive.size());
+        assertEquals(tasks.stream().mapToLong(Task::getId).max().getAsLong(), archive.getMaxId());
+
+        archive = TaskArchive.open(filePath);
+        List<Task> archived = archive.getTasks();
+        assertEquals(tasks.size(), archived.size());
+        for (Task task : tasks) {
+            assertTrue(archived.stream().anyMatch(task::isIdenticalTo));
+        }
+        for (int i = 1; i < archived.size(); i++) {
+            assertTrue(archived.get(i - 1).getStartDate().getEpochDay()
+                    <= archived.get(i).getStartDate().getEpochDay());
+        }
+    }
+
+    @Test
+    public void withTasks_alreadyArchived_notArchivedAgain() throws Exception {
+        TaskArchive archive = TaskArchive.open(filePath).withTasks(tasks).withTasks(tasks.subList(0, 2));
+        assertEquals(tasks.size(), archive.size());
+    }
+
+    @Test
+    public void withTasks_archiveStillOpen_oldArchiveUnchanged() throws Exception {
+        TaskArchive archive = TaskArchive.open(filePath).withTasks(tasks.subList(0, 2));
+        long length = Files.size(filePath);
+        TaskArchive extended = archive.withTasks(tasks.subList(2, tasks.size()));
+
+        // the new tasks are appended, leaving the bytes mapped by the old archive as they were
+        assertTrue(Files.size(filePath) > length);
+        assertEquals(tasks.subList(0, 2), archive.getTasks());
+        assertEquals(tasks.size(), extended.size());
+        assertEquals(extended.getTasks(), TaskArchive.open(filePath).getTasks());
+        assertEquals(Arrays.asList(CS2110, SAMESTARTDATEWITHCS2110), extended.getTasksStartingBetween(
+                DateUtil.toEpochDay("01-01-11"), DateUtil.toEpochDay("31-12-11")));
+    }
+
+    @Test
+    public void open_tornLastSegment_segmentIgnoredAndWrittenOver() throws Exception {
+        TaskArchive.open(filePath).withTasks(tasks.subList(0, 2)).withTasks(tasks.subList(2, tasks.size()));
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        TaskArchive archive = TaskArchive.open(filePath);
+        assertEquals(tasks.subList(0, 2), archive.getTasks());
+        archive.withTasks(tasks.subList(2, tasks.size()));
+        assertEquals(tasks.size(), TaskArchive.open(filePath).size());
+    }
+
+    @Test
+    public void getTasksStartingBetween_someTasksInRange_onlyThoseTasksRead() throws Exception {
+        TaskArchive archive = TaskArchive.open(filePath).withTasks(tasks);
+
+        List<Task> archived = archive.getTasksStartingBetween(DateUtil.toEpochDay("01-01-11"),
+                DateUtil.toEpochDay("31-12-11"));
+        assertEquals(Arrays.asList(CS2110, SAMESTARTDATEWITHCS2110), archived);
+
+        archived = archive.getTasksStartingBetween(DateUtil.toEpochDay("03-03-03"), DateUtil.toEpochDay("03-03-03"));
+        assertEquals(Arrays.asList(CS2100), archived);
+
+        assertTrue(archive.getTasksStartingBetween(DateUtil.toEpochDay("02-01-11"), DateUtil.toEpochDay("31-12-11"))
+                .isEmpty());
+    }
+
+    @Test
+    public void getArchivePath() {
+        assertEquals(filePath, TaskArchive.getArchivePath(filePath.resolveSibling("taskbook.json")));
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.TaskBook;
+
+public class TaskBookFormatConverterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path jsonFilePath;
+    private Path binaryFilePath;
+
+    @Before
+    public void setUp() {
+        jsonFilePath = testFolder.getRoot().toPath().resolve("taskbook.json");
+        binaryFilePath = BinaryTaskBookStorage.getBinaryFilePath(jsonFilePath);
+    }
+
+    @Test
+    public void convertIfNewer_switchedBackAndForth_changesInEachFormatKept() throws Exception {
+        TaskBook taskBook = getTypicalTaskBook();
+        save(new JournaledTaskBookStorage(jsonFilePath), taskBook, 1000);
+
+        // json to binary: the binary file is missing
+        convertAndDate(new BinaryTaskBookStorage(binaryFilePath), new JournaledTaskBookStorage(jsonFilePath),
+                taskBook, 2000);
+        taskBook.addTask(HOME);
+        save(new BinaryTaskBookStorage(binaryFilePath), taskBook, 3000);
+
+        // back to json: the binary file is newer
+        JournaledTaskBookStorage jsonStorage = new JournaledTaskBookStorage(jsonFilePath);
+        TaskBookFormatConverter.convertIfNewer(jsonStorage, Collections.singletonList(
+                new BinaryTaskBookStorage(binaryFilePath)));
+        assertEquals(taskBook.getTaskList(), jsonStorage.readTaskBook().get().getTaskList());
+        taskBook.removeTask(HOME);
+        taskBook.removeTask(taskBook.getTaskList().get(0));
+        save(jsonStorage, taskBook, 4000);
+
+        // and to binary again: the json file is newer
+        BinaryTaskBookStorage binaryStorage = new BinaryTaskBookStorage(binaryFilePath);
+        TaskBookFormatConverter.convertIfNewer(binaryStorage, Collections.singletonList(
+                new JournaledTaskBookStorage(jsonFilePath)));
+        assertEquals(taskBook.getTaskList(), binaryStorage.readTaskBook().get().getTaskList());
+    }
+
+    @Test
+    public void convertIfNewer_chosenFormatNewer_notConverted() throws Exception {
+        TaskBook older = getTypicalTaskBook();
+        save(new JournaledTaskBookStorage(jsonFilePath), older, 1000);
+        TaskBook newer = getTypicalTaskBook();
+        newer.addTask(HOME);
+        save(new BinaryTaskBookStorage(binaryFilePath), newer, 2000);
+
+        BinaryTaskBookStorage binaryStorage = new BinaryTaskBookStorage(binaryFilePath);
+        TaskBookFormatConverter.convertIfNewer(binaryStorage, Collections.singletonList(
+                new JournaledTaskBookStorage(jsonFilePath)));
+        assertEquals(newer.getTaskList(), binaryStorage.readTaskBook().get().getTaskList());
+    }
+
+    @Test
+    public void convertIfNewer_noTaskBookInAnyFormat_nothingWritten() {
+        BinaryTaskBookStorage binaryStorage = new BinaryTaskBookStorage(binaryFilePath);
+        TaskBookFormatConverter.convertIfNewer(binaryStorage, Collections.singletonList(
+                new JournaledTaskBookStorage(jsonFilePath)));
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    /**
+     * Converts {@code from} into {@code to}, which must then hold {@code expected}, and dates the files of {@code to}
+     * at {@code epochSecond}.
+     */
+    private static void convertAndDate(TaskBookStorage to, TaskBookStorage from, TaskBook expected,
+                                       long epochSecond) throws Exception {
+        TaskBookFormatConverter.convertIfNewer(to, Collections.singletonList(from));
+        assertEquals(expected.getTaskList(), to.readTaskBook().get().getTaskList());
+        setLastModifiedTime(to, epochSecond);
+    }
+
+    /**
+     * Saves {@code taskBook} to {@code storage} and dates its files at {@code epochSecond}, as file times are too
+     * coarse to tell apart saves made in quick succession.
+     */
+    private static void save(TaskBookStorage storage, TaskBook taskBook, long epochSecond) throws Exception {
+        storage.saveTaskBook(taskBook);
+        setLastModifiedTime(storage, epochSecond);
+    }
+
+    private static void setLastModifiedTime(TaskBookStorage storage, long epochSecond) throws Exception {
+        for (Path dataFilePath : storage.getDataFilePaths()) {
+            Files.setLastModifiedTime(dataFilePath, FileTime.fromMillis(epochSecond * 1000));
+        }
+    }
+}
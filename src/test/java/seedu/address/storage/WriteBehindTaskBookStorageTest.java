@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.ENT;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Task;
+
+public class WriteBehindTaskBookStorageTest {
+
+    private final TaskBookStorageStub stub = new TaskBookStorageStub();
+    private WriteBehindTaskBookStorage storage;
+
+    @After
+    public void tearDown() {
+        if (storage != null) {
+            storage.close();
+        }
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void saveTaskBook_burstOfSaves_latestWrittenOnce() {
+        storage = new WriteBehindTaskBookStorage(stub, 60_000);
+        TaskBook taskBook = getTypicalTaskBook();
+        storage.saveTaskBook(taskBook);
+        taskBook.addTask(HOME);
+        storage.saveTaskBook(taskBook);
+        List<Task> expected = new ArrayList<>(taskBook.getTaskList());
+        assertEquals(0, stub.saved.size());
+
+        // the snapshot does not follow later changes to the task book
+        taskBook.addTask(ENT);
+        storage.flush();
+        assertEquals(1, stub.saved.size());
+        assertEquals(expected, stub.saved.get(0));
+    }
+
+    @Test
+    public void saveTaskBook_debounceDelayPassed_writtenInBackground() throws Exception {
+        storage = new WriteBehindTaskBookStorage(stub, 0);
+        storage.saveTaskBook(getTypicalTaskBook());
+        assertTrue(stub.firstSave.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void saveTaskBook_writeFails_dataSavingExceptionEventRaised() throws Exception {
+        CountDownLatch raised = new CountDownLatch(1);
+        EventsCenter.getInstance().registerHandler(new Object() {
+            @Subscribe
+            public void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
+                raised.countDown();
+            }
+        });
+        stub.isFailing = true;
+        storage = new WriteBehindTaskBookStorage(stub, 0);
+        storage.saveTaskBook(new TaskBook());
+        assertTrue(raised.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void readTaskBook_saveWaiting_writtenBeforeReading() throws Exception {
+        storage = new WriteBehindTaskBookStorage(stub, 60_000);
+        storage.saveTaskBook(getTypicalTaskBook());
+        storage.readTaskBook();
+        assertEquals(1, stub.saved.size());
+    }
+
+    /**
+     * A {@code TaskBookStorage} that records the task lists saved to its data file.
+     */
+    private static class TaskBookStorageStub implements TaskBookStorage {
+        private final List<List<Task>> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch firstSave = new CountDownLatch(1);
+        private volatile boolean isFailing;
+
+        @Override
+        public Path getTaskBookFilePath() {
+            return Paths.get("taskbook.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyTaskBook> readTaskBook() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+            if (isFailing) {
+                throw new IOException("Disk full");
+            }
+            saved.add(new ArrayList<>(taskBook.getTaskList()));
+            firstSave.countDown();
+        }
+
+        @Override
+        public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void backupTaskBook(ReadOnlyTaskBook taskBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -97,7 +97,7 @@ public class EditTaskDescriptorBuilder {
      * Sets the {@code Categories} of the {@code EditTaskDescriptor} that we are building.
      */
     public EditTaskDescriptorBuilder withCategories(String categories) {
-        descriptor.setCategories(new Categories(categories));
+        descriptor.setCategories(Categories.of(categories));
         return this;
     }
 
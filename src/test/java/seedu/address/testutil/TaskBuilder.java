@@ -44,7 +44,7 @@ public class TaskBuilder {
         endTime = new EndTime(DEFAULT_ENDTIME);
         description = new Description(DEFAULT_DESCRIPTION);
         tags = new HashSet<>();
-        category = new Categories(DEFAULT_CATEGORY);
+        category = Categories.of(DEFAULT_CATEGORY);
     }
 
     public TaskBuilder(String name, String sd, String st, String ed, String et, String d, String c) {
@@ -55,7 +55,7 @@ public class TaskBuilder {
         this.endTime = new EndTime(et);
         this.description = new Description(d);
         this.tags = new HashSet<>();
-        this.category = new Categories(c);
+        this.category = Categories.of(c);
     }
 
     /**
@@ -92,7 +92,7 @@ public class TaskBuilder {
      * Sets the {@code category} of the {@code Task} that we are building.
      */
     public TaskBuilder withCategory(String category) {
-        this.category = new Categories(category);
+        this.category = Categories.of(category);
         return this;
     }
 
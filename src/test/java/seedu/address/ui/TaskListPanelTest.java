@@ -88,7 +88,7 @@ public class TaskListPanelTest extends GuiUnitTest {
             EndDate endDate = new EndDate("12-11-11");
             EndTime endTime = new EndTime("12.00");
             Description description = new Description("AAAA");
-            Categories categories = new Categories("a");
+            Categories categories = Categories.of("a");
             Task task = new Task(name, startDate, startTime, endDate, endTime, description, categories,
                     Collections.emptySet());
             backingList.add(task);